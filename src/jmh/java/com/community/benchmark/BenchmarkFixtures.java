@@ -0,0 +1,30 @@
+package com.community.benchmark;
+
+import com.community.domain.auth.service.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 벤치마크에서 공통으로 쓰는 객체를 스프링 컨텍스트 없이 만든다.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-key-1234567890";
+
+    private BenchmarkFixtures() {
+    }
+
+    // 스프링 부트가 등록하는 ObjectMapper 와 같은 설정 (JavaTimeModule, 날짜를 문자열로 직렬화)
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static JwtTokenProvider jwtTokenProvider(ObjectMapper objectMapper) {
+        JwtTokenProvider provider = new JwtTokenProvider(objectMapper);
+        ReflectionTestUtils.setField(provider, "ACCESS_TOKEN_EXPIRATION_TIME", 3_600L);
+        ReflectionTestUtils.setField(provider, "REFRESH_TOKEN_EXPIRATION_TIME", 1_209_600L);
+        ReflectionTestUtils.setField(provider, "JWT_SECRET", JWT_SECRET);
+        return provider;
+    }
+}
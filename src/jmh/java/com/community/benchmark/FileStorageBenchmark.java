@@ -0,0 +1,63 @@
+package com.community.benchmark;
+
+import com.community.domain.file.service.LocalFileStorageService;
+import com.community.domain.file.service.dto.StoredFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일을 메모리 저장소에 저장 / 조회하는 비용을 파일 크기별로 측정한다.
+ * save 는 저장소가 계속 커지지 않도록 저장한 항목을 내부 맵에서 바로 제거한다. (delete 는 호출마다 로그를 남기므로 사용하지 않는다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileStorageBenchmark {
+
+    private static final String HOST = "http://localhost:8080";
+    private static final String FILE_ENDPOINT_PREFIX = "/files/";
+
+    @Param({"1024", "1048576"})
+    private int fileSize;
+
+    private LocalFileStorageService fileStorageService;
+    private Map<String, StoredFile> store;
+    private MockMultipartFile file;
+    private String storedFileId;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        fileStorageService = new LocalFileStorageService();
+        ReflectionTestUtils.setField(fileStorageService, "HOST", HOST);
+        store = (Map<String, StoredFile>) ReflectionTestUtils.getField(fileStorageService, "store");
+
+        file = new MockMultipartFile("file", "image.png", "image/png", new byte[fileSize]);
+        String filePath = fileStorageService.save(file);
+        storedFileId = filePath.substring(filePath.lastIndexOf(FILE_ENDPOINT_PREFIX) + FILE_ENDPOINT_PREFIX.length());
+    }
+
+    @Benchmark
+    public String save() {
+        String filePath = fileStorageService.save(file);
+        store.remove(filePath.substring(HOST.length() + FILE_ENDPOINT_PREFIX.length()));
+        return filePath;
+    }
+
+    @Benchmark
+    public StoredFile load() {
+        return fileStorageService.load(storedFileId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.community.benchmark;
+
+import com.community.domain.auth.TokenType;
+import com.community.domain.auth.service.JwtTokenProvider;
+import com.community.global.security.CustomAuthenticationExceptionResolver;
+import com.community.global.security.JwtFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청 / permitAll 요청 / 잘못된 토큰 요청이 JwtFilter 를 통과하는 비용을 측정한다.
+ * OncePerRequestFilter 는 처리 후 요청 속성을 지우므로 같은 요청 객체를 반복해서 사용한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest permitAllRequest;
+    private MockHttpServletRequest invalidTokenRequest;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtTokenProvider tokenProvider = BenchmarkFixtures.jwtTokenProvider(BenchmarkFixtures.objectMapper());
+        jwtFilter = new JwtFilter(tokenProvider, new CustomAuthenticationExceptionResolver());
+
+        String accessToken = tokenProvider.createToken(Map.of("sub", 1L), TokenType.ACCESS).token();
+        authenticatedRequest = new MockHttpServletRequest("GET", "/posts");
+        authenticatedRequest.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+
+        permitAllRequest = new MockHttpServletRequest("POST", "/auth/login");
+
+        invalidTokenRequest = new MockHttpServletRequest("GET", "/posts");
+        invalidTokenRequest.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken + "tampered");
+
+        response = new MockHttpServletResponse();
+        filterChain = (request, response) -> { };
+    }
+
+    @Benchmark
+    public Object authenticated() throws Exception {
+        jwtFilter.doFilter(authenticatedRequest, response, filterChain);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public void permitAll() throws Exception {
+        jwtFilter.doFilter(permitAllRequest, response, filterChain);
+    }
+
+    @Benchmark
+    public void invalidToken(Blackhole blackhole) throws Exception {
+        try {
+            jwtFilter.doFilter(invalidTokenRequest, response, filterChain);
+        } catch (AuthenticationException e) {
+            blackhole.consume(e);
+        }
+    }
+}
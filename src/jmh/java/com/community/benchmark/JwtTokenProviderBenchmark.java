@@ -0,0 +1,47 @@
+package com.community.benchmark;
+
+import com.community.domain.auth.TokenType;
+import com.community.domain.auth.dto.TokenPayload;
+import com.community.domain.auth.dto.TokenResult;
+import com.community.domain.auth.service.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 / 모든 인증 요청에서 호출되는 토큰 발급과 검증 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private Map<String, Object> claims;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenProvider = BenchmarkFixtures.jwtTokenProvider(BenchmarkFixtures.objectMapper());
+        claims = Map.of("sub", 1L);
+        accessToken = tokenProvider.createToken(claims, TokenType.ACCESS).token();
+    }
+
+    @Benchmark
+    public TokenResult createToken() {
+        return tokenProvider.createToken(claims, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public TokenPayload parseToken() {
+        return tokenProvider.parseToken(accessToken, TokenType.ACCESS);
+    }
+}
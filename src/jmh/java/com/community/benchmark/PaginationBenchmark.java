@@ -0,0 +1,99 @@
+package com.community.benchmark;
+
+import com.community.domain.board.model.Post;
+import com.community.domain.common.page.PageResult;
+import com.community.domain.common.page.PaginationRequest;
+import com.community.domain.common.util.PageUtil;
+import com.community.domain.common.util.SortedIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 목록을 정렬 후 잘라내는 PageUtil.paginate 와 PaginationRequest 정규화 비용을 측정한다.
+ * 같은 목록을 미리 정렬해 둔 SortedIndex(메모리 저장소)에서 페이지를 읽는 비용과 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaginationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int sourceSize;
+
+    private List<Post> posts;
+    private SortedIndex<Post> createdAtIndex;
+    private PaginationRequest firstPage;
+    private PaginationRequest lastPage;
+
+    // 상수 폴딩을 막기 위해 정규화 입력은 필드에서 읽는다.
+    private Integer rawPage = -1;
+    private Integer rawSize = 20;
+    private String rawSortBy = "  createdAt  ";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        posts = new ArrayList<>(sourceSize);
+        for (int i = 0; i < sourceSize; i++) {
+            Post post = new Post(null, "title" + i, null, "body" + i);
+            ReflectionTestUtils.setField(post, "createdAt", base.plusSeconds(i));
+            posts.add(post);
+        }
+        Collections.shuffle(posts, random);
+
+        createdAtIndex = new SortedIndex<>(Post::getCreatedAt);
+        for (int i = 0; i < posts.size(); i++) {
+            createdAtIndex.put((long) i, posts.get(i));
+        }
+
+        firstPage = new PaginationRequest(0, 10, "createdAt", PaginationRequest.SortDirection.DESC);
+        lastPage = new PaginationRequest((sourceSize - 1) / 10, 10, "createdAt", PaginationRequest.SortDirection.ASC);
+    }
+
+    @Benchmark
+    public PageResult<Post> paginateFirstPage() {
+        return PageUtil.paginate(posts, firstPage);
+    }
+
+    @Benchmark
+    public PageResult<Post> paginateLastPage() {
+        return PageUtil.paginate(posts, lastPage);
+    }
+
+    @Benchmark
+    public List<Long> sortedIndexFirstPage() {
+        return createdAtIndex.page(firstPage.direction(), firstPage.page() * firstPage.size(), firstPage.size());
+    }
+
+    @Benchmark
+    public List<Long> sortedIndexLastPage() {
+        return createdAtIndex.page(lastPage.direction(), lastPage.page() * lastPage.size(), lastPage.size());
+    }
+
+    @Benchmark
+    public PaginationRequest normalizeRequest() {
+        return new PaginationRequest(rawPage, rawSize, rawSortBy, null);
+    }
+
+    @Benchmark
+    public PaginationRequest normalizeDefaults() {
+        return new PaginationRequest(null, null, null, null);
+    }
+}
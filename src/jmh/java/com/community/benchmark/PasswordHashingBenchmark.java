@@ -0,0 +1,80 @@
+package com.community.benchmark;
+
+import com.community.domain.auth.service.PasswordHashingService;
+import com.community.global.exception.CustomException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시 비밀번호 검증 처리량을 bcrypt cost / 풀 크기별로 측정한다.
+ * loginThroughPool 은 요청 스레드가 풀보다 많은 상황으로, 거절된 요청도 한 번의 처리로 집계된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordHashingBenchmark {
+
+    private static final String RAW_PASSWORD = "Password1!";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    @Param({"2", "4"})
+    private int hashingThreads;
+
+    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("deprecation")
+    public void setUp() {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of(
+                "bcrypt", new BCryptPasswordEncoder(strength),
+                "noop", NoOpPasswordEncoder.getInstance()
+        ));
+        encoder.setDefaultPasswordEncoderForMatches(NoOpPasswordEncoder.getInstance());
+
+        passwordEncoder = encoder;
+        passwordHashingService = new PasswordHashingService(encoder, hashingThreads, 16, 2_000);
+        encodedPassword = encoder.encode(RAW_PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean directMatches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void loginThroughPool(Blackhole blackhole) {
+        try {
+            blackhole.consume(passwordHashingService.matches(RAW_PASSWORD, encodedPassword));
+        } catch (CustomException e) {
+            blackhole.consume(e.getErrorCode());
+        }
+    }
+}
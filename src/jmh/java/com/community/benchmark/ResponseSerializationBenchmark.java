@@ -0,0 +1,61 @@
+package com.community.benchmark;
+
+import com.community.domain.board.dto.response.AuthorResponse;
+import com.community.domain.board.dto.response.PostContent;
+import com.community.domain.board.dto.response.PostSingleResponse;
+import com.community.domain.common.page.PageResponse;
+import com.community.global.response.ApiResponse;
+import com.community.global.response.SuccessMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답 ApiResponse<PageResponse<PostSingleResponse>> 를 JSON 으로 직렬화하는 비용을 페이지 크기별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PageResponse<PostSingleResponse>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<PostSingleResponse> items = new ArrayList<>(pageSize);
+        for (long i = 1; i <= pageSize; i++) {
+            PostContent content = new PostContent(i, "제목 " + i, "http://localhost:8080/files/" + i,
+                    "본문 ".repeat(50), i * 10, null, i, i * 2, createdAt.plusMinutes(i));
+            AuthorResponse author = new AuthorResponse(i, "nickname" + i, "http://localhost:8080/files/profile" + i);
+            items.add(new PostSingleResponse(content, author));
+        }
+
+        response = ApiResponse.success(SuccessMessage.POST_LIST_FETCHED,
+                new PageResponse<>(items, 1_000L, 1_000 / pageSize, 0, pageSize));
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -23,4 +23,8 @@ public class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
     public void delete(String token) {
         store.remove(token);
     }
+
+    public void deleteAllByUserId(Long userId) {
+        store.values().removeIf(refreshToken -> refreshToken.getUserId().equals(userId));
+    }
 }
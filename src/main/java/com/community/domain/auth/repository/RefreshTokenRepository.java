@@ -11,4 +11,6 @@ public interface RefreshTokenRepository {
     Optional<RefreshToken> find(String token);
 
     void delete(String token);
+
+    void deleteAllByUserId(Long userId);
 }
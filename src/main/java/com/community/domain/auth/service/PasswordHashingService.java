@@ -0,0 +1,126 @@
+package com.community.domain.auth.service;
+
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱 / 검증을 전용 스레드 풀에서 실행한다.
+ * 풀과 대기열이 모두 차 있으면 바로 PASSWORD_HASHING_BUSY 로 거절하여, 요청 스레드가 CPU 작업 대기열에 무한정 쌓이지 않도록 한다.
+ * 시간 초과 시 future.cancel(true) 는 인터럽트만 걸 뿐 bcrypt 계산을 멈추지 못하므로, 취소된 작업도 끝날 때까지 작업 스레드를 차지한다.
+ * 따라서 동시에 도는 해싱 수의 상한은 hashing-threads 이며, 이 값은 CPU 코어 수 이하로 잡는다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private volatile String dummyHash;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${application.password.hashing-threads}") int threads,
+                                  @Value("${application.password.queue-capacity}") int queueCapacity,
+                                  @Value("${application.password.timeout-ms}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 가입되지 않은 이메일로 로그인할 때 호출한다. 더미 해시와 비교하여 가입된 이메일과 같은 비용을 치르게 해,
+     * 응답 시간으로 가입 여부가 드러나지 않도록 한다.
+     */
+    public void matchesDummy(String rawPassword) {
+        submit(() -> passwordEncoder.matches(rawPassword, dummyHash()));
+    }
+
+    // 해시 형식 / cost 만 비교하므로 호출 스레드에서 바로 실행한다.
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 현재 인코더 설정(cost)과 같은 해시여야 하므로 처음 쓸 때 작업 스레드에서 한 번 만든다. 동시에 두 번 만들어져도 무해하다.
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        return hash;
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("[PasswordHashing] rejected: active={} queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 있던 작업은 빠지지만, 이미 실행 중인 bcrypt 는 인터럽트를 확인하지 않아 끝까지 돈다.
+            future.cancel(true);
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -9,15 +9,18 @@ import com.community.domain.auth.model.RefreshToken;
 import com.community.domain.auth.repository.RefreshTokenRepository;
 import com.community.domain.user.model.User;
 import com.community.domain.user.repository.UserRepository;
+import com.community.domain.user.service.UserService;
 import com.community.global.exception.CustomException;
 import com.community.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenAuthService implements AuthService {
@@ -25,14 +28,25 @@ public class TokenAuthService implements AuthService {
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final TokenProvider tokenProvider;
+    private final PasswordHashingService passwordHashingService;
+    private final UserService userService;
 
     public LoginResult login(LoginRequest req) {
-        User user = userRepository.findByEmail(req.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.LOGIN_FAILED));
+        User user = userRepository.findByEmail(req.getEmail()).orElse(null);
+        if (user == null) {
+            // 가입되지 않은 이메일도 비밀번호 검증 비용을 치러, 응답 시간으로 가입 여부가 드러나지 않게 한다.
+            passwordHashingService.matchesDummy(req.getPassword());
+            throw new CustomException(ErrorCode.LOGIN_FAILED);
+        }
 
-        if (!user.getPassword().equals(req.getPassword())) {
+        if (!passwordHashingService.matches(req.getPassword(), user.getPassword())) {
             throw new CustomException(ErrorCode.LOGIN_FAILED);
         }
+        // 탈퇴를 요청한 회원은 가입 여부가 드러나지 않도록 같은 예외로 거절한다.
+        if (user.isDeactivated()) {
+            throw new CustomException(ErrorCode.LOGIN_FAILED);
+        }
+        upgradePasswordHashIfNeeded(user, req.getPassword());
 
         var accessToken = tokenProvider.createToken(Map.of("sub", user.getId()), TokenType.ACCESS);
         var refreshToken = tokenProvider.createToken(Map.of("sub", user.getId()), TokenType.REFRESH);
@@ -55,7 +69,13 @@ public class TokenAuthService implements AuthService {
 
         TokenPayload payload = tokenProvider.parseToken(token, TokenType.REFRESH);
 
+        // 저장소에 없는 토큰(이미 사용했거나 탈퇴로 폐기된 토큰)과 탈퇴를 요청한 회원의 토큰은 재발급하지 않는다.
+        refreshTokenRepository.find(token)
+                .orElseThrow(() -> new CustomException(ErrorCode.REFRESH_TOKEN_MISMATCH));
         refreshTokenRepository.delete(token);
+        userRepository.findById(payload.userId())
+                .filter(user -> !user.isDeactivated())
+                .orElseThrow(() -> new CustomException(ErrorCode.REFRESH_TOKEN_MISMATCH));
 
         var accessToken = tokenProvider.createToken(Map.of("sub", payload.userId()), TokenType.ACCESS);
         var refreshToken = tokenProvider.createToken(Map.of("sub", payload.userId()), TokenType.REFRESH);
@@ -70,4 +90,17 @@ public class TokenAuthService implements AuthService {
         return new LoginResult(loginResponse, refreshToken.token(),
                 Duration.between(Instant.now(), refreshToken.expiresAt()).toSeconds());
     }
+
+    // 평문이거나 cost 가 낮은 해시는 검증에 성공한 원문으로 다시 해싱한다. 풀이 바쁘면 다음 로그인으로 미룬다.
+    private void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.needsUpgrade(user.getPassword())) {
+            return;
+        }
+
+        try {
+            userService.upgradePasswordHash(user.getId(), passwordHashingService.encode(rawPassword));
+        } catch (CustomException e) {
+            log.warn("[PasswordHashing] skipped hash upgrade for userId={}: {}", user.getId(), e.getErrorCode());
+        }
+    }
 }
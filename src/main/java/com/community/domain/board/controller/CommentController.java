@@ -28,7 +28,7 @@ public class CommentController implements CommentApiSpec {
     @Override
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<CommentSingleResponse>>> getComments(@PathVariable Long postId,
-                                                                                        @ModelAttribute PaginationRequest pageRequest) {
+                                                                                        PaginationRequest pageRequest) {
         PageResponse<CommentSingleResponse> res = commentService.getComments(postId, pageRequest);
 
         return ResponseEntity
@@ -6,35 +6,65 @@ import com.community.domain.board.dto.request.PostUpdateRequest;
 import com.community.domain.board.dto.response.PostIdResponse;
 import com.community.domain.board.dto.response.PostLikeResponse;
 import com.community.domain.board.dto.response.PostSingleResponse;
+import com.community.domain.board.dto.response.PostViewStatsResponse;
+import com.community.domain.board.model.ViewGranularity;
 import com.community.domain.common.page.PageResponse;
 import com.community.domain.common.page.PaginationRequest;
 import com.community.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Tag(name = "Post", description = "게시글 관리 API")
 public interface PostApiSpec {
 
-    @Operation(summary = "게시글 리스트 조회", description = "페이징 기능을 바탕으로 게시글 리스트를 조회합니다.")
+    @Operation(summary = "게시글 리스트 조회", description = "페이징 기능을 바탕으로 게시글 리스트를 조회합니다. 페이지 크기는 상한(기본 100)을 넘으면 상한으로 줄어듭니다.")
     ResponseEntity<ApiResponse<PageResponse<PostSingleResponse>>> getPosts(PaginationRequest paginationRequest);
 
+    @Operation(summary = "인기 게시글 조회", description = "조회수 / 좋아요 / 댓글에 시간 감쇠를 적용한 점수 순으로 인기 게시글을 조회합니다. (최대 20개)")
+    ResponseEntity<ApiResponse<List<PostSingleResponse>>> getPopularPosts(int size);
+
+    @Operation(summary = "게시글 검색", description = "제목과 본문에서 검색어를 포함한 게시글을 관련도 순으로 조회합니다. 검색어는 두 글자 단위로 비교합니다.")
+    ResponseEntity<ApiResponse<PageResponse<PostSingleResponse>>> searchPosts(String keyword,
+                                                                             PaginationRequest paginationRequest);
+
+    @Operation(summary = "내 게시글 내보내기", description = "본인 게시글 전체를 NDJSON(한 줄에 게시글 하나)으로 내려받습니다. 페이지 크기 상한 없이 모든 게시글이 필요할 때 사용합니다.")
+    void exportMyPosts(AuthenticatedUser authenticatedUser,
+                       HttpServletResponse response) throws IOException;
+
     @Operation(summary = "게시글 생성", description = "게시글을 작성하여 게시판에 등록합니다.")
     ResponseEntity<ApiResponse<PostIdResponse>> createPost(AuthenticatedUser authenticatedUser,
                                                            PostCreateRequest request);
 
-    @Operation(summary = "게시글 단건 조회", description = "게시글을 단건 조회합니다. 조회수가 증가합니다.")
-    ResponseEntity<ApiResponse<PostSingleResponse>> getPost(Long postId);
+    @Operation(summary = "게시글 단건 조회", description = "게시글을 단건 조회합니다. 같은 회원의 반복 조회는 일정 시간 동안 조회수를 올리지 않으며, 순 조회자 수 추정치(uniqueViewCount)를 함께 반환합니다.")
+    ResponseEntity<ApiResponse<PostSingleResponse>> getPost(Long postId,
+                                                            AuthenticatedUser authenticatedUser);
+
+    @Operation(summary = "게시글 조회수 통계", description = "[from, to) 구간의 조회수를 분 / 시 / 일 단위로 조회합니다. 기본 구간은 최근 24시간이며, 단위를 생략하면 보관 기간과 버킷 수에 맞는 가장 작은 단위를 사용합니다.")
+    ResponseEntity<ApiResponse<PostViewStatsResponse>> getPostViewStats(Long postId,
+                                                                        ViewGranularity granularity,
+                                                                        LocalDateTime from,
+                                                                        LocalDateTime to);
 
     @Operation(summary = "게시글 수정", description = "게시글을 수정합니다.")
     ResponseEntity<ApiResponse<PostIdResponse>> updatePost(Long postId,
                                                            AuthenticatedUser authenticatedUser,
                                                            PostUpdateRequest request);
 
-    @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다. 관련된 댓글도 함께 삭제됩니다.")
+    @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다. 관련된 댓글과 좋아요는 복구 기간이 지난 뒤 함께 삭제됩니다.")
     ResponseEntity<ApiResponse<Void>> deletePost(Long postId,
                                                  AuthenticatedUser authenticatedUser);
 
+    @Operation(summary = "게시글 복구", description = "복구 기간 안에 삭제한 게시글을 댓글 / 좋아요와 함께 복구합니다.")
+    ResponseEntity<ApiResponse<PostIdResponse>> restorePost(Long postId,
+                                                            AuthenticatedUser authenticatedUser);
+
     @Operation(summary = "게시글 좋아요 토글", description = "게시글의 좋아요를 토글로 표현합니다.")
     ResponseEntity<ApiResponse<Void>> toggleLike(Long postId,
                                                  AuthenticatedUser authenticatedUser);
@@ -42,4 +72,7 @@ public interface PostApiSpec {
     @Operation(summary = "게시글 좋아요 여부 조회", description = "현재 회원이 특정 게시글에 좋아요를 누른 상태인지 조회합니다.")
     ResponseEntity<ApiResponse<PostLikeResponse>> isUserLikedPost(Long postId,
                                                                   AuthenticatedUser authenticatedUser);
+
+    @Operation(summary = "게시글 실시간 이벤트 구독", description = "댓글 추가(comment-added) / 삭제(comment-deleted), 좋아요 변경(like-toggled) 이벤트를 SSE 로 전달합니다.")
+    SseEmitter subscribePostEvents(Long postId);
 }
@@ -8,18 +8,32 @@ import com.community.domain.board.dto.request.PostUpdateRequest;
 import com.community.domain.board.dto.response.PostIdResponse;
 import com.community.domain.board.dto.response.PostLikeResponse;
 import com.community.domain.board.dto.response.PostSingleResponse;
+import com.community.domain.board.dto.response.PostViewStatsResponse;
+import com.community.domain.board.model.ViewGranularity;
+import com.community.domain.board.service.PostExportService;
 import com.community.domain.board.service.PostService;
+import com.community.domain.board.service.PostViewStatsService;
 import com.community.domain.common.page.PageResponse;
 import com.community.domain.common.page.PaginationRequest;
 import com.community.domain.common.util.UriUtil;
 import com.community.global.response.ApiResponse;
 import com.community.global.response.SuccessMessage;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,11 +41,13 @@ import org.springframework.web.bind.annotation.*;
 public class PostController implements PostApiSpec {
 
     private final PostService postService;
+    private final PostViewStatsService postViewStatsService;
+    private final PostExportService postExportService;
 
     @Override
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<PostSingleResponse>>> getPosts(
-            @ModelAttribute PaginationRequest paginationRequest
+            PaginationRequest paginationRequest
             ) {
         PageResponse<PostSingleResponse> response = postService.getPostList(paginationRequest);
 
@@ -40,10 +56,35 @@ public class PostController implements PostApiSpec {
                 .body(ApiResponse.success(SuccessMessage.POST_LIST_FETCHED, response));
     }
 
+    @Override
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResponse<List<PostSingleResponse>>> getPopularPosts(
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<PostSingleResponse> response = postService.getPopularPosts(size);
+
+        return ResponseEntity
+                .ok()
+                .body(ApiResponse.success(SuccessMessage.POPULAR_POST_LIST_FETCHED, response));
+    }
+
+    @Override
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PageResponse<PostSingleResponse>>> searchPosts(
+            @RequestParam String keyword,
+            PaginationRequest paginationRequest
+    ) {
+        PageResponse<PostSingleResponse> response = postService.searchPosts(keyword, paginationRequest);
+
+        return ResponseEntity
+                .ok()
+                .body(ApiResponse.success(SuccessMessage.POST_SEARCHED, response));
+    }
+
     @Auth
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<PageResponse<PostSingleResponse>>> getPostsByUserId(
-            @ModelAttribute PaginationRequest paginationRequest,
+            PaginationRequest paginationRequest,
             @AuthUser AuthenticatedUser authenticatedUser) {
         PageResponse<PostSingleResponse> res = postService.getPostsByUserId(paginationRequest, authenticatedUser.userId());
 
@@ -52,10 +93,23 @@ public class PostController implements PostApiSpec {
                 .body(ApiResponse.success(SuccessMessage.POST_LIST_FETCHED, res));
     }
 
+    @Override
+    @Auth
+    @GetMapping(value = "/me/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportMyPosts(@AuthUser AuthenticatedUser authenticatedUser,
+                              HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("posts.ndjson").build().toString());
+
+        postExportService.exportByUserId(authenticatedUser.userId(), response.getOutputStream());
+    }
+
     @Auth
     @GetMapping("/like")
     public ResponseEntity<ApiResponse<PageResponse<PostSingleResponse>>> getLikedPostsByUserId(
-            @ModelAttribute PaginationRequest paginationRequest,
+            PaginationRequest paginationRequest,
             @AuthUser AuthenticatedUser authenticatedUser) {
         PageResponse<PostSingleResponse> res = postService.getPostsByPostLikeUserId(paginationRequest, authenticatedUser.userId());
 
@@ -77,15 +131,32 @@ public class PostController implements PostApiSpec {
     }
 
     @Override
+    @Auth
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponse<PostSingleResponse>> getPost(@PathVariable Long postId) {
-        PostSingleResponse response = postService.viewPost(postId);
+    public ResponseEntity<ApiResponse<PostSingleResponse>> getPost(@PathVariable Long postId,
+                                                                   @AuthUser AuthenticatedUser authenticatedUser) {
+        PostSingleResponse response = postService.viewPost(postId, authenticatedUser.userId());
 
         return ResponseEntity
                 .ok()
                 .body(ApiResponse.success(SuccessMessage.POST_FETCHED, response));
     }
 
+    @Override
+    @GetMapping("/{postId}/stats")
+    public ResponseEntity<ApiResponse<PostViewStatsResponse>> getPostViewStats(
+            @PathVariable Long postId,
+            @RequestParam(required = false) ViewGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        PostViewStatsResponse response = postViewStatsService.getStats(postId, granularity, from, to);
+
+        return ResponseEntity
+                .ok()
+                .body(ApiResponse.success(SuccessMessage.POST_VIEW_STATS_FETCHED, response));
+    }
+
     @Override
     @Auth
     @PutMapping(value = "/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -111,6 +182,18 @@ public class PostController implements PostApiSpec {
                 .body(ApiResponse.success(SuccessMessage.POST_DELETED));
     }
 
+    @Override
+    @Auth
+    @PostMapping("/{postId}/restore")
+    public ResponseEntity<ApiResponse<PostIdResponse>> restorePost(@PathVariable Long postId,
+                                                                   @AuthUser AuthenticatedUser authenticatedUser) {
+        PostIdResponse response = postService.restorePost(postId, authenticatedUser.userId());
+
+        return ResponseEntity
+                .ok()
+                .body(ApiResponse.success(SuccessMessage.POST_RESTORED, response));
+    }
+
     @Override
     @Auth
     @PostMapping("/{postId}/like")
@@ -135,4 +218,11 @@ public class PostController implements PostApiSpec {
                 .ok()
                 .body(ApiResponse.success(SuccessMessage.POST_LIKE_STATUS_FETCHED, res));
     }
+
+    @Override
+    @Auth
+    @GetMapping(value = "/{postId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribePostEvents(@PathVariable Long postId) {
+        return postService.subscribeEvents(postId);
+    }
 }
@@ -17,4 +17,9 @@ public class AuthorResponse {
     public static AuthorResponse from(User user) {
         return new AuthorResponse(user.getId(), user.getNickname(),  user.getImageUrl());
     }
+
+    // 작성자 조회에 실패했을 때 id 만 채운 응답
+    public static AuthorResponse unknown(Long userId) {
+        return new AuthorResponse(userId, null, null);
+    }
 }
@@ -1,6 +1,7 @@
 package com.community.domain.board.dto.response;
 
 import com.community.domain.board.model.Post;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -17,6 +18,9 @@ public class PostContent {
     private final String image;
     private final String body;
     private final Long viewCount;
+    // 순 조회자 수 추정치. 게시글 상세 조회에서만 채운다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long uniqueViewCount;
     private final Long likeCount;
     private final Long commentCount;
     private final LocalDateTime createdAt;
@@ -28,9 +32,14 @@ public class PostContent {
                 post.getImageUrl(),
                 post.getBody(),
                 post.getViewCount(),
+                null,
                 likeCount,
                 commentCount,
                 post.getCreatedAt()
         );
     }
+
+    public PostContent withUniqueViewCount(Long uniqueViewCount) {
+        return new PostContent(id, title, image, body, viewCount, uniqueViewCount, likeCount, commentCount, createdAt);
+    }
 }
@@ -0,0 +1,34 @@
+package com.community.domain.board.dto.response;
+
+import com.community.domain.board.model.Post;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "게시글 내보내기 한 줄(NDJSON) DTO")
+@Getter
+@AllArgsConstructor
+public class PostExportResponse {
+
+    private final Long id;
+    private final String title;
+    private final String image;
+    private final String body;
+    private final Long viewCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public static PostExportResponse from(Post post) {
+        return new PostExportResponse(
+                post.getId(),
+                post.getTitle(),
+                post.getImageUrl(),
+                post.getBody(),
+                post.getViewCount(),
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+}
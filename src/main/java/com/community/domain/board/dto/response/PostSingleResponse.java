@@ -11,4 +11,8 @@ public class PostSingleResponse {
 
     private final PostContent post;
     private final AuthorResponse author;
+
+    public PostSingleResponse withUniqueViewCount(Long uniqueViewCount) {
+        return new PostSingleResponse(post.withUniqueViewCount(uniqueViewCount), author);
+    }
 }
@@ -0,0 +1,22 @@
+package com.community.domain.board.dto.response;
+
+import com.community.domain.board.model.ViewGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "게시글 조회수 통계 응답 DTO. 구간은 버킷 경계에 맞춰 [from, to) 이다.")
+@Getter
+@AllArgsConstructor
+public class PostViewStatsResponse {
+
+    private final Long postId;
+    private final ViewGranularity granularity;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final long totalViews;
+    private final List<ViewBucketResponse> buckets;
+}
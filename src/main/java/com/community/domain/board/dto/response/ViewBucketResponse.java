@@ -0,0 +1,16 @@
+package com.community.domain.board.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "조회수 버킷 응답 DTO")
+@Getter
+@AllArgsConstructor
+public class ViewBucketResponse {
+
+    private final LocalDateTime start;
+    private final long views;
+}
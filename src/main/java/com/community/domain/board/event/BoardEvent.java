@@ -0,0 +1,12 @@
+package com.community.domain.board.event;
+
+import com.community.global.event.DomainEvent;
+
+/**
+ * 게시글 / 댓글 / 좋아요 변경 이벤트. 리스너는 switch 로 필요한 이벤트만 골라 처리한다.
+ */
+public sealed interface BoardEvent extends DomainEvent
+        permits PostCreated, PostUpdated, PostDeleted, PostRestored, LikeToggled, CommentAdded, CommentDeleted {
+
+    Long postId();
+}
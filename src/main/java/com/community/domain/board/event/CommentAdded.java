@@ -0,0 +1,6 @@
+package com.community.domain.board.event;
+
+import com.community.domain.board.dto.response.CommentSingleResponse;
+
+public record CommentAdded(Long postId, CommentSingleResponse comment) implements BoardEvent {
+}
@@ -0,0 +1,4 @@
+package com.community.domain.board.event;
+
+public record CommentDeleted(Long postId, Long commentId) implements BoardEvent {
+}
@@ -0,0 +1,4 @@
+package com.community.domain.board.event;
+
+public record LikeToggled(Long postId, boolean liked) implements BoardEvent {
+}
@@ -0,0 +1,4 @@
+package com.community.domain.board.event;
+
+public record PostCreated(Long postId, String title, String body) implements BoardEvent {
+}
@@ -0,0 +1,7 @@
+package com.community.domain.board.event;
+
+/**
+ * 게시글이 삭제 표시되었다. 복구 기간 동안은 이미지와 댓글 / 좋아요를 남겨 두고, PostPurgeService 가 기간이 지난 뒤 지운다.
+ */
+public record PostDeleted(Long postId) implements BoardEvent {
+}
@@ -1,6 +1,7 @@
 package com.community.domain.board.model;
 
 import com.community.domain.common.model.BaseTimeEntity;
+import com.community.domain.common.model.TsidId;
 import com.community.domain.user.model.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -15,7 +16,7 @@ import lombok.NoArgsConstructor;
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "comment_id")
     private Long id;
 
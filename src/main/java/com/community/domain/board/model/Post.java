@@ -1,22 +1,30 @@
 package com.community.domain.board.model;
 
 import com.community.domain.common.model.BaseTimeEntity;
+import com.community.domain.common.model.TsidId;
 import com.community.domain.user.model.User;
+import com.community.global.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.POST_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "posts")
 public class Post extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "post_id")
     private Long id;
 
@@ -37,6 +45,9 @@ public class Post extends BaseTimeEntity {
 
     private Long viewCount;
 
+    // 삭제 시각. null 이 아니면 삭제된 게시글이며, 복구 기간이 지나면 PostPurgeService 가 댓글 / 좋아요와 함께 지운다.
+    private LocalDateTime deletedAt;
+
     public Post(User user, String title, String imageUrl, String body) {
         this.user = user;
         this.title = title;
@@ -75,6 +86,18 @@ public class Post extends BaseTimeEntity {
         return this.viewCount;
     }
 
+    public void softDelete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public void restore() {
+        this.deletedAt = null;
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
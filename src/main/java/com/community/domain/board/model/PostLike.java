@@ -1,6 +1,7 @@
 package com.community.domain.board.model;
 
 import com.community.domain.common.model.BaseTimeEntity;
+import com.community.domain.common.model.TsidId;
 import com.community.domain.user.model.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -14,7 +15,7 @@ import lombok.NoArgsConstructor;
 public class PostLike extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "post_like_id")
     private Long id;
 
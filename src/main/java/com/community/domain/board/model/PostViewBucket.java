@@ -0,0 +1,45 @@
+package com.community.domain.board.model;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글의 한 시간 구간(분 / 시 / 일) 동안의 조회수.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "post_view_buckets")
+public class PostViewBucket {
+
+    @EmbeddedId
+    private PostViewBucketId id;
+
+    private long views;
+
+    public PostViewBucket(PostViewBucketId id, long views) {
+        this.id = id;
+        this.views = views;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PostViewBucket that = (PostViewBucket) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -1,5 +1,6 @@
 package com.community.domain.board.model;
 
+import com.community.domain.common.model.TsidId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
 public class PostViewEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "post_view_event_id")
     private Long id;
 
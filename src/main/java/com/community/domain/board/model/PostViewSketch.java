@@ -0,0 +1,60 @@
+package com.community.domain.board.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 순 조회자 HyperLogLog 스케치의 레지스터. 노드들이 각자의 스케치를 합쳐(merge) 저장한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "post_view_sketches")
+public class PostViewSketch {
+
+    public static final int REGISTER_BYTES = 2048;
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @NotNull
+    @Column(length = REGISTER_BYTES)
+    private byte[] registers;
+
+    @NotNull
+    private LocalDateTime updatedAt;
+
+    public PostViewSketch(Long postId, byte[] registers) {
+        this.postId = postId;
+        this.registers = registers;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void updateRegisters(byte[] registers) {
+        this.registers = registers;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PostViewSketch that = (PostViewSketch) o;
+        return postId != null && postId.equals(that.postId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -1,9 +1,11 @@
 package com.community.domain.board.repository;
 
 import com.community.domain.board.model.Comment;
+import com.community.domain.board.repository.dto.DeletedComments;
 import com.community.domain.common.page.PageResult;
 import com.community.domain.common.page.PaginationRequest;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface CommentRepository {
@@ -15,4 +17,7 @@ public interface CommentRepository {
     Long countByPostId(Long postId);
     void deleteByPostId(Long postId);
     void deleteByUserId(Long userId);
+    DeletedComments deleteChunkByPostAuthorId(Long userId, int limit);
+    DeletedComments deleteChunkByUserId(Long userId, int limit);
+    int deleteChunkByPostIds(Collection<Long> postIds, int limit);
 }
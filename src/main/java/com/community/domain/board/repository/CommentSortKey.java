@@ -0,0 +1,22 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.common.page.SortKey;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum CommentSortKey implements SortKey {
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    ID("id");
+
+    private final String property;
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    public static CommentSortKey from(String sortBy) {
+        return SortKey.resolve(CommentSortKey.class, sortBy, CREATED_AT);
+    }
+}
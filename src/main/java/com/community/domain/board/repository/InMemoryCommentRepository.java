@@ -0,0 +1,232 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.board.model.Comment;
+import com.community.domain.board.repository.dto.DeletedComments;
+import com.community.domain.common.page.PageResult;
+import com.community.domain.common.page.PaginationRequest;
+import com.community.domain.common.util.InMemoryEntities;
+import com.community.domain.common.util.PageUtil;
+import com.community.domain.common.util.SortedIndex;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DB 없이 동작하는 댓글 저장소(inmemory 프로필).
+ * 게시글마다 정렬 키별 SortedIndex 를 두어, 댓글 페이지 조회가 전체 정렬 없이 O(log n + offset + size) 이다.
+ */
+@Profile("inmemory")
+@Repository
+public class InMemoryCommentRepository implements CommentRepository {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Comment> comments = new ConcurrentHashMap<>();
+    private final Map<Long, Map<CommentSortKey, SortedIndex<Comment>>> indexesByPostId = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> commentIdsByUserId = new ConcurrentHashMap<>();
+    // 색인이 서로 어긋나지 않도록 쓰기는 하나씩 처리한다. 읽기는 잠그지 않는다.
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Override
+    public Long save(Comment comment) {
+        writeLock.lock();
+        try {
+            Long id = sequence.incrementAndGet();
+            InMemoryEntities.assignId(comment, id);
+            InMemoryEntities.stampCreated(comment);
+
+            comments.put(id, comment);
+            indexesByPostId.computeIfAbsent(postId(comment), key -> newIndexes())
+                    .values()
+                    .forEach(index -> index.put(id, comment));
+            commentIdsByUserId.computeIfAbsent(userId(comment), key -> ConcurrentHashMap.newKeySet())
+                    .add(id);
+            return id;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(Comment comment) {
+        writeLock.lock();
+        try {
+            remove(comment.getId());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Comment> findById(Long commentId) {
+        return Optional.ofNullable(comments.get(commentId))
+                .filter(comment -> !comment.getPost().isDeleted());
+    }
+
+    @Override
+    public PageResult<Comment> findByPostId(Long postId, PaginationRequest paginationRequest) {
+        int size = paginationRequest.size();
+        Map<CommentSortKey, SortedIndex<Comment>> indexes = indexesOfLivePost(postId);
+        if (indexes == null) {
+            return new PageResult<>(List.of(), 0, 0);
+        }
+
+        SortedIndex<Comment> index = indexes.get(CommentSortKey.from(paginationRequest.sortBy()));
+        List<Comment> items = resolve(index.page(paginationRequest.direction(), paginationRequest.page() * size, size));
+
+        long totalElements = index.size();
+        return new PageResult<>(items, totalElements, PageUtil.calculateTotalPages(totalElements, size));
+    }
+
+    @Override
+    public Long countByPostId(Long postId) {
+        Map<CommentSortKey, SortedIndex<Comment>> indexes = indexesOfLivePost(postId);
+        return indexes == null ? 0L : indexes.get(CommentSortKey.ID).size();
+    }
+
+    @Override
+    public void deleteByPostId(Long postId) {
+        writeLock.lock();
+        try {
+            Map<CommentSortKey, SortedIndex<Comment>> indexes = indexesByPostId.get(postId);
+            if (indexes != null) {
+                indexes.get(CommentSortKey.ID).all(PaginationRequest.SortDirection.ASC).forEach(this::remove);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+        writeLock.lock();
+        try {
+            List.copyOf(commentIdsByUserId.getOrDefault(userId, Set.of())).forEach(this::remove);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 회원 탈퇴 배치에서만 사용하므로 전체를 훑는다.
+    @Override
+    public DeletedComments deleteChunkByPostAuthorId(Long userId, int limit) {
+        writeLock.lock();
+        try {
+            List<Comment> chunk = comments.values().stream()
+                    .filter(comment -> comment.getPost().getUser().getId().equals(userId))
+                    .limit(limit)
+                    .toList();
+            return deleteComments(chunk);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public DeletedComments deleteChunkByUserId(Long userId, int limit) {
+        writeLock.lock();
+        try {
+            List<Comment> chunk = commentIdsByUserId.getOrDefault(userId, Set.of()).stream()
+                    .limit(limit)
+                    .map(comments::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return deleteComments(chunk);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int deleteChunkByPostIds(Collection<Long> postIds, int limit) {
+        writeLock.lock();
+        try {
+            List<Long> ids = postIds.stream()
+                    .map(indexesByPostId::get)
+                    .filter(Objects::nonNull)
+                    .flatMap(indexes -> indexes.get(CommentSortKey.ID).page(PaginationRequest.SortDirection.ASC, 0, limit).stream())
+                    .limit(limit)
+                    .toList();
+            ids.forEach(this::remove);
+            return ids.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 삭제 표시된 게시글의 댓글은 삭제 배치가 지우기 전까지 조회에서 제외한다. 같은 게시글의 댓글은 같은 Post 를 참조한다.
+    private Map<CommentSortKey, SortedIndex<Comment>> indexesOfLivePost(Long postId) {
+        Map<CommentSortKey, SortedIndex<Comment>> indexes = indexesByPostId.get(postId);
+        if (indexes == null) {
+            return null;
+        }
+        List<Comment> first = resolve(indexes.get(CommentSortKey.ID).page(PaginationRequest.SortDirection.ASC, 0, 1));
+        return !first.isEmpty() && first.get(0).getPost().isDeleted() ? null : indexes;
+    }
+
+    private DeletedComments deleteComments(List<Comment> chunk) {
+        Set<Long> postIds = chunk.stream()
+                .map(InMemoryCommentRepository::postId)
+                .collect(Collectors.toSet());
+        chunk.forEach(comment -> remove(comment.getId()));
+        return new DeletedComments(chunk.size(), postIds);
+    }
+
+    private void remove(Long commentId) {
+        Comment comment = comments.remove(commentId);
+        if (comment == null) {
+            return;
+        }
+        indexesByPostId.computeIfPresent(postId(comment), (key, indexes) -> {
+            indexes.values().forEach(index -> index.remove(commentId));
+            return indexes.get(CommentSortKey.ID).isEmpty() ? null : indexes;
+        });
+        commentIdsByUserId.computeIfPresent(userId(comment), (key, ids) -> {
+            ids.remove(commentId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // 색인에서 id 를 읽은 뒤 삭제된 댓글은 건너뛴다.
+    private List<Comment> resolve(List<Long> ids) {
+        return ids.stream()
+                .map(comments::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static Map<CommentSortKey, SortedIndex<Comment>> newIndexes() {
+        Map<CommentSortKey, SortedIndex<Comment>> indexes = new EnumMap<>(CommentSortKey.class);
+        for (CommentSortKey key : CommentSortKey.values()) {
+            indexes.put(key, new SortedIndex<>(sortValue(key)));
+        }
+        return indexes;
+    }
+
+    private static Function<Comment, Comparable<?>> sortValue(CommentSortKey key) {
+        return switch (key) {
+            case CREATED_AT -> Comment::getCreatedAt;
+            case UPDATED_AT -> Comment::getUpdatedAt;
+            case ID -> Comment::getId;
+        };
+    }
+
+    private static Long postId(Comment comment) {
+        return comment.getPost().getId();
+    }
+
+    private static Long userId(Comment comment) {
+        return comment.getUser().getId();
+    }
+}
@@ -0,0 +1,176 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.board.model.PostLike;
+import com.community.domain.common.util.InMemoryEntities;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 없이 동작하는 좋아요 저장소(inmemory 프로필).
+ * 게시글별로 회원 id -> 좋아요를 두어 존재 여부 / 개수 조회가 O(1) 이고,
+ * 회원별 좋아요한 게시글 id 는 좋아요 게시글 목록 조회에 사용한다.
+ */
+@Profile("inmemory")
+@Repository
+public class InMemoryPostLikeRepository implements PostLikeRepository {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, PostLike> likes = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, PostLike>> likesByPostId = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> likedPostIdsByUserId = new ConcurrentHashMap<>();
+    // 세 색인이 서로 어긋나지 않도록 쓰기는 하나씩 처리한다. 읽기는 잠그지 않는다.
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Override
+    public Long save(PostLike postLike) {
+        writeLock.lock();
+        try {
+            Long id = sequence.incrementAndGet();
+            InMemoryEntities.assignId(postLike, id);
+            InMemoryEntities.stampCreated(postLike);
+
+            likes.put(id, postLike);
+            likesByPostId.computeIfAbsent(postId(postLike), key -> new ConcurrentHashMap<>())
+                    .put(userId(postLike), postLike);
+            likedPostIdsByUserId.computeIfAbsent(userId(postLike), key -> ConcurrentHashMap.newKeySet())
+                    .add(postId(postLike));
+            return id;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(PostLike postLike) {
+        writeLock.lock();
+        try {
+            remove(postLike);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAllByPostId(Long postId) {
+        writeLock.lock();
+        try {
+            Map<Long, PostLike> byUser = likesByPostId.get(postId);
+            if (byUser != null) {
+                byUser.values().forEach(this::remove);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Boolean existsByPostIdAndUserId(Long postId, Long userId) {
+        return findByPostIdAndUserId(postId, userId).isPresent();
+    }
+
+    @Override
+    public Optional<PostLike> findByPostIdAndUserId(Long postId, Long userId) {
+        return Optional.ofNullable(likesOfLivePost(postId).get(userId));
+    }
+
+    @Override
+    public Long countByPostId(Long postId) {
+        return (long) likesOfLivePost(postId).size();
+    }
+
+    // 회원 탈퇴 배치에서만 사용하므로 전체를 훑는다.
+    @Override
+    public int deleteChunkByPostAuthorId(Long userId, int limit) {
+        writeLock.lock();
+        try {
+            return deleteChunk(likes.values().stream()
+                    .filter(like -> like.getPost().getUser().getId().equals(userId))
+                    .limit(limit)
+                    .toList());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int deleteChunkByUserId(Long userId, int limit) {
+        writeLock.lock();
+        try {
+            Set<Long> postIds = likedPostIdsByUserId.getOrDefault(userId, Set.of());
+            return deleteChunk(postIds.stream()
+                    .limit(limit)
+                    .map(postId -> likesByPostId.get(postId).get(userId))
+                    .toList());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int deleteChunkByPostIds(Collection<Long> postIds, int limit) {
+        writeLock.lock();
+        try {
+            return deleteChunk(postIds.stream()
+                    .map(postId -> likesByPostId.getOrDefault(postId, Map.of()))
+                    .flatMap(byUser -> byUser.values().stream())
+                    .limit(limit)
+                    .toList());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 회원이 좋아요한 게시글 id. 반환된 집합은 이후 변경이 반영될 수 있다.
+     */
+    Set<Long> findLikedPostIds(Long userId) {
+        return likedPostIdsByUserId.getOrDefault(userId, Set.of());
+    }
+
+    // 삭제 표시된 게시글의 좋아요는 삭제 배치가 지우기 전까지 조회에서 제외한다. 같은 게시글의 좋아요는 같은 Post 를 참조한다.
+    private Map<Long, PostLike> likesOfLivePost(Long postId) {
+        Map<Long, PostLike> byUser = likesByPostId.get(postId);
+        if (byUser == null || byUser.values().stream().findAny().map(like -> like.getPost().isDeleted()).orElse(false)) {
+            return Map.of();
+        }
+        return byUser;
+    }
+
+    private int deleteChunk(List<PostLike> chunk) {
+        chunk.forEach(this::remove);
+        return chunk.size();
+    }
+
+    private void remove(PostLike postLike) {
+        if (likes.remove(postLike.getId()) == null) {
+            return;
+        }
+        Long postId = postId(postLike);
+        Long userId = userId(postLike);
+        likesByPostId.computeIfPresent(postId, (key, byUser) -> {
+            byUser.remove(userId);
+            return byUser.isEmpty() ? null : byUser;
+        });
+        likedPostIdsByUserId.computeIfPresent(userId, (key, postIds) -> {
+            postIds.remove(postId);
+            return postIds.isEmpty() ? null : postIds;
+        });
+    }
+
+    private static Long postId(PostLike postLike) {
+        return postLike.getPost().getId();
+    }
+
+    private static Long userId(PostLike postLike) {
+        return postLike.getUser().getId();
+    }
+}
@@ -0,0 +1,364 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.dto.PostActivity;
+import com.community.domain.board.repository.dto.PostDocument;
+import com.community.domain.common.page.PageResult;
+import com.community.domain.common.page.PaginationRequest;
+import com.community.domain.common.util.InMemoryEntities;
+import com.community.domain.common.util.PageUtil;
+import com.community.domain.common.util.SortedIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * DB 없이 동작하는 게시글 저장소(inmemory 프로필). 부하 테스트나 DB 를 두지 않는 노드에서 JPA 저장소 대신 사용한다.
+ * 전체 / 회원별로 정렬 키마다 SortedIndex 를 두어 페이지 조회가 전체 정렬 없이 O(log n + offset + size) 이다.
+ * 게시글 삭제 시 댓글 / 좋아요도 함께 지워 DB 의 ON DELETE CASCADE 와 같게 동작한다.
+ * 삭제 표시(softDelete)된 게시글은 색인에서 빼고 조회에서 제외하며, 회원별 id 목록에는 남겨 탈퇴 배치가 지울 수 있게 한다.
+ * 트랜잭션 롤백은 되돌리지 않는다.
+ */
+@Profile("inmemory")
+@Repository
+@RequiredArgsConstructor
+public class InMemoryPostRepository implements PostRepository {
+
+    private final InMemoryCommentRepository commentRepository;
+    private final InMemoryPostLikeRepository postLikeRepository;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListMap<Long, Post> posts = new ConcurrentSkipListMap<>();
+    private final Map<PostSortKey, SortedIndex<Post>> indexes = newIndexes();
+    private final Map<Long, Map<PostSortKey, SortedIndex<Post>>> indexesByUserId = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Long>> postIdsByUserId = new ConcurrentHashMap<>();
+    // 색인이 서로 어긋나지 않도록 쓰기는 하나씩 처리한다. 읽기는 잠그지 않는다.
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Override
+    public Long save(Post post) {
+        writeLock.lock();
+        try {
+            Long id = sequence.incrementAndGet();
+            InMemoryEntities.assignId(post, id);
+            InMemoryEntities.stampCreated(post);
+
+            posts.put(id, post);
+            index(post);
+            postIdsByUserId.computeIfAbsent(userId(post), key -> new ConcurrentSkipListSet<>())
+                    .add(id);
+            return id;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(Post post) {
+        writeLock.lock();
+        try {
+            remove(post.getId());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Post> findById(Long postId) {
+        return Optional.ofNullable(posts.get(postId))
+                .filter(post -> !post.isDeleted());
+    }
+
+    @Override
+    public void softDelete(Post post) {
+        writeLock.lock();
+        try {
+            if (posts.containsKey(post.getId()) && !post.isDeleted()) {
+                post.softDelete();
+                unindex(post);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void restore(Post post) {
+        writeLock.lock();
+        try {
+            if (posts.containsKey(post.getId()) && post.isDeleted()) {
+                post.restore();
+                index(post);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 제목 정렬 색인이 이전 제목 위치에 남지 않도록 제목을 바꾸면서 함께 옮긴다.
+    @Override
+    public void updateTitle(Post post, String title) {
+        writeLock.lock();
+        try {
+            post.updateTitle(title);
+            if (posts.containsKey(post.getId()) && !post.isDeleted()) {
+                reindex(post, PostSortKey.TITLE);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Post> findDeletedById(Long postId) {
+        return Optional.ofNullable(posts.get(postId))
+                .filter(Post::isDeleted);
+    }
+
+    @Override
+    public Optional<Post> findDeletedByIdForUpdate(Long postId) {
+        return findDeletedById(postId);
+    }
+
+    // 삭제 배치에서만 사용하므로 전체를 훑는다.
+    @Override
+    public List<Post> findChunkDeletedBefore(LocalDateTime deletedBefore, int limit) {
+        return posts.values().stream()
+                .filter(post -> post.isDeleted() && post.getDeletedAt().isBefore(deletedBefore))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public PageResult<Post> findAll(PaginationRequest paginationRequest) {
+        return page(indexes, paginationRequest);
+    }
+
+    @Override
+    public List<Post> findAllByUserId(Long userId) {
+        Map<PostSortKey, SortedIndex<Post>> userIndexes = indexesByUserId.get(userId);
+        if (userIndexes == null) {
+            return List.of();
+        }
+        return resolve(userIndexes.get(PostSortKey.CREATED_AT).all(PaginationRequest.SortDirection.DESC));
+    }
+
+    @Override
+    public List<Post> findChunkByUserId(Long userId, int limit) {
+        NavigableSet<Long> ids = postIdsByUserId.get(userId);
+        if (ids == null) {
+            return List.of();
+        }
+        // 탈퇴 배치에서 사용하므로 삭제 표시된 게시글도 함께 가져온다.
+        return ids.stream()
+                .limit(limit)
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Stream<Post> streamByUserId(Long userId) {
+        NavigableSet<Long> ids = postIdsByUserId.get(userId);
+        if (ids == null) {
+            return Stream.empty();
+        }
+        return ids.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .filter(post -> !post.isDeleted());
+    }
+
+    @Override
+    public int deleteAllByIds(List<Long> postIds) {
+        writeLock.lock();
+        try {
+            int deleted = 0;
+            for (Long postId : postIds) {
+                if (remove(postId)) {
+                    deleted++;
+                }
+            }
+            return deleted;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void increaseViewCount(Long postId, long increment) {
+        if (increment <= 0) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            Post post = posts.get(postId);
+            if (post == null || post.isDeleted()) {
+                return;
+            }
+            post.addViewCount(increment);
+            reindex(post, PostSortKey.VIEW_COUNT);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public PageResult<Post> findByUserId(Long userId, PaginationRequest paginationRequest) {
+        Map<PostSortKey, SortedIndex<Post>> userIndexes = indexesByUserId.get(userId);
+        if (userIndexes == null) {
+            return new PageResult<>(List.of(), 0, 0);
+        }
+        return page(userIndexes, paginationRequest);
+    }
+
+    /**
+     * 좋아요한 게시글은 회원마다 많지 않으므로 해당 게시글만 임시 색인에 넣어 정렬한다. O(k log k), k = 좋아요 수
+     */
+    @Override
+    public PageResult<Post> findByPostLikeUserId(Long userId, PaginationRequest paginationRequest) {
+        PostSortKey sortKey = PostSortKey.from(paginationRequest.sortBy());
+        SortedIndex<Post> liked = new SortedIndex<>(sortValue(sortKey));
+        for (Long postId : postLikeRepository.findLikedPostIds(userId)) {
+            Post post = posts.get(postId);
+            if (post != null && !post.isDeleted()) {
+                liked.put(postId, post);
+            }
+        }
+
+        int size = paginationRequest.size();
+        List<Post> items = resolve(liked.page(paginationRequest.direction(), paginationRequest.page() * size, size));
+        long totalElements = liked.size();
+        return new PageResult<>(items, totalElements, PageUtil.calculateTotalPages(totalElements, size));
+    }
+
+    @Override
+    public List<Post> findAllByIds(Collection<Long> postIds) {
+        return resolve(postIds);
+    }
+
+    // id 가 클수록 나중에 작성된 게시글이므로, 최신 게시글부터 읽다가 since 이전 게시글을 만나면 멈춘다.
+    @Override
+    public List<PostActivity> findActivitiesSince(LocalDateTime since, int limit) {
+        List<PostActivity> activities = new ArrayList<>();
+        for (Post post : posts.descendingMap().values()) {
+            if (activities.size() >= limit || post.getCreatedAt().isBefore(since)) {
+                break;
+            }
+            if (post.isDeleted()) {
+                continue;
+            }
+            activities.add(new PostActivity(post.getId(), post.getViewCount(),
+                    postLikeRepository.countByPostId(post.getId()),
+                    commentRepository.countByPostId(post.getId()),
+                    post.getCreatedAt()));
+        }
+        return activities;
+    }
+
+    @Override
+    public List<PostDocument> findDocumentsAfter(Long lastPostId, int limit) {
+        NavigableMap<Long, Post> after = posts.tailMap(lastPostId, false);
+        return after.values().stream()
+                .filter(post -> !post.isDeleted())
+                .limit(limit)
+                .map(post -> new PostDocument(post.getId(), post.getTitle(), post.getBody()))
+                .toList();
+    }
+
+    private PageResult<Post> page(Map<PostSortKey, SortedIndex<Post>> source, PaginationRequest paginationRequest) {
+        int size = paginationRequest.size();
+        SortedIndex<Post> index = source.get(PostSortKey.from(paginationRequest.sortBy()));
+        List<Post> items = resolve(index.page(paginationRequest.direction(), paginationRequest.page() * size, size));
+
+        long totalElements = index.size();
+        return new PageResult<>(items, totalElements, PageUtil.calculateTotalPages(totalElements, size));
+    }
+
+    private boolean remove(Long postId) {
+        Post post = posts.remove(postId);
+        if (post == null) {
+            return false;
+        }
+        unindex(post);
+        postIdsByUserId.computeIfPresent(userId(post), (key, ids) -> {
+            ids.remove(postId);
+            return ids.isEmpty() ? null : ids;
+        });
+
+        commentRepository.deleteByPostId(postId);
+        postLikeRepository.deleteAllByPostId(postId);
+        return true;
+    }
+
+    private void index(Post post) {
+        Long id = post.getId();
+        indexes.values().forEach(index -> index.put(id, post));
+        indexesByUserId.computeIfAbsent(userId(post), key -> newIndexes())
+                .values()
+                .forEach(index -> index.put(id, post));
+    }
+
+    private void unindex(Post post) {
+        Long id = post.getId();
+        indexes.values().forEach(index -> index.remove(id));
+        indexesByUserId.computeIfPresent(userId(post), (key, userIndexes) -> {
+            userIndexes.values().forEach(index -> index.remove(id));
+            return userIndexes.get(PostSortKey.CREATED_AT).isEmpty() ? null : userIndexes;
+        });
+    }
+
+    private void reindex(Post post, PostSortKey sortKey) {
+        indexes.get(sortKey).put(post.getId(), post);
+        Map<PostSortKey, SortedIndex<Post>> userIndexes = indexesByUserId.get(userId(post));
+        if (userIndexes != null) {
+            userIndexes.get(sortKey).put(post.getId(), post);
+        }
+    }
+
+    // 색인에서 id 를 읽은 뒤 삭제된 게시글은 건너뛴다.
+    private List<Post> resolve(Collection<Long> ids) {
+        return ids.stream()
+                .map(posts::get)
+                .filter(post -> post != null && !post.isDeleted())
+                .toList();
+    }
+
+    private static Map<PostSortKey, SortedIndex<Post>> newIndexes() {
+        Map<PostSortKey, SortedIndex<Post>> indexes = new EnumMap<>(PostSortKey.class);
+        for (PostSortKey key : PostSortKey.values()) {
+            indexes.put(key, new SortedIndex<>(sortValue(key)));
+        }
+        return indexes;
+    }
+
+    private static Function<Post, Comparable<?>> sortValue(PostSortKey key) {
+        return switch (key) {
+            case CREATED_AT -> Post::getCreatedAt;
+            case VIEW_COUNT -> Post::getViewCount;
+            case TITLE -> Post::getTitle;
+        };
+    }
+
+    private static Long userId(Post post) {
+        return post.getUser().getId();
+    }
+}
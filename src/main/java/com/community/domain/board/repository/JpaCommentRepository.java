@@ -1,21 +1,31 @@
 package com.community.domain.board.repository;
 
 import com.community.domain.board.model.Comment;
+import com.community.domain.board.repository.dto.DeletedComments;
 import com.community.domain.common.page.PageResult;
 import com.community.domain.common.page.PaginationRequest;
 import com.community.domain.common.util.PageUtil;
+import com.community.domain.common.util.SortedQueries;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Primary
+@Profile("!inmemory")
 @Repository
 public class JpaCommentRepository implements CommentRepository {
 
+    private static final SortedQueries<CommentSortKey> FIND_BY_POST_ID = new SortedQueries<>(CommentSortKey.class,
+            "select c from Comment c join fetch c.user where c.post.id = :postId and c.post.deletedAt is null order by c.%s %s");
+
     @PersistenceContext
     private EntityManager em;
 
@@ -33,28 +43,33 @@ public class JpaCommentRepository implements CommentRepository {
 
     @Override
     public Optional<Comment> findById(Long commentId) {
-        return Optional.ofNullable(em.find(Comment.class, commentId));
+        return Optional.ofNullable(em.find(Comment.class, commentId))
+                .filter(comment -> !comment.getPost().isDeleted());
     }
 
+    /**
+     * 작성자를 함께 fetch join 하여 댓글마다 회원을 다시 조회하지 않도록 한다.
+     * 마지막 페이지처럼 size 보다 적게 조회되면 전체 개수를 계산할 수 있으므로 count 쿼리를 생략한다.
+     */
     @Override
     public PageResult<Comment> findByPostId(Long postId, PaginationRequest paginationRequest) {
         int page = paginationRequest.page();
         int size = paginationRequest.size();
         int offset = page * size;
 
-        String sortProperty = paginationRequest.sortBy();
-        String direction = PageUtil.resolveDirection(paginationRequest.direction());
-
-        String query = "select c from Comment c where c.post.id =:postId order by c." + sortProperty + " " + direction;
+        String query = FIND_BY_POST_ID.get(CommentSortKey.from(paginationRequest.sortBy()), paginationRequest.direction());
         List<Comment> comments = em.createQuery(query, Comment.class)
                 .setParameter("postId", postId)
                 .setFirstResult(offset)
                 .setMaxResults(size)
                 .getResultList();
 
-        Long totalElements = em.createQuery("select count(c) from Comment c where c.post.id = :postId", Long.class)
-                .setParameter("postId", postId)
-                .getSingleResult();
+        long totalElements;
+        if (comments.size() < size && (offset == 0 || !comments.isEmpty())) {
+            totalElements = offset + comments.size();
+        } else {
+            totalElements = countByPostId(postId);
+        }
 
         int totalPages = PageUtil.calculateTotalPages(totalElements, size);
 
@@ -63,7 +78,7 @@ public class JpaCommentRepository implements CommentRepository {
 
     @Override
     public Long countByPostId(Long postId) {
-        return em.createQuery("select count(c) from Comment c where c.post.id = :postId", Long.class)
+        return em.createQuery("select count(c) from Comment c where c.post.id = :postId and c.post.deletedAt is null", Long.class)
                 .setParameter("postId", postId).getSingleResult();
     }
 
@@ -80,4 +95,54 @@ public class JpaCommentRepository implements CommentRepository {
                 .setParameter("userId", userId)
                 .executeUpdate();
     }
+
+    @Override
+    public DeletedComments deleteChunkByPostAuthorId(Long userId, int limit) {
+        List<Object[]> rows = em.createQuery("select c.id, c.post.id from Comment c where c.post.user.id = :userId", Object[].class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return deleteRows(rows);
+    }
+
+    @Override
+    public DeletedComments deleteChunkByUserId(Long userId, int limit) {
+        List<Object[]> rows = em.createQuery("select c.id, c.post.id from Comment c where c.user.id = :userId", Object[].class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return deleteRows(rows);
+    }
+
+    @Override
+    public int deleteChunkByPostIds(Collection<Long> postIds, int limit) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = em.createQuery("select c.id from Comment c where c.post.id in :postIds", Long.class)
+                .setParameter("postIds", postIds)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return deleteAllByIds(ids);
+    }
+
+    // (댓글 id, 게시글 id) 행의 댓글을 지운다.
+    private DeletedComments deleteRows(List<Object[]> rows) {
+        List<Long> ids = rows.stream().map(row -> (Long) row[0]).toList();
+        Set<Long> postIds = rows.stream().map(row -> (Long) row[1]).collect(Collectors.toSet());
+
+        return new DeletedComments(deleteAllByIds(ids), postIds);
+    }
+
+    private int deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return em.createQuery("delete from Comment c where c.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
 }
@@ -4,11 +4,15 @@ import com.community.domain.board.model.PostLike;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Primary
+@Profile("!inmemory")
 @Repository
 public class JpaPostLikeRepository implements PostLikeRepository {
 
@@ -36,7 +40,7 @@ public class JpaPostLikeRepository implements PostLikeRepository {
 
     @Override
     public Boolean existsByPostIdAndUserId(Long postId, Long userId) {
-        Long result = em.createQuery("select count(p) from PostLike p where p.post.id = :postId and p.user.id = :userId", Long.class)
+        Long result = em.createQuery("select count(p) from PostLike p where p.post.id = :postId and p.user.id = :userId and p.post.deletedAt is null", Long.class)
                 .setParameter("postId", postId)
                 .setParameter("userId", userId)
                 .getSingleResult();
@@ -46,7 +50,7 @@ public class JpaPostLikeRepository implements PostLikeRepository {
 
     @Override
     public Optional<PostLike> findByPostIdAndUserId(Long postId, Long userId) {
-        return em.createQuery("select p from PostLike p where p.post.id = :postId and p.user.id = :userId", PostLike.class)
+        return em.createQuery("select p from PostLike p where p.post.id = :postId and p.user.id = :userId and p.post.deletedAt is null", PostLike.class)
                 .setParameter("postId", postId)
                 .setParameter("userId", userId)
                 .getResultStream().findFirst();
@@ -54,8 +58,50 @@ public class JpaPostLikeRepository implements PostLikeRepository {
 
     @Override
     public Long countByPostId(Long postId) {
-        return em.createQuery("select count(p) from PostLike p where p.post.id = :postId", Long.class)
+        return em.createQuery("select count(p) from PostLike p where p.post.id = :postId and p.post.deletedAt is null", Long.class)
                 .setParameter("postId", postId)
                 .getSingleResult();
     }
+
+    @Override
+    public int deleteChunkByPostAuthorId(Long userId, int limit) {
+        List<Long> ids = em.createQuery("select p.id from PostLike p where p.post.user.id = :userId", Long.class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return deleteAllByIds(ids);
+    }
+
+    @Override
+    public int deleteChunkByUserId(Long userId, int limit) {
+        List<Long> ids = em.createQuery("select p.id from PostLike p where p.user.id = :userId", Long.class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return deleteAllByIds(ids);
+    }
+
+    @Override
+    public int deleteChunkByPostIds(Collection<Long> postIds, int limit) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = em.createQuery("select p.id from PostLike p where p.post.id in :postIds", Long.class)
+                .setParameter("postIds", postIds)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return deleteAllByIds(ids);
+    }
+
+    private int deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return em.createQuery("delete from PostLike p where p.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
 }
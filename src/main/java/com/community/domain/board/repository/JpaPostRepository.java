@@ -1,24 +1,53 @@
 package com.community.domain.board.repository;
 
 import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.dto.PostActivity;
+import com.community.domain.board.repository.dto.PostDocument;
 import com.community.domain.common.page.PageResult;
 import com.community.domain.common.page.PaginationRequest;
 import com.community.domain.common.util.PageUtil;
+import com.community.domain.common.util.SortedQueries;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 @Primary
+@Profile("!inmemory")
 @Repository
 public class JpaPostRepository implements PostRepository {
 
+    // 스트림으로 읽은 게시글은 이 개수마다 영속성 컨텍스트에서 비운다.
+    static final int STREAM_CLEAR_INTERVAL = 500;
+
+    private static final SortedQueries<PostSortKey> FIND_ALL = new SortedQueries<>(PostSortKey.class,
+            "select p from Post p where p.deletedAt is null order by p.%s %s");
+    private static final SortedQueries<PostSortKey> FIND_BY_USER_ID = new SortedQueries<>(PostSortKey.class,
+            "select p from Post p join fetch p.user u where u.id = :userId and p.deletedAt is null order by p.%s %s");
+    private static final SortedQueries<PostSortKey> FIND_BY_POST_LIKE_USER_ID = new SortedQueries<>(PostSortKey.class,
+            "select p from PostLike pl join pl.post p where pl.user.id = :userId and p.deletedAt is null order by p.%s %s");
+
     @PersistenceContext
     private EntityManager em;
 
+    private final int exportFetchSize;
+
+    public JpaPostRepository(@Value("${application.post-export.fetch-size}") int exportFetchSize) {
+        this.exportFetchSize = exportFetchSize;
+    }
+
     @Override
     public Long save(Post post) {
         em.persist(post);
@@ -33,7 +62,47 @@ public class JpaPostRepository implements PostRepository {
 
     @Override
     public Optional<Post> findById(Long postId) {
-        return Optional.ofNullable(em.find(Post.class, postId));
+        return Optional.ofNullable(em.find(Post.class, postId))
+                .filter(post -> !post.isDeleted());
+    }
+
+    @Override
+    public void softDelete(Post post) {
+        post.softDelete();
+    }
+
+    @Override
+    public void restore(Post post) {
+        post.restore();
+    }
+
+    @Override
+    public void updateTitle(Post post, String title) {
+        post.updateTitle(title);
+    }
+
+    @Override
+    public Optional<Post> findDeletedById(Long postId) {
+        return Optional.ofNullable(em.find(Post.class, postId))
+                .filter(Post::isDeleted);
+    }
+
+    /**
+     * 복구와 삭제 배치가 같은 게시글을 동시에 처리하지 않도록 행을 잠근다.
+     */
+    @Override
+    public Optional<Post> findDeletedByIdForUpdate(Long postId) {
+        return Optional.ofNullable(em.find(Post.class, postId, LockModeType.PESSIMISTIC_WRITE))
+                .filter(Post::isDeleted);
+    }
+
+    @Override
+    public List<Post> findChunkDeletedBefore(LocalDateTime deletedBefore, int limit) {
+        return em.createQuery("select p from Post p where p.deletedAt < :deletedBefore order by p.id asc", Post.class)
+                .setParameter("deletedBefore", deletedBefore)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList();
     }
 
     @Override
@@ -42,16 +111,13 @@ public class JpaPostRepository implements PostRepository {
         int size = paginationRequest.size();
         int offset = page * size;
 
-        String sortProperty = resolveSortProperty(paginationRequest.sortBy());
-        String direction = PageUtil.resolveDirection(paginationRequest.direction());
-
-        String query = "select p from Post p order by p." + sortProperty + " " + direction;
+        String query = FIND_ALL.get(PostSortKey.from(paginationRequest.sortBy()), paginationRequest.direction());
         List<Post> posts = em.createQuery(query, Post.class)
                 .setFirstResult(offset)
                 .setMaxResults(size)
                 .getResultList();
 
-        Long totalElements = em.createQuery("select count(p) from Post p", Long.class)
+        Long totalElements = em.createQuery("select count(p) from Post p where p.deletedAt is null", Long.class)
                 .getSingleResult();
 
         int totalPages = PageUtil.calculateTotalPages(totalElements, size);
@@ -61,11 +127,53 @@ public class JpaPostRepository implements PostRepository {
 
     @Override
     public List<Post> findAllByUserId(Long userId) {
-        return em.createQuery("select p from Post p join fetch p.user u where u.id = :userId order by p.createdAt desc", Post.class)
+        return em.createQuery("select p from Post p join fetch p.user u where u.id = :userId and p.deletedAt is null order by p.createdAt desc", Post.class)
                 .setParameter("userId", userId)
                 .getResultList();
     }
 
+    // 회원 탈퇴 배치에서 사용하므로 삭제된 게시글도 함께 가져온다.
+    @Override
+    public List<Post> findChunkByUserId(Long userId, int limit) {
+        return em.createQuery("select p from Post p where p.user.id = :userId order by p.id asc", Post.class)
+                .setParameter("userId", userId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 회원의 게시글을 id 순으로 스트리밍한다. 스트림은 호출한 쪽의 트랜잭션 안에서 소비하고 닫아야 한다.
+     * fetch size 는 application.post-export.fetch-size 로, MySQL 은 Integer.MIN_VALUE 일 때 행 단위로 받는다(스트림을 닫기 전까지 같은 커넥션으로 다른 쿼리를 보낼 수 없다).
+     * 읽은 게시글이 영속성 컨텍스트에 쌓이지 않도록 STREAM_CLEAR_INTERVAL 개마다 비우므로, 받은 게시글은 준영속 상태로 다룬다.
+     */
+    @Override
+    public Stream<Post> streamByUserId(Long userId) {
+        AtomicLong read = new AtomicLong();
+        return em.createQuery("select p from Post p where p.user.id = :userId and p.deletedAt is null order by p.id asc", Post.class)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultStream()
+                .peek(post -> {
+                    if (read.incrementAndGet() % STREAM_CLEAR_INTERVAL == 0) {
+                        em.clear();
+                    }
+                });
+    }
+
+    @Override
+    public int deleteAllByIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = em.createQuery("delete from Post p where p.id in :postIds")
+                .setParameter("postIds", postIds)
+                .executeUpdate();
+        postIds.forEach(this::evictFromSecondLevelCache);
+        return deleted;
+    }
+
     @Override
     public PageResult<Post> findByUserId(Long userId, PaginationRequest paginationRequest) {
 
@@ -73,17 +181,14 @@ public class JpaPostRepository implements PostRepository {
         int size = paginationRequest.size();
         int offset = page * size;
 
-        String sortProperty = resolveSortProperty(paginationRequest.sortBy());
-        String direction = PageUtil.resolveDirection(paginationRequest.direction());
-
-        String query = "select p from Post p join fetch p.user u where u.id = :userId order by p." + sortProperty + " " + direction;
+        String query = FIND_BY_USER_ID.get(PostSortKey.from(paginationRequest.sortBy()), paginationRequest.direction());
         List<Post> posts = em.createQuery(query, Post.class)
                 .setParameter("userId", userId)
                 .setFirstResult(offset)
                 .setMaxResults(size)
                 .getResultList();
 
-        Long totalElements = em.createQuery("select count(p) from Post p where p.user.id = :userId", Long.class)
+        Long totalElements = em.createQuery("select count(p) from Post p where p.user.id = :userId and p.deletedAt is null", Long.class)
                 .setParameter("userId", userId)
                 .getSingleResult();
 
@@ -99,17 +204,14 @@ public class JpaPostRepository implements PostRepository {
         int size = paginationRequest.size();
         int offset = page * size;
 
-        String sortProperty = resolveSortProperty(paginationRequest.sortBy());
-        String direction = PageUtil.resolveDirection(paginationRequest.direction());
-
-        String query = "select p from PostLike pl join pl.post p where pl.user.id = :userId order by p." + sortProperty + " " + direction;
+        String query = FIND_BY_POST_LIKE_USER_ID.get(PostSortKey.from(paginationRequest.sortBy()), paginationRequest.direction());
         List<Post> posts = em.createQuery(query, Post.class)
                 .setParameter("userId", userId)
                 .setFirstResult(offset)
                 .setMaxResults(size)
                 .getResultList();
 
-        Long totalElements = em.createQuery("select count(p) from PostLike pl join pl.post p where pl.user.id = :userId", Long.class)
+        Long totalElements = em.createQuery("select count(p) from PostLike pl join pl.post p where pl.user.id = :userId and p.deletedAt is null", Long.class)
                 .setParameter("userId", userId)
                 .getSingleResult();
 
@@ -118,6 +220,41 @@ public class JpaPostRepository implements PostRepository {
         return new PageResult<>(posts, totalElements, totalPages);
     }
 
+    @Override
+    public List<Post> findAllByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return em.createQuery("select p from Post p join fetch p.user where p.id in :postIds and p.deletedAt is null", Post.class)
+                .setParameter("postIds", postIds)
+                .getResultList();
+    }
+
+    /**
+     * 인기 게시글 재계산용. 좋아요 / 댓글 수를 게시글마다 따로 세지 않고 한 번의 쿼리로 함께 가져온다.
+     */
+    @Override
+    public List<PostActivity> findActivitiesSince(LocalDateTime since, int limit) {
+        return em.createQuery("select new com.community.domain.board.repository.dto.PostActivity(" +
+                        "p.id, p.viewCount, " +
+                        "(select count(pl) from PostLike pl where pl.post = p), " +
+                        "(select count(c) from Comment c where c.post = p), " +
+                        "p.createdAt) " +
+                        "from Post p where p.createdAt >= :since and p.deletedAt is null order by p.id desc", PostActivity.class)
+                .setParameter("since", since)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<PostDocument> findDocumentsAfter(Long lastPostId, int limit) {
+        return em.createQuery("select new com.community.domain.board.repository.dto.PostDocument(p.id, p.title, p.body) " +
+                        "from Post p where p.id > :lastPostId and p.deletedAt is null order by p.id asc", PostDocument.class)
+                .setParameter("lastPostId", lastPostId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     @Override
     public void increaseViewCount(Long postId, long increment) {
         if (increment <= 0) {
@@ -127,16 +264,13 @@ public class JpaPostRepository implements PostRepository {
                 .setParameter("increment", increment)
                 .setParameter("postId", postId)
                 .executeUpdate();
+        evictFromSecondLevelCache(postId);
     }
 
-    private String resolveSortProperty(String sortBy) {
-        String normalized = sortBy.trim().toLowerCase();
-
-        return switch (normalized) {
-            case "viewcount" -> "viewCount";
-            case "title" -> "title";
-            case "createdat" -> "createdAt";
-            default -> "createdAt";
-        };
+    /**
+     * 벌크 JPQL 은 영속성 컨텍스트와 2차 캐시를 거치지 않으므로 바뀐 게시글을 직접 내린다. 2차 캐시가 꺼져 있으면 아무 일도 하지 않는다.
+     */
+    private void evictFromSecondLevelCache(Long postId) {
+        em.getEntityManagerFactory().getCache().evict(Post.class, postId);
     }
 }
@@ -0,0 +1,77 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.board.model.PostViewBucket;
+import com.community.domain.board.model.PostViewBucketId;
+import com.community.domain.board.model.ViewGranularity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class JpaPostViewBucketRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public PostViewBucket save(PostViewBucket bucket) {
+        em.persist(bucket);
+        return bucket;
+    }
+
+    /**
+     * 버킷이 없으면 만들고 있으면 더한다. 한 문장으로 처리하므로 여러 노드의 소비자가 같은 버킷을 동시에 올려도
+     * 없는 행을 잠그는 갭 락 교착이나 동시 insert 의 중복 키 오류 없이 증가분이 모두 반영된다.
+     * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 읽은 버킷 엔티티에는 반영되지 않는다.
+     */
+    public void increase(PostViewBucketId id, long views) {
+        em.createNativeQuery("insert into post_view_buckets (post_id, granularity, bucket_start, views) " +
+                        "values (:postId, :granularity, :bucketStart, :views) " +
+                        "on duplicate key update views = views + :views")
+                .setParameter("postId", id.getPostId())
+                .setParameter("granularity", id.getGranularity().name())
+                .setParameter("bucketStart", id.getBucketStart())
+                .setParameter("views", views)
+                .executeUpdate();
+    }
+
+    public List<PostViewBucket> findRange(Long postId, ViewGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return em.createQuery("select b from PostViewBucket b " +
+                        "where b.id.postId = :postId and b.id.granularity = :granularity " +
+                        "and b.id.bucketStart >= :from and b.id.bucketStart < :to " +
+                        "order by b.id.bucketStart asc", PostViewBucket.class)
+                .setParameter("postId", postId)
+                .setParameter("granularity", granularity)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+    }
+
+    /**
+     * 지우는 게시글의 버킷을 최대 limit 개 지운다. 복합 키라 id 목록으로 한 번에 지울 수 없으므로 읽은 버킷을 삭제하고,
+     * delete 는 hibernate.jdbc.batch_size 단위로 묶여 전송된다.
+     */
+    public int deleteChunkByPostIds(Collection<Long> postIds, int limit) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        List<PostViewBucket> buckets = em.createQuery("select b from PostViewBucket b where b.id.postId in :postIds", PostViewBucket.class)
+                .setParameter("postIds", postIds)
+                .setMaxResults(limit)
+                .getResultList();
+        buckets.forEach(em::remove);
+        em.flush();
+
+        return buckets.size();
+    }
+
+    public int deleteOlderThan(ViewGranularity granularity, LocalDateTime before) {
+        return em.createQuery("delete from PostViewBucket b where b.id.granularity = :granularity and b.id.bucketStart < :before")
+                .setParameter("granularity", granularity)
+                .setParameter("before", before)
+                .executeUpdate();
+    }
+}
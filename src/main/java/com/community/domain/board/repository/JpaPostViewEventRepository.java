@@ -5,6 +5,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -29,6 +30,26 @@ public class JpaPostViewEventRepository {
                 .getResultList();
     }
 
+    /**
+     * 지우는 게시글의 조회 이벤트를 상태와 관계없이 최대 limit 개 지운다. idx_post_view_events_post_id 로 찾는다.
+     */
+    public int deleteChunkByPostIds(Collection<Long> postIds, int limit) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = em.createQuery("select e.id from PostViewEvent e where e.postId in :postIds", Long.class)
+                .setParameter("postIds", postIds)
+                .setMaxResults(limit)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return em.createQuery("delete from PostViewEvent e where e.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
     public void updateStatus(Set<Long> ids) {
         em.createQuery("update PostViewEvent e set e.status = :eventType where e.id in :ids")
                 .setParameter("eventType", PostViewEvent.Status.DONE)
@@ -0,0 +1,42 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.board.model.PostViewSketch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public class JpaPostViewSketchRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public PostViewSketch save(PostViewSketch sketch) {
+        em.persist(sketch);
+        return sketch;
+    }
+
+    public Optional<PostViewSketch> findById(Long postId) {
+        return Optional.ofNullable(em.find(PostViewSketch.class, postId));
+    }
+
+    public int deleteAllByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        return em.createQuery("delete from PostViewSketch s where s.postId in :postIds")
+                .setParameter("postIds", postIds)
+                .executeUpdate();
+    }
+
+    /**
+     * 여러 노드가 같은 게시글의 스케치를 동시에 합쳐 저장할 때 한쪽의 레지스터가 덮어써지지 않도록 행을 잠근다.
+     */
+    public Optional<PostViewSketch> findByIdForUpdate(Long postId) {
+        return Optional.ofNullable(em.find(PostViewSketch.class, postId, LockModeType.PESSIMISTIC_WRITE));
+    }
+}
@@ -2,6 +2,7 @@ package com.community.domain.board.repository;
 
 import com.community.domain.board.model.PostLike;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface PostLikeRepository {
@@ -17,4 +18,10 @@ public interface PostLikeRepository {
     Optional<PostLike> findByPostIdAndUserId(Long postId, Long userId);
 
     Long countByPostId(Long postId);
+
+    int deleteChunkByPostAuthorId(Long userId, int limit);
+
+    int deleteChunkByUserId(Long userId, int limit);
+
+    int deleteChunkByPostIds(Collection<Long> postIds, int limit);
 }
@@ -1,21 +1,37 @@
 package com.community.domain.board.repository;
 
 import com.community.domain.board.model.Post;
-import com.community.domain.board.model.PostLike;
+import com.community.domain.board.repository.dto.PostActivity;
+import com.community.domain.board.repository.dto.PostDocument;
 import com.community.domain.common.page.PageResult;
 import com.community.domain.common.page.PaginationRequest;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository {
 
     Long save(Post post);
     void delete(Post post);
     Optional<Post> findById(Long postId);
+    void softDelete(Post post);
+    void restore(Post post);
+    void updateTitle(Post post, String title);
+    Optional<Post> findDeletedById(Long postId);
+    Optional<Post> findDeletedByIdForUpdate(Long postId);
+    List<Post> findChunkDeletedBefore(LocalDateTime deletedBefore, int limit);
     PageResult<Post> findAll(PaginationRequest paginationRequest);
     List<Post> findAllByUserId(Long userId);
+    List<Post> findChunkByUserId(Long userId, int limit);
+    Stream<Post> streamByUserId(Long userId);
+    int deleteAllByIds(List<Long> postIds);
     void increaseViewCount(Long postId, long increment);
     PageResult<Post> findByUserId(Long userId, PaginationRequest paginationRequest);
     PageResult<Post> findByPostLikeUserId(Long userId, PaginationRequest paginationRequest);
+    List<Post> findAllByIds(Collection<Long> postIds);
+    List<PostActivity> findActivitiesSince(LocalDateTime since, int limit);
+    List<PostDocument> findDocumentsAfter(Long lastPostId, int limit);
 }
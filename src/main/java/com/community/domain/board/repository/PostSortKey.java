@@ -0,0 +1,22 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.common.page.SortKey;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum PostSortKey implements SortKey {
+    CREATED_AT("createdAt"),
+    VIEW_COUNT("viewCount"),
+    TITLE("title");
+
+    private final String property;
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    public static PostSortKey from(String sortBy) {
+        return SortKey.resolve(PostSortKey.class, sortBy, CREATED_AT);
+    }
+}
@@ -0,0 +1,16 @@
+package com.community.domain.board.repository.dto;
+
+import java.util.Set;
+
+/**
+ * 청크 삭제로 지운 댓글 수와, 댓글 페이지 캐시를 비워야 하는 게시글 id
+ */
+public record DeletedComments(
+        int count,
+        Set<Long> postIds
+) {
+
+    public static DeletedComments none() {
+        return new DeletedComments(0, Set.of());
+    }
+}
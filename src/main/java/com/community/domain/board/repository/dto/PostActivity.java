@@ -0,0 +1,12 @@
+package com.community.domain.board.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record PostActivity(
+        Long postId,
+        Long viewCount,
+        Long likeCount,
+        Long commentCount,
+        LocalDateTime createdAt
+) {
+}
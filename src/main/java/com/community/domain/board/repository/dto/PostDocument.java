@@ -0,0 +1,8 @@
+package com.community.domain.board.repository.dto;
+
+public record PostDocument(
+        Long postId,
+        String title,
+        String body
+) {
+}
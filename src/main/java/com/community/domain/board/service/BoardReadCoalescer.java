@@ -0,0 +1,64 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.CommentSingleResponse;
+import com.community.domain.board.dto.response.PostSingleResponse;
+import com.community.domain.common.page.PageResponse;
+import com.community.domain.common.page.PaginationRequest;
+import com.community.domain.common.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 / 댓글 페이지 조회의 동시 요청을 SingleFlight 로 합친다.
+ * 인기 게시글에 요청이 몰려 캐시가 함께 비어 있을 때, 같은 조회가 DB 로 동시에 여러 번 나가지 않도록 하기 위함이다.
+ * 합쳐진(직접 조회하지 않고 기다린) 요청 수를 community.single_flight.collapsed 로 노출한다.
+ * 기다리는 요청이 커넥션을 잡지 않도록 트랜잭션 밖의 진입점(viewPost, getComments)에서만 호출하며,
+ * leader 만 읽기 전용 트랜잭션을 열어 조회한다.
+ * 이미 트랜잭션 안에서 호출되면 합치지 않고 그 트랜잭션에서 바로 조회한다.
+ * leader 는 자기 요청 스레드에서 조회하므로 조회 SQL 은 leader 요청의 쿼리 한도에만 집계되고, 기다린 요청에는 집계되지 않는다.
+ */
+@Component
+public class BoardReadCoalescer {
+
+    private final SingleFlight<Long, PostSingleResponse> postViews;
+    private final SingleFlight<CommentPageCache.PageKey, PageResponse<CommentSingleResponse>> commentPages;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BoardReadCoalescer(MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.postViews = new SingleFlight<>(collapsed(meterRegistry, "post-view")::increment);
+        this.commentPages = new SingleFlight<>(collapsed(meterRegistry, "comment-page")::increment);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public PostSingleResponse viewPost(Long postId, Supplier<PostSingleResponse> loader) {
+        return coalesce(postViews, postId, loader);
+    }
+
+    public PageResponse<CommentSingleResponse> commentPage(Long postId,
+                                                           PaginationRequest paginationRequest,
+                                                           Supplier<PageResponse<CommentSingleResponse>> loader) {
+        return coalesce(commentPages, CommentPageCache.PageKey.of(postId, paginationRequest), loader);
+    }
+
+    private <K, V> V coalesce(SingleFlight<K, V> flight, K key, Supplier<V> loader) {
+        // 이미 커넥션을 잡은 요청이 leader 를 기다리면 커넥션만 더 오래 잡으므로 합치지 않는다.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        return flight.execute(key, () -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+
+    private Counter collapsed(MeterRegistry meterRegistry, String flight) {
+        return Counter.builder("community.single_flight.collapsed")
+                .description("진행 중인 같은 조회를 기다려 결과를 공유받은 요청 수")
+                .tag("flight", flight)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,162 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.CommentSingleResponse;
+import com.community.domain.board.repository.CommentSortKey;
+import com.community.domain.common.page.PageResponse;
+import com.community.domain.common.page.PaginationRequest;
+import com.community.domain.common.util.Hashing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글별 앞쪽 댓글 페이지 캐시. 페이지를 게시글 단위로 묶어 두고, 전체 페이지 수가 max-entries 를 넘으면
+ * 가장 오래 사용하지 않은 게시글의 페이지부터 제거한다. ttl-ms 가 지나면 다시 조회한다.
+ * 캐시에 페이지가 있으면 게시글이 존재한다는 뜻이므로 게시글 존재 확인도 생략된다.
+ * 작성자 닉네임 / 프로필 변경은 무효화하지 않으므로 TTL 동안은 이전 값이 보일 수 있다.
+ */
+@Component
+public class CommentPageCache {
+
+    // 비트 마스크로 고르므로 2 의 거듭제곱이어야 한다.
+    private static final int VERSION_STRIPES = 64;
+
+    private final int maxEntries;
+    private final long ttlMs;
+    private final int cachedPages;
+
+    // LinkedHashMap 의 접근 순서 갱신은 조회도 구조를 바꾸므로 모든 접근을 잠근다.
+    private final ReentrantLock lock = new ReentrantLock();
+    // 무효화는 게시글의 맵 하나만 지우면 되므로 전체 페이지를 훑지 않는다.
+    private final LinkedHashMap<Long, Map<PageKey, CachedPage>> pagesByPost = new LinkedHashMap<>(16, 0.75f, true);
+    private int size;
+    // 조회 중에 무효화가 일어나면 조회 결과를 캐시에 넣지 않기 위한 게시글(스트라이프)별 버전
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public CommentPageCache(@Value("${application.comment-cache.max-entries}") int maxEntries,
+                            @Value("${application.comment-cache.ttl-ms}") long ttlMs,
+                            @Value("${application.comment-cache.cached-pages}") int cachedPages) {
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+        this.cachedPages = cachedPages;
+    }
+
+    public PageResponse<CommentSingleResponse> get(Long postId,
+                                                   PaginationRequest paginationRequest,
+                                                   Supplier<PageResponse<CommentSingleResponse>> loader) {
+        if (paginationRequest.page() >= cachedPages) {
+            return loader.get();
+        }
+
+        PageKey key = PageKey.of(postId, paginationRequest);
+        long now = System.currentTimeMillis();
+        CachedPage cached = find(key, now);
+        if (cached != null) {
+            return cached.response();
+        }
+
+        long version = versions.get(stripe(postId));
+        PageResponse<CommentSingleResponse> response = loader.get();
+        putIfNotInvalidated(key, new CachedPage(response, now + ttlMs), version);
+        return response;
+    }
+
+    /**
+     * 바로 무효화하고, 커밋 전에 다른 요청이 이전 데이터를 다시 캐시했을 수 있으므로 커밋 후 한 번 더 무효화한다.
+     */
+    public void evict(Long postId) {
+        invalidate(postId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(postId);
+                }
+            });
+        }
+    }
+
+    private CachedPage find(PageKey key, long now) {
+        lock.lock();
+        try {
+            Map<PageKey, CachedPage> pages = pagesByPost.get(key.postId());
+            CachedPage cached = pages != null ? pages.get(key) : null;
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt() <= now) {
+                pages.remove(key);
+                size--;
+                if (pages.isEmpty()) {
+                    pagesByPost.remove(key.postId());
+                }
+                return null;
+            }
+            return cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void putIfNotInvalidated(PageKey key, CachedPage page, long version) {
+        lock.lock();
+        try {
+            if (versions.get(stripe(key.postId())) != version) {
+                return;
+            }
+            if (pagesByPost.computeIfAbsent(key.postId(), postId -> new HashMap<>()).put(key, page) == null) {
+                size++;
+            }
+            evictEldest();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void invalidate(Long postId) {
+        lock.lock();
+        try {
+            versions.incrementAndGet(stripe(postId));
+            Map<PageKey, CachedPage> removed = pagesByPost.remove(postId);
+            if (removed != null) {
+                size -= removed.size();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictEldest() {
+        Iterator<Map<PageKey, CachedPage>> eldest = pagesByPost.values().iterator();
+        while (size > maxEntries && eldest.hasNext()) {
+            size -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+
+    // TSID 는 하위 비트가 치우쳐 그대로 나누면 대부분 같은 스트라이프에 몰리므로 섞은 뒤 고른다.
+    private int stripe(Long postId) {
+        return (int) (Hashing.mix(postId) & (VERSION_STRIPES - 1));
+    }
+
+    // 같은 정렬로 해석되는 sortBy 값들이 항목을 따로 차지하지 않도록 정렬 키로 변환해 둔다.
+    record PageKey(Long postId, int page, int size, CommentSortKey sortKey, PaginationRequest.SortDirection direction) {
+
+        static PageKey of(Long postId, PaginationRequest request) {
+            return new PageKey(postId, request.page(), request.size(), CommentSortKey.from(request.sortBy()), request.direction());
+        }
+    }
+
+    private record CachedPage(PageResponse<CommentSingleResponse> response, long expiresAt) {
+    }
+}
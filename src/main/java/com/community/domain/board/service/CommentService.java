@@ -4,6 +4,9 @@ import com.community.domain.board.dto.request.CommentRequest;
 
 import com.community.domain.board.dto.response.*;
 
+import com.community.domain.board.event.CommentAdded;
+import com.community.domain.board.event.CommentDeleted;
+
 import com.community.domain.board.model.Comment;
 import com.community.domain.board.model.Post;
 import com.community.domain.board.repository.CommentRepository;
@@ -14,10 +17,12 @@ import com.community.domain.common.page.PaginationRequest;
 import com.community.domain.user.model.User;
 import com.community.domain.user.repository.UserRepository;
 import com.community.global.exception.CustomException;
+import com.community.global.event.DomainEventBus;
 import com.community.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -30,43 +35,39 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-
-    @Transactional(readOnly = true)
+    private final CommentPageCache commentPageCache;
+    private final BoardReadCoalescer readCoalescer;
+    private final DomainEventBus eventBus;
+
+    /**
+     * 캐시 적중과 합쳐진 요청이 커넥션을 잡지 않도록 트랜잭션을 열지 않고(SUPPORTS) 처리하며, 조회는 leader 의 읽기 전용 트랜잭션에서 한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<CommentSingleResponse> getComments(Long postId, PaginationRequest paginationRequest) {
-        ensurePostExists(postId);
-
-        PageResult<Comment> pageResult = commentRepository.findByPostId(postId, paginationRequest);
-
-        List<CommentSingleResponse> items = pageResult.items().stream()
-                .map(this::toSingleResponse)
-                .toList();
-
-        return new PageResponse<>(
-                items,
-                pageResult.totalElements(),
-                pageResult.totalPages(),
-                paginationRequest.page(),
-                paginationRequest.size());
+        return commentPageCache.get(postId, paginationRequest,
+                () -> readCoalescer.commentPage(postId, paginationRequest, () -> loadComments(postId, paginationRequest)));
     }
 
     public CommentIdResponse createComment(Long postId, Long authorId, CommentRequest request) {
         Post post = postRepository.findById(postId).orElseThrow(
                 ()-> new CustomException(ErrorCode.POST_NOT_FOUND)
         );
-        User author = userRepository.findById(authorId).orElseThrow(
-                () -> new CustomException(ErrorCode.NOT_FOUND_USER)
-        );
+        User author = findActiveUser(authorId);
 
         Comment comment = new Comment(post, author, request.getBody());
         Long id = commentRepository.save(comment);
+        commentPageCache.evict(postId);
+        eventBus.publish(new CommentAdded(postId, toSingleResponse(comment)));
         return new CommentIdResponse(id);
     }
 
     @PreAuthorize("hasPermission(#commentId , 'COMMENT', {'PUT', #postId})")
     public CommentIdResponse updateComment(Long postId, Long commentId, Long authorId, CommentRequest request) {
+        findActiveUser(authorId);
         Comment comment = findComment(commentId);
 
         comment.updateBody(request.getBody());
+        commentPageCache.evict(postId);
         return new CommentIdResponse(comment.getId());
     }
 
@@ -75,6 +76,8 @@ public class CommentService {
         Comment comment = findComment(commentId);
 
         commentRepository.delete(comment);
+        commentPageCache.evict(postId);
+        eventBus.publish(new CommentDeleted(postId, commentId));
     }
 
     @Transactional(readOnly = true)
@@ -82,11 +85,40 @@ public class CommentService {
         return commentRepository.countByPostId(postId);
     }
 
+    // 삭제된 게시글의 댓글은 조회되지 않으므로, 댓글이 조회되면 게시글 존재 확인은 생략한다.
+    private PageResponse<CommentSingleResponse> loadComments(Long postId, PaginationRequest paginationRequest) {
+        PageResult<Comment> pageResult = commentRepository.findByPostId(postId, paginationRequest);
+        if (pageResult.items().isEmpty()) {
+            ensurePostExists(postId);
+        }
+
+        List<CommentSingleResponse> items = pageResult.items().stream()
+                .map(this::toSingleResponse)
+                .toList();
+
+        return new PageResponse<>(
+                items,
+                pageResult.totalElements(),
+                pageResult.totalPages(),
+                paginationRequest.page(),
+                paginationRequest.size());
+    }
+
     private void ensurePostExists(Long postId) {
         postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
     }
 
+    // 탈퇴를 요청한 회원은 탈퇴 작업이 지나간 뒤에 남을 댓글을 만들지 못한다.
+    private User findActiveUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+        if (user.isDeactivated()) {
+            throw new CustomException(ErrorCode.DEACTIVATED_USER);
+        }
+        return user;
+    }
+
     private Comment findComment(Long commentId) {
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
@@ -98,14 +130,6 @@ public class CommentService {
                 comment.getBody(),
                 comment.getUpdatedAt());
 
-        AuthorResponse authorResponse = toAuthor(comment.getUser().getId());
-
-        return new CommentSingleResponse(commentContent, authorResponse);
-    }
-
-    private AuthorResponse toAuthor(Long authorId) {
-        User user = userRepository.findById(authorId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
-        return new AuthorResponse(user.getId(), user.getNickname(), user.getImageUrl());
+        return new CommentSingleResponse(commentContent, AuthorResponse.from(comment.getUser()));
     }
 }
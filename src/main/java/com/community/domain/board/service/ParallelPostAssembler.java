@@ -0,0 +1,103 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.AuthorResponse;
+import com.community.domain.board.dto.response.PostContent;
+import com.community.domain.board.dto.response.PostSingleResponse;
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.CommentRepository;
+import com.community.domain.board.repository.PostLikeRepository;
+import com.community.domain.user.repository.UserRepository;
+import com.community.global.sql.QueryCountHolder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 단건 응답에 필요한 좋아요 수 / 댓글 수 / 작성자 조회를 가상 스레드에서 동시에 실행한다.
+ * 각 조회는 별도의 읽기 전용 트랜잭션(커넥션)을 사용하며, timeout 을 넘기거나 실패하면 대체 값으로 응답한다.
+ * replica 라우팅이 요청한 회원의 read-your-writes 를 판단할 수 있도록 호출 스레드의 SecurityContext 를 조회 스레드에 넘긴다.
+ * 조회 SQL 이 요청의 쿼리 한도에 집계되도록 QueryCountContext 도 함께 넘긴다.
+ * 호출 스레드의 커넥션 1개 + 조회 3개를 동시에 사용하므로 커넥션 풀 크기를 고려해 켜야 한다.
+ */
+@Slf4j
+@Component
+public class ParallelPostAssembler {
+
+    private final PostLikeRepository postLikeRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+    @Value("${application.post-assembly.parallel-enabled}")
+    private boolean ENABLED;
+
+    @Value("${application.post-assembly.timeout-ms}")
+    private long TIMEOUT_MS;
+
+    public ParallelPostAssembler(PostLikeRepository postLikeRepository,
+                                 CommentRepository commentRepository,
+                                 UserRepository userRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.postLikeRepository = postLikeRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public PostSingleResponse assemble(Post post) {
+        Long postId = post.getId();
+        Long authorId = post.getUser().getId();
+
+        CompletableFuture<Long> likeCount = supply("likeCount", postId,
+                () -> postLikeRepository.countByPostId(postId), 0L);
+        CompletableFuture<Long> commentCount = supply("commentCount", postId,
+                () -> commentRepository.countByPostId(postId), 0L);
+        CompletableFuture<AuthorResponse> author = supply("author", postId,
+                () -> userRepository.findById(authorId).map(AuthorResponse::from).orElse(AuthorResponse.unknown(authorId)),
+                AuthorResponse.unknown(authorId));
+
+        return new PostSingleResponse(
+                PostContent.from(post, likeCount.join(), commentCount.join()),
+                author.join()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> supply(String name, Long postId, Supplier<T> query, T fallback) {
+        return CompletableFuture.supplyAsync(
+                        QueryCountHolder.propagate(() -> readOnlyTransaction.execute(status -> query.get())), executor)
+                .completeOnTimeout(null, TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("[ParallelPostAssembler] {} failed for postId={}", name, postId, e);
+                    return fallback;
+                })
+                .thenApply(result -> {
+                    if (result == null) {
+                        log.warn("[ParallelPostAssembler] {} timed out for postId={}", name, postId);
+                        return fallback;
+                    }
+                    return result;
+                });
+    }
+}
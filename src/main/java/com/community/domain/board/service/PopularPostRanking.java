@@ -0,0 +1,266 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.event.BoardEvent;
+import com.community.domain.board.event.CommentAdded;
+import com.community.domain.board.event.CommentDeleted;
+import com.community.domain.board.event.LikeToggled;
+import com.community.domain.board.event.PostDeleted;
+import com.community.domain.board.event.PostRestored;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.board.repository.dto.PostActivity;
+import com.community.global.event.DomainEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 조회 / 좋아요 / 댓글에 시간 감쇠 가중치를 준 인기 게시글 순위.
+ * forward decay 방식으로 이벤트 가중치에 exp(λ(t - landmark)) 를 곱해 더하므로, 시간이 흘러도 기존 점수를 다시 계산하지 않고 순서가 유지된다.
+ * 점수 순으로 정렬된 skip list 를 유지하므로 상위 k 개 조회는 O(k) 이다.
+ * 주기적인 재구성에서 landmark 를 현재 시각으로 옮겨 점수가 커지는 것을 막고, 메모리에 없는 최근 게시글을 DB 집계로 채운다.
+ */
+@Component
+@Slf4j
+public class PopularPostRanking implements DomainEventListener<BoardEvent> {
+
+    static final double VIEW_WEIGHT = 1.0;
+    static final double LIKE_WEIGHT = 5.0;
+    static final double COMMENT_WEIGHT = 3.0;
+
+    private static final Comparator<Entry> BY_SCORE_DESC = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::postId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+    private final double decayRatePerMs;
+    private final int capacity;
+    private final Duration window;
+
+    // 점수 갱신은 read lock 으로 서로 동시에 진행하고, 재구성 시 교체만 write lock 으로 막는다.
+    private final ReentrantReadWriteLock boardLock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Board board;
+
+    public PopularPostRanking(PostRepository postRepository,
+                              @Value("${application.popular-posts.half-life-hours}") double halfLifeHours,
+                              @Value("${application.popular-posts.capacity}") int capacity,
+                              @Value("${application.popular-posts.window-days}") int windowDays) {
+        this.postRepository = postRepository;
+        this.decayRatePerMs = Math.log(2) / Duration.ofMinutes(Math.round(halfLifeHours * 60)).toMillis();
+        this.capacity = capacity;
+        this.window = Duration.ofDays(windowDays);
+        this.board = new Board(System.currentTimeMillis());
+    }
+
+    public void recordViews(Long postId, long count) {
+        afterCommit(() -> add(postId, VIEW_WEIGHT * count, System.currentTimeMillis()));
+    }
+
+    @Override
+    public Class<BoardEvent> eventType() {
+        return BoardEvent.class;
+    }
+
+    /**
+     * 커밋된 좋아요 / 댓글 이벤트를 게시글별로 합산해 게시글마다 한 번만 갱신한다.
+     */
+    @Override
+    public void onEvents(List<BoardEvent> events) {
+        Map<Long, Double> weights = new HashMap<>();
+        for (BoardEvent event : events) {
+            switch (event) {
+                case LikeToggled toggled -> weights.merge(toggled.postId(), toggled.liked() ? LIKE_WEIGHT : -LIKE_WEIGHT, Double::sum);
+                case CommentAdded added -> weights.merge(added.postId(), COMMENT_WEIGHT, Double::sum);
+                case CommentDeleted deleted -> weights.merge(deleted.postId(), -COMMENT_WEIGHT, Double::sum);
+                case PostDeleted deleted -> {
+                    weights.remove(deleted.postId());
+                    remove(deleted.postId());
+                }
+                // 삭제 시 버린 점수는 알 수 없으므로, 복구된 게시글은 다음 재구성에서 DB 집계로 다시 채운다.
+                case PostRestored restored -> {
+                }
+                default -> {
+                }
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        weights.forEach((postId, weight) -> {
+            if (weight != 0) {
+                add(postId, weight, now);
+            }
+        });
+    }
+
+    public void remove(Long postId) {
+        boardLock.readLock().lock();
+        try {
+            board.remove(postId);
+        } finally {
+            boardLock.readLock().unlock();
+        }
+    }
+
+    public List<Long> topPostIds(int limit) {
+        return board.ranking.stream()
+                .limit(limit)
+                .map(Entry::postId)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${application.popular-posts.rebuild-delay-ms}",
+            initialDelayString = "${application.popular-posts.rebuild-delay-ms}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildBoard(System.currentTimeMillis());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    void add(Long postId, double weight, long nowMillis) {
+        boardLock.readLock().lock();
+        try {
+            Board current = board;
+            current.add(postId, weight * decayFactor(nowMillis, current.landmarkMillis));
+            current.trim(capacity);
+        } finally {
+            boardLock.readLock().unlock();
+        }
+    }
+
+    void rebuildBoard(long nowMillis) {
+        List<PostActivity> activities;
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(window);
+            activities = postRepository.findActivitiesSince(since, capacity);
+        } catch (RuntimeException e) {
+            log.warn("[PopularPostRanking] rebuild failed, keeping previous ranking", e);
+            return;
+        }
+
+        boardLock.writeLock().lock();
+        try {
+            Board previous = board;
+            Board next = new Board(nowMillis);
+
+            // 모든 점수에 같은 값을 곱하므로 순서는 그대로이고 landmark 만 옮겨진다.
+            double rescale = decayFactor(previous.landmarkMillis, nowMillis);
+            previous.scores.values().forEach(entry -> next.add(entry.postId(), entry.score() * rescale));
+
+            // 메모리에 없는 게시글은 누적 활동이 작성 시각에 일어났다고 보고 점수를 추정한다.
+            for (PostActivity activity : activities) {
+                if (!next.scores.containsKey(activity.postId())) {
+                    next.add(activity.postId(), activityWeight(activity) * decayFactor(toEpochMillis(activity.createdAt()), nowMillis));
+                }
+            }
+
+            next.trim(capacity);
+            board = next;
+            log.info("[PopularPostRanking] rebuilt with {} posts", next.scores.size());
+        } finally {
+            boardLock.writeLock().unlock();
+        }
+    }
+
+    private double decayFactor(long eventMillis, long landmarkMillis) {
+        return Math.exp(decayRatePerMs * (eventMillis - landmarkMillis));
+    }
+
+    private double activityWeight(PostActivity activity) {
+        return VIEW_WEIGHT * activity.viewCount()
+                + LIKE_WEIGHT * activity.likeCount()
+                + COMMENT_WEIGHT * activity.commentCount();
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 롤백된 조회수 집계가 점수에 남지 않도록 커밋 후에 반영한다.
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Entry(Long postId, double score) {
+    }
+
+    private static class Board {
+
+        private final long landmarkMillis;
+        private final ConcurrentHashMap<Long, Entry> scores = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(BY_SCORE_DESC);
+
+        private Board(long landmarkMillis) {
+            this.landmarkMillis = landmarkMillis;
+        }
+
+        // compute 가 게시글 단위로 잠기므로 같은 게시글의 skip list 항목 교체가 섞이지 않는다.
+        // 순위에 없는 게시글의 감소는 무시한다. 0점 항목이 자리를 차지하면 재구성에서 그 게시글을 DB 집계로 채우지 못한다.
+        private void add(Long postId, double delta) {
+            scores.compute(postId, (id, previous) -> {
+                if (previous == null && delta < 0) {
+                    return null;
+                }
+                double score = Math.max(0.0, (previous == null ? 0.0 : previous.score()) + delta);
+                if (previous != null) {
+                    ranking.remove(previous);
+                }
+                Entry next = new Entry(id, score);
+                ranking.add(next);
+                return next;
+            });
+        }
+
+        private void remove(Long postId) {
+            scores.computeIfPresent(postId, (id, previous) -> {
+                ranking.remove(previous);
+                return null;
+            });
+        }
+
+        // 가장 낮은 항목부터 제거한다. 그 사이 점수가 갱신된 게시글은 맵의 값이 바뀌어 있으므로 남겨 둔다.
+        private void trim(int capacity) {
+            while (scores.size() > capacity) {
+                Entry lowest = ranking.pollLast();
+                if (lowest == null) {
+                    return;
+                }
+                scores.remove(lowest.postId(), lowest);
+            }
+        }
+    }
+}
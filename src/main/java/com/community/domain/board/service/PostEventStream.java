@@ -0,0 +1,233 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.event.BoardEvent;
+import com.community.domain.board.event.CommentAdded;
+import com.community.domain.board.event.CommentDeleted;
+import com.community.domain.board.event.LikeToggled;
+import com.community.global.event.DomainEventListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글별 실시간 이벤트(SSE) 구독 관리. DomainEventBus 로 커밋된 댓글 / 좋아요 이벤트를 받아 구독자에게 전달한다.
+ * 연결은 비동기 서블릿(SseEmitter)으로 유지하므로 대기 중인 연결은 스레드를 점유하지 않고,
+ * 보낼 이벤트가 생긴 구독자만 가상 스레드에서 자신의 대기열을 비운다.
+ * 대기열(queue-capacity)이 가득 찬 느린 구독자는 연결을 끊는다. 클라이언트(EventSource)는 재연결 후 목록을 다시 조회하면 된다.
+ */
+@Component
+@Slf4j
+public class PostEventStream implements DomainEventListener<BoardEvent> {
+
+    static final String COMMENT_ADDED = "comment-added";
+    static final String COMMENT_DELETED = "comment-deleted";
+    static final String LIKE_TOGGLED = "like-toggled";
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService sender;
+    private final long timeoutMs;
+    private final int queueCapacity;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter droppedSubscribers;
+
+    @Autowired
+    public PostEventStream(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${application.post-events.timeout-ms}") long timeoutMs,
+                           @Value("${application.post-events.queue-capacity}") int queueCapacity) {
+        this(objectMapper, meterRegistry, Executors.newVirtualThreadPerTaskExecutor(), timeoutMs, queueCapacity);
+    }
+
+    PostEventStream(ObjectMapper objectMapper,
+                    MeterRegistry meterRegistry,
+                    ExecutorService sender,
+                    long timeoutMs,
+                    int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.sender = sender;
+        this.timeoutMs = timeoutMs;
+        this.queueCapacity = queueCapacity;
+        Gauge.builder("community.post_events.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("community.post_events.dropped")
+                .description("대기열이 가득 차 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(postId, emitter);
+
+        // 마지막 구독자가 빠지며 집합이 제거되는 것과 겹치지 않도록 compute 안에서 추가한다.
+        subscribers.compute(postId, (key, set) -> {
+            Set<Subscriber> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+            target.add(subscriber);
+            return target;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(subscriber::unregister);
+        emitter.onTimeout(subscriber::unregister);
+        emitter.onError(error -> subscriber.unregister());
+        return emitter;
+    }
+
+    @Override
+    public Class<BoardEvent> eventType() {
+        return BoardEvent.class;
+    }
+
+    @Override
+    public void onEvents(List<BoardEvent> events) {
+        for (BoardEvent event : events) {
+            switch (event) {
+                case CommentAdded added -> broadcast(added.postId(), COMMENT_ADDED, added);
+                case CommentDeleted deleted -> broadcast(deleted.postId(), COMMENT_DELETED, deleted);
+                case LikeToggled toggled -> broadcast(toggled.postId(), LIKE_TOGGLED, toggled);
+                default -> {
+                }
+            }
+        }
+    }
+
+    // 프록시 / 로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트를 보낸다.
+    @Scheduled(fixedDelayString = "${application.post-events.heartbeat-ms}",
+            initialDelayString = "${application.post-events.heartbeat-ms}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(Message.HEARTBEAT)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdown();
+    }
+
+    int subscriberCount(Long postId) {
+        Set<Subscriber> set = subscribers.get(postId);
+        return set == null ? 0 : set.size();
+    }
+
+    // 구독자가 없으면 직렬화도 하지 않고, 있으면 한 번만 직렬화해 모든 구독자가 공유한다.
+    private void broadcast(Long postId, String name, Object payload) {
+        Set<Subscriber> targets = subscribers.get(postId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("[PostEventStream] failed to serialize {} for post {}", name, postId, e);
+            return;
+        }
+
+        Message message = new Message(name, data);
+        targets.forEach(subscriber -> subscriber.offer(message));
+    }
+
+    private record Message(String name, String data) {
+
+        private static final Message HEARTBEAT = new Message(null, null);
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueCapacity);
+        // 구독자마다 전송 작업은 하나만 실행되어 이벤트 순서가 유지된다.
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean registered = new AtomicBoolean(true);
+
+        private Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Message message) {
+            if (!queue.offer(message)) {
+                if (message != Message.HEARTBEAT) {
+                    droppedSubscribers.increment();
+                    unregister();
+                    emitter.complete();
+                }
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while ((message = queue.poll()) != null) {
+                    emitter.send(message.toEvent());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+                unregister();
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            // 비운 직후 들어온 메시지는 offer 쪽에서 예약에 실패했을 수 있으므로 다시 확인한다.
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void unregister() {
+            if (!registered.compareAndSet(true, false)) {
+                return;
+            }
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(postId, (key, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.PostExportResponse;
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 회원의 게시글 전체를 NDJSON(한 줄에 게시글 하나)으로 응답에 바로 쓴다.
+ * 게시글을 목록으로 모으지 않고 스트림에서 한 건씩 꺼내 쓰므로, 게시글 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PostExportService {
+
+    static final int FLUSH_INTERVAL = 500;
+
+    private final PostRepository postRepository;
+    private final ObjectMapper objectMapper;
+    // 한 건마다 flush 하지 않고 FLUSH_INTERVAL 건마다 보낸다.
+    private final ObjectWriter writer;
+
+    public PostExportService(PostRepository postRepository, ObjectMapper objectMapper) {
+        this.postRepository = postRepository;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(PostExportResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 게시글을 out 에 쓰고 쓴 건수를 반환한다. out 은 닫지 않는다.
+     */
+    public long exportByUserId(Long userId, OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             Stream<Post> posts = postRepository.streamByUserId(userId)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 쓴다.
+            generator.setRootValueSeparator(null);
+
+            Iterator<Post> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, PostExportResponse.from(iterator.next()));
+                generator.writeRaw('\n');
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return written;
+    }
+}
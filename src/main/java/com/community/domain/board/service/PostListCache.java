@@ -0,0 +1,193 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.PostSingleResponse;
+import com.community.domain.board.repository.PostSortKey;
+import com.community.domain.common.page.PageResponse;
+import com.community.domain.common.page.PaginationRequest;
+import com.community.domain.common.util.SingleFlight;
+import com.community.global.datasource.PrimaryReadHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 앞쪽 페이지 캐시(stale-while-revalidate).
+ * soft-ttl-ms 가 지난 페이지도 바로 응답하고, 같은 페이지의 갱신을 백그라운드에서 한 번만 실행한다.
+ * hard-ttl-ms 가 지난 페이지는 응답하지 않고 다시 조회하며, 동시에 비어 있는 페이지 조회는 하나로 합친다.
+ * 게시글 작성 / 수정 / 삭제 시 모든 페이지를 무효화한다. 좋아요 / 댓글 / 조회 수는 갱신 주기만큼 늦게 반영될 수 있다.
+ * 캐시한 페이지는 모든 회원에게 응답하므로, 무효화 직후 복제가 늦은 replica 에서 읽어 작성자에게 자기 글이 빠진 목록을 보여 주지 않도록
+ * 캐시를 채우는 조회는 항상 primary 에서 한다. 조회 횟수는 페이지당 갱신 주기에 한 번 정도라 primary 부담은 작다.
+ * 캐시 적중은 커넥션을 쓰지 않도록 트랜잭션 밖에서 호출하고, loader 는 여기서 연 읽기 전용 트랜잭션 안에서 실행한다.
+ */
+@Slf4j
+@Component
+public class PostListCache {
+
+    private final int cachedPages;
+    private final int maxEntries;
+    private final long softTtlMs;
+    private final long hardTtlMs;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ConcurrentHashMap<PageKey, CachedPage> pages = new ConcurrentHashMap<>();
+    private final Set<PageKey> refreshing = ConcurrentHashMap.newKeySet();
+    private final SingleFlight<PageKey, PageResponse<PostSingleResponse>> loads;
+    private final ExecutorService refresher = Executors.newVirtualThreadPerTaskExecutor();
+    // 조회 중에 무효화가 일어나면 조회 결과를 캐시에 넣지 않기 위한 버전. 버전 확인과 저장 / 무효화는 lock 안에서 한다.
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Counter freshHits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    public PostListCache(PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${application.post-list-cache.cached-pages}") int cachedPages,
+                         @Value("${application.post-list-cache.max-entries}") int maxEntries,
+                         @Value("${application.post-list-cache.soft-ttl-ms}") long softTtlMs,
+                         @Value("${application.post-list-cache.hard-ttl-ms}") long hardTtlMs) {
+        this.cachedPages = cachedPages;
+        this.maxEntries = maxEntries;
+        this.softTtlMs = softTtlMs;
+        this.hardTtlMs = hardTtlMs;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.freshHits = requests(meterRegistry, "fresh");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.loads = new SingleFlight<>(() -> { });
+    }
+
+    public PageResponse<PostSingleResponse> get(PaginationRequest paginationRequest,
+                                                Supplier<PageResponse<PostSingleResponse>> loader) {
+        if (paginationRequest.page() >= cachedPages) {
+            return readOnlyTransaction.execute(status -> loader.get());
+        }
+
+        PageKey key = PageKey.of(paginationRequest);
+        long now = System.currentTimeMillis();
+        CachedPage cached = pages.get(key);
+        if (cached != null && now < cached.hardExpiresAt()) {
+            if (now < cached.softExpiresAt()) {
+                freshHits.increment();
+            } else {
+                staleHits.increment();
+                refreshAsync(key, loader);
+            }
+            return cached.response();
+        }
+
+        misses.increment();
+        return loads.execute(key, () -> load(key, loader));
+    }
+
+    /**
+     * 바로 무효화하고, 커밋 전에 다른 요청이 이전 목록을 다시 캐시했을 수 있으므로 커밋 후 한 번 더 무효화한다.
+     */
+    public void invalidate() {
+        clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+    private PageResponse<PostSingleResponse> load(PageKey key, Supplier<PageResponse<PostSingleResponse>> loader) {
+        long observed = version.get();
+        // 커넥션은 트랜잭션의 첫 쿼리에서 고르므로 트랜잭션을 primary 지정 구간 안에서 연다.
+        PageResponse<PostSingleResponse> response = PrimaryReadHolder.call(
+                () -> readOnlyTransaction.execute(status -> loader.get()));
+        putIfNotInvalidated(key, response, observed);
+        return response;
+    }
+
+    private void refreshAsync(PageKey key, Supplier<PageResponse<PostSingleResponse>> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            // 응답 뒤에 실행되므로 QueryCountContext 를 넘기지 않는다. 갱신 SQL 은 어느 요청의 한도에도 집계되지 않는다.
+            refresher.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    log.warn("[PostListCache] refresh failed for {}", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private void putIfNotInvalidated(PageKey key, PageResponse<PostSingleResponse> response, long observed) {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            if (version.get() != observed) {
+                return;
+            }
+            if (pages.size() >= maxEntries && !pages.containsKey(key)) {
+                return;
+            }
+            pages.put(key, new CachedPage(response, now + softTtlMs, now + hardTtlMs));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void clear() {
+        lock.lock();
+        try {
+            version.incrementAndGet();
+            pages.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("community.post_list_cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 같은 정렬로 해석되는 sortBy 값들이 항목을 따로 차지하지 않도록 정렬 키로 변환해 둔다.
+    private record PageKey(int page, int size, PostSortKey sortKey, PaginationRequest.SortDirection direction) {
+
+        static PageKey of(PaginationRequest request) {
+            return new PageKey(request.page(), request.size(), PostSortKey.from(request.sortBy()), request.direction());
+        }
+    }
+
+    private record CachedPage(PageResponse<PostSingleResponse> response, long softExpiresAt, long hardExpiresAt) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.CommentRepository;
+import com.community.domain.board.repository.JpaPostViewBucketRepository;
+import com.community.domain.board.repository.JpaPostViewEventRepository;
+import com.community.domain.board.repository.JpaPostViewSketchRepository;
+import com.community.domain.board.repository.PostLikeRepository;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.file.service.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 삭제 표시된 게시글을 복구 기간이 지난 뒤 백그라운드에서 청크 단위로 지운다.
+ * 한 번의 실행(트랜잭션)마다 최대 chunk-size 개의 댓글 / 좋아요 / 조회 이벤트 / 조회수 버킷만 지우고,
+ * 남은 자식 row 가 없으면 순 조회자 스케치와 게시글, 이미지를 지운다.
+ * 대상 게시글을 잠근 채 처리하므로 같은 게시글의 복구와 겹치지 않는다.
+ * 탈퇴한 회원의 게시글도 같은 단계(purge)로 지운다(UserDeletionService).
+ */
+@Service
+@Slf4j
+@Transactional
+public class PostPurgeService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final JpaPostViewEventRepository postViewEventRepository;
+    private final JpaPostViewBucketRepository postViewBucketRepository;
+    private final JpaPostViewSketchRepository postViewSketchRepository;
+    private final FileStorageService fileStorageService;
+    private final int chunkSize;
+    private final Duration gracePeriod;
+
+    public PostPurgeService(PostRepository postRepository,
+                            CommentRepository commentRepository,
+                            PostLikeRepository postLikeRepository,
+                            JpaPostViewEventRepository postViewEventRepository,
+                            JpaPostViewBucketRepository postViewBucketRepository,
+                            JpaPostViewSketchRepository postViewSketchRepository,
+                            FileStorageService fileStorageService,
+                            @Value("${application.post-purge.chunk-size}") int chunkSize,
+                            @Value("${application.post-purge.grace-period-ms}") long gracePeriodMs) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.postViewEventRepository = postViewEventRepository;
+        this.postViewBucketRepository = postViewBucketRepository;
+        this.postViewSketchRepository = postViewSketchRepository;
+        this.fileStorageService = fileStorageService;
+        this.chunkSize = chunkSize;
+        this.gracePeriod = Duration.ofMillis(gracePeriodMs);
+    }
+
+    /**
+     * 이 시각 이후에 삭제된 게시글만 복구할 수 있다. 그 이전에 삭제된 게시글은 지우는 중일 수 있다.
+     */
+    public LocalDateTime restorableSince() {
+        return LocalDateTime.now().minus(gracePeriod);
+    }
+
+    @Scheduled(fixedDelayString = "${application.post-purge.consumer-delay-ms}")
+    public void purgeChunk() {
+        List<Post> posts = postRepository.findChunkDeletedBefore(restorableSince(), chunkSize);
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        PurgedRows purged = purge(posts);
+        log.info("[PostPurge] posts={} {}", posts.size(), purged);
+    }
+
+    /**
+     * 게시글의 자식 row 를 댓글, 좋아요, 조회 이벤트, 조회수 버킷 순으로 한 종류만 최대 chunk-size 개 지운다.
+     * 남은 자식 row 가 없으면 스케치와 게시글, 이미지를 지운다. 호출한 트랜잭션 안에서 한 단계만 실행하므로
+     * 게시글이 모두 지워질 때까지(PurgedRows.posts() > 0) 다음 실행에서 다시 호출해야 한다.
+     */
+    public PurgedRows purge(List<Post> posts) {
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+
+        // 1) 댓글 / 좋아요 / 조회 기록
+        int deletedCount = commentRepository.deleteChunkByPostIds(postIds, chunkSize);
+        if (deletedCount > 0) {
+            return new PurgedRows(deletedCount, 0, 0, 0, 0);
+        }
+
+        deletedCount = postLikeRepository.deleteChunkByPostIds(postIds, chunkSize);
+        if (deletedCount > 0) {
+            return new PurgedRows(0, deletedCount, 0, 0, 0);
+        }
+
+        // 소비되기 전에 지워야 조회수 버킷이 지운 게시글에 다시 생기지 않는다. 소비된 이벤트도 함께 지운다.
+        deletedCount = postViewEventRepository.deleteChunkByPostIds(postIds, chunkSize);
+        if (deletedCount > 0) {
+            return new PurgedRows(0, 0, deletedCount, 0, 0);
+        }
+
+        deletedCount = postViewBucketRepository.deleteChunkByPostIds(postIds, chunkSize);
+        if (deletedCount > 0) {
+            return new PurgedRows(0, 0, 0, deletedCount, 0);
+        }
+
+        // 2) 게시글당 한 행인 스케치, 게시글과 게시글 이미지
+        List<String> imageUrls = posts.stream()
+                .map(Post::getImageUrl)
+                .filter(Objects::nonNull)
+                .toList();
+
+        postViewSketchRepository.deleteAllByPostIds(postIds);
+        postRepository.deleteAllByIds(postIds);
+        fileStorageService.deleteAll(imageUrls);
+        return new PurgedRows(0, 0, 0, 0, postIds.size());
+    }
+
+    public record PurgedRows(int comments, int likes, int viewEvents, int viewBuckets, int posts) {
+    }
+}
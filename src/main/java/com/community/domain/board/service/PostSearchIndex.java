@@ -0,0 +1,237 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.event.BoardEvent;
+import com.community.domain.board.event.PostCreated;
+import com.community.domain.board.event.PostDeleted;
+import com.community.domain.board.event.PostRestored;
+import com.community.domain.board.event.PostUpdated;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.board.repository.dto.PostDocument;
+import com.community.domain.common.util.NGramTokenizer;
+import com.community.global.event.DomainEventListener;
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목 / 본문의 메모리 역색인.
+ * 바이그램 단위로 색인하고, 검색어의 모든 바이그램을 포함한 게시글만 BM25 점수 순으로 반환한다.
+ * 제목의 토큰은 TITLE_BOOST 배의 빈도로 색인해 제목에 검색어가 있는 게시글이 앞에 오도록 한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PostSearchIndex implements DomainEventListener<BoardEvent> {
+
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final int TITLE_BOOST = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostRepository postRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    @Override
+    public Class<BoardEvent> eventType() {
+        return BoardEvent.class;
+    }
+
+    // 이벤트 버스가 커밋 후에 호출하므로 바로 반영한다.
+    @Override
+    public void onEvents(List<BoardEvent> events) {
+        for (BoardEvent event : events) {
+            switch (event) {
+                case PostCreated created -> put(created.postId(), created.title(), created.body(), true);
+                case PostUpdated updated -> put(updated.postId(), updated.title(), updated.body(), true);
+                case PostRestored restored -> put(restored.postId(), restored.title(), restored.body(), true);
+                case PostDeleted deleted -> {
+                    lock.writeLock().lock();
+                    try {
+                        removeDocument(deleted.postId());
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * offset / limit 은 점수 순으로 정렬한 결과에 적용한다.
+     */
+    public SearchHits search(String keyword, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(NGramTokenizer.bigrams(keyword)));
+        if (terms.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+
+        List<Hit> hits;
+        lock.readLock().lock();
+        try {
+            hits = score(terms);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Hit::postId, Comparator.reverseOrder()));
+
+        List<Long> postIds = hits.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(Hit::postId)
+                .toList();
+        return new SearchHits(postIds, hits.size());
+    }
+
+    /**
+     * 검색 결과 중 DB 에서 조회되지 않은 게시글을 뺀다.
+     * PostDeleted 가 전달되기 전에 검색된 삭제 게시글이 다음 검색에 다시 나오지 않도록 PostService 만 호출한다.
+     */
+    void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 버려진 생성 / 수정 이벤트를 반영하도록 모든 게시글을 다시 읽어 덮어쓴다.
+     * 버려진 삭제 이벤트의 게시글은 검색될 때 remove 로 빠진다.
+     */
+    @Override
+    public void onEventsDropped(long droppedCount) {
+        load(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        load(false);
+    }
+
+    private void load(boolean overwrite) {
+        long loaded = 0;
+        Long lastPostId = 0L;
+        try {
+            List<PostDocument> chunk;
+            do {
+                chunk = postRepository.findDocumentsAfter(lastPostId, LOAD_CHUNK_SIZE);
+                for (PostDocument document : chunk) {
+                    // 시작 시 로딩 중 수정된 게시글은 이미 최신 내용으로 색인되어 있으므로 덮어쓰지 않는다.
+                    put(document.postId(), document.title(), document.body(), overwrite);
+                    lastPostId = document.postId();
+                }
+                loaded += chunk.size();
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("[PostSearchIndex] load failed after {} posts", loaded, e);
+            return;
+        }
+        log.info("[PostSearchIndex] loaded {} posts", loaded);
+    }
+
+    private List<Hit> score(List<String> terms) {
+        List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return new ArrayList<>();
+            }
+            termPostings.add(posting);
+        }
+
+        // 가장 짧은 목록의 게시글만 후보로 보고 나머지 목록에 모두 있는지 확인한다.
+        Map<Long, Integer> shortest = termPostings.stream()
+                .min(Comparator.comparingInt(Map::size))
+                .orElseThrow();
+
+        int documentCount = documents.size();
+        double averageLength = (double) totalLength / documentCount;
+
+        List<Hit> hits = new ArrayList<>();
+        candidates:
+        for (Long postId : shortest.keySet()) {
+            double documentLength = documents.get(postId).length();
+            double score = 0;
+            for (Map<Long, Integer> posting : termPostings) {
+                Integer frequency = posting.get(postId);
+                if (frequency == null) {
+                    continue candidates;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                score += idf * frequency * (K1 + 1)
+                        / (frequency + K1 * (1 - B + B * documentLength / averageLength));
+            }
+            hits.add(new Hit(postId, score));
+        }
+        return hits;
+    }
+
+    private void put(Long postId, String title, String body, boolean overwrite) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        NGramTokenizer.bigrams(title).forEach(term -> frequencies.merge(term, TITLE_BOOST, Integer::sum));
+        NGramTokenizer.bigrams(body).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            if (!overwrite && documents.containsKey(postId)) {
+                return;
+            }
+            removeDocument(postId);
+
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(postId, frequency));
+            documents.put(postId, new Document(frequencies.keySet(), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocument(Long postId) {
+        Document previous = documents.remove(postId);
+        if (previous == null) {
+            return;
+        }
+
+        for (String term : previous.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(postId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= previous.length();
+    }
+
+    public record SearchHits(List<Long> postIds, long totalElements) {
+    }
+
+    private record Document(Collection<String> terms, int length) {
+    }
+
+    private record Hit(Long postId, double score) {
+    }
+}
@@ -3,6 +3,11 @@ package com.community.domain.board.service;
 import com.community.domain.board.dto.request.PostCreateRequest;
 import com.community.domain.board.dto.request.PostUpdateRequest;
 import com.community.domain.board.dto.response.*;
+import com.community.domain.board.event.LikeToggled;
+import com.community.domain.board.event.PostCreated;
+import com.community.domain.board.event.PostDeleted;
+import com.community.domain.board.event.PostRestored;
+import com.community.domain.board.event.PostUpdated;
 import com.community.domain.board.model.Post;
 import com.community.domain.board.model.PostLike;
 import com.community.domain.board.repository.PostLikeRepository;
@@ -10,46 +15,62 @@ import com.community.domain.board.repository.PostRepository;
 import com.community.domain.common.page.PageResponse;
 import com.community.domain.common.page.PageResult;
 import com.community.domain.common.page.PaginationRequest;
+import com.community.domain.common.util.PageUtil;
 import com.community.domain.file.service.FileStorageService;
 import com.community.domain.user.model.User;
 import com.community.domain.user.repository.UserRepository;
+import com.community.global.datasource.UnattributedWriteHolder;
 import com.community.global.exception.CustomException;
+import com.community.global.event.DomainEventBus;
 import com.community.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PostService {
 
+    private static final int MAX_POPULAR_SIZE = 20;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostLikeRepository postLikeRepository;
     private final FileStorageService fileStorageService;
     private final CommentService commentService;
+    private final ParallelPostAssembler parallelPostAssembler;
+    private final PopularPostRanking popularPostRanking;
+    private final PostSearchIndex postSearchIndex;
+    private final CommentPageCache commentPageCache;
+    private final PostListCache postListCache;
+    private final PostEventStream postEventStream;
+    private final BoardReadCoalescer readCoalescer;
+    private final PostViewSketches postViewSketches;
+    private final PostPurgeService postPurgeService;
+    private final DomainEventBus eventBus;
     private final PostViewEventService postViewEventService;
 
-    @Transactional(readOnly = true)
+    /**
+     * 캐시 적중이 트랜잭션 / 커넥션 없이 응답하도록 트랜잭션을 열지 않고(SUPPORTS), 조회는 PostListCache 가 연 읽기 전용 트랜잭션에서 한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PageResponse<PostSingleResponse> getPostList(PaginationRequest paginationRequest) {
-        PageResult<Post> pageResult = postRepository.findAll(paginationRequest);
-
-        List<PostSingleResponse> items = pageResult.items().stream()
-                .map(this::toSingleResponse)
-                .toList();
-
-        return new PageResponse<>(
-                items,
-                pageResult.totalElements(),
-                pageResult.totalPages(),
-                paginationRequest.page(),
-                paginationRequest.size());
+        return postListCache.get(paginationRequest, () -> loadPostList(paginationRequest));
     }
 
     @Transactional(readOnly = true)
@@ -86,53 +107,114 @@ public class PostService {
         );
     }
 
-    public PostSingleResponse viewPost(Long postId) {
-        Post post = findPost(postId);
-        postViewEventService.addEvent(postId);
+    /**
+     * 순위는 메모리에서 O(k) 로 가져오고, 게시글은 한 번의 쿼리로 조회한다.
+     * 순위에 남아 있지만 이미 삭제된 게시글은 결과에서 빼고 순위에서도 제거한다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostSingleResponse> getPopularPosts(int size) {
+        List<Long> postIds = popularPostRanking.topPostIds(Math.min(Math.max(size, 1), MAX_POPULAR_SIZE));
+        return toOrderedResponses(postIds, popularPostRanking::remove);
+    }
 
-        return toSingleResponse(post);
+    /**
+     * 검색 색인에서 관련도 순으로 id 를 가져온 뒤 게시글을 한 번의 쿼리로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PostSingleResponse> searchPosts(String keyword, PaginationRequest paginationRequest) {
+        int page = paginationRequest.page();
+        int size = paginationRequest.size();
+        PostSearchIndex.SearchHits hits = postSearchIndex.search(keyword, page * size, size);
+
+        return new PageResponse<>(
+                toOrderedResponses(hits.postIds(), postSearchIndex::remove),
+                hits.totalElements(),
+                PageUtil.calculateTotalPages(hits.totalElements(), size),
+                page,
+                size
+        );
+    }
+
+    /**
+     * 같은 게시글의 동시 조회는 하나의 조회 결과를 공유한다.
+     * 조회수 이벤트는 같은 회원의 반복 조회를 중복 제거 기간 동안 건너뛰고, 응답에는 순 조회자 수 추정치를 담는다.
+     * 기다리는 요청이 커넥션을 잡지 않도록 트랜잭션을 열지 않고(SUPPORTS) 합치며, 조회는 leader 의 읽기 전용 트랜잭션에서 한다.
+     * 조회 기록 저장은 회원의 쓰기가 아니므로 조회한 회원의 읽기를 primary 로 고정하지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostSingleResponse viewPost(Long postId, Long viewerId) {
+        PostSingleResponse response = readCoalescer.viewPost(postId, () -> assemble(findPost(postId)));
+        if (postViewSketches.recordView(postId, viewerId)) {
+            UnattributedWriteHolder.run(() -> postViewEventService.addEvent(postId));
+        }
+
+        return response.withUniqueViewCount(postViewSketches.uniqueViewCount(postId));
     }
 
     public PostIdResponse createPost(Long userId, PostCreateRequest req) {
+        User user = findActiveUser(userId);
         String imageUrl = fileStorageService.save(req.getFile());
-        User user = userRepository.findById(userId).orElseThrow(
-                () -> new CustomException(ErrorCode.NOT_FOUND_USER)
-        );
         Post post = new Post(user, req.getTitle(), imageUrl, req.getBody());
         Long id = postRepository.save(post);
+        postListCache.invalidate();
+        eventBus.publish(new PostCreated(id, post.getTitle(), post.getBody()));
 
         return new PostIdResponse(id);
     }
 
     @PreAuthorize("hasPermission(#postId, 'POST','PUT')")
     public PostIdResponse updatePost(Long postId, Long userId, PostUpdateRequest request) {
+        findActiveUser(userId);
         Post post = findPost(postId);
 
-        post.updateTitle(request.getTitle());
+        postRepository.updateTitle(post, request.getTitle());
         post.updateBody(request.getBody());
 
         MultipartFile image = request.getFile();
         if (image != null && !image.isEmpty()) {
-            String previousImageUrl = post.getImageUrl();
+            String replacedImageUrl = post.getImageUrl();
             String imageUrl = fileStorageService.save(image);
             post.updateImageUrl(imageUrl);
-            fileStorageService.delete(previousImageUrl);
+            deleteImageAfterCommit(replacedImageUrl);
         }
+        postListCache.invalidate();
+        eventBus.publish(new PostUpdated(post.getId(), post.getTitle(), post.getBody()));
 
         return new PostIdResponse(post.getId());
     }
 
+    /**
+     * 게시글에 삭제 표시만 하고, 댓글 / 좋아요 / 이미지는 복구 기간이 지난 뒤 PostPurgeService 가 지운다.
+     */
     @PreAuthorize("hasPermission(#postId, 'POST','DELETE')")
     public void deletePost(Long postId, Long userId) {
         Post post = findPost(postId);
 
-        fileStorageService.delete(post.getImageUrl());
-        postRepository.delete(post);
+        postRepository.softDelete(post);
+        commentPageCache.evict(postId);
+        postListCache.invalidate();
+        eventBus.publish(new PostDeleted(postId));
+    }
+
+    /**
+     * 복구 기간 안에 삭제된 게시글을 되살린다. 댓글 / 좋아요 / 이미지는 그 기간 동안 지우지 않으므로 그대로 돌아온다.
+     */
+    @PreAuthorize("hasPermission(#postId, 'POST','RESTORE')")
+    public PostIdResponse restorePost(Long postId, Long userId) {
+        Post post = postRepository.findDeletedByIdForUpdate(postId)
+                .filter(deleted -> deleted.getDeletedAt().isAfter(postPurgeService.restorableSince()))
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+
+        postRepository.restore(post);
+        postListCache.invalidate();
+        eventBus.publish(new PostRestored(post.getId(), post.getTitle(), post.getBody()));
+
+        return new PostIdResponse(post.getId());
     }
 
     public PostLikeResponse toggleLike(Long postId, Long userId) {
         Post post = findPost(postId);
-        User user = findUser(userId);
+        User user = findActiveUser(userId);
         Optional<PostLike> postLike = postLikeRepository.findByPostIdAndUserId(postId, userId);
 
         boolean liked = postLike.isPresent();
@@ -141,10 +223,20 @@ public class PostService {
         } else {
             postLikeRepository.save(new PostLike(post, user));
         }
+        eventBus.publish(new LikeToggled(postId, !liked));
 
         return new PostLikeResponse(!liked);
     }
 
+    /**
+     * 댓글 추가 / 삭제, 좋아요 변경을 커밋 후 SSE 로 전달받는 구독을 연다.
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeEvents(Long postId) {
+        findPost(postId);
+        return postEventStream.subscribe(postId);
+    }
+
     @Transactional(readOnly = true)
     public PostLikeResponse checkUserLikedPost(Long postId, Long userId) {
         findPost(postId);
@@ -153,11 +245,47 @@ public class PostService {
         return new PostLikeResponse(liked);
     }
 
+    private PageResponse<PostSingleResponse> loadPostList(PaginationRequest paginationRequest) {
+        PageResult<Post> pageResult = postRepository.findAll(paginationRequest);
+
+        List<PostSingleResponse> items = pageResult.items().stream()
+                .map(this::toSingleResponse)
+                .toList();
+
+        return new PageResponse<>(
+                items,
+                pageResult.totalElements(),
+                pageResult.totalPages(),
+                paginationRequest.page(),
+                paginationRequest.size());
+    }
+
     private AuthorResponse getAuthorResponse(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+        return AuthorResponse.from(findUser(userId));
+    }
 
-        return AuthorResponse.from(user);
+    private PostSingleResponse assemble(Post post) {
+        if (parallelPostAssembler.isEnabled()) {
+            return parallelPostAssembler.assemble(post);
+        }
+        return toSingleResponse(post);
+    }
+
+    // id 순서를 유지하고, 조회되지 않은 (이미 삭제된) 게시글은 onMissing 으로 넘긴다.
+    private List<PostSingleResponse> toOrderedResponses(List<Long> postIds, Consumer<Long> onMissing) {
+        Map<Long, Post> postsById = postRepository.findAllByIds(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<PostSingleResponse> items = new ArrayList<>(postIds.size());
+        for (Long postId : postIds) {
+            Post post = postsById.get(postId);
+            if (post == null) {
+                onMissing.accept(postId);
+                continue;
+            }
+            items.add(toSingleResponse(post));
+        }
+        return items;
     }
 
     private PostSingleResponse toSingleResponse(Post post) {
@@ -171,6 +299,24 @@ public class PostService {
         );
     }
 
+    // 롤백되면 이전 이미지가 다시 필요하므로 커밋 후에 지운다. 버려질 수 있는 이벤트 버스로 넘기면 파일이 남으므로 직접 지운다.
+    private void deleteImageAfterCommit(String imageUrl) {
+        if (imageUrl == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fileStorageService.deleteAll(List.of(imageUrl));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fileStorageService.deleteAll(List.of(imageUrl));
+            }
+        });
+    }
+
     private Post findPost(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
@@ -180,4 +326,13 @@ public class PostService {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
     }
+
+    // 탈퇴를 요청한 회원은 탈퇴 작업이 지나간 뒤에 남을 글 / 좋아요를 만들지 못한다.
+    private User findActiveUser(Long userId) {
+        User user = findUser(userId);
+        if (user.isDeactivated()) {
+            throw new CustomException(ErrorCode.DEACTIVATED_USER);
+        }
+        return user;
+    }
 }
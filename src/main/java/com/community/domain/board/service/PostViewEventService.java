@@ -25,7 +25,13 @@ public class PostViewEventService {
 
     private final JpaPostViewEventRepository jpaPostViewEventRepository;
     private final PostRepository postRepository;
+    private final PopularPostRanking popularPostRanking;
+    private final PostViewStatsService postViewStatsService;
 
+    /**
+     * 조회 기록은 조회수 / 통계의 원본이므로 이벤트 버스(대기열이 차면 버림)를 거치지 않고 요청 안에서 바로 저장한다.
+     * 조회수 반영, 통계, 순위 같은 파생 작업은 consumeBatch 가 저장된 기록을 묶어 처리한다.
+     */
     public void addEvent(Long postId) {
         jpaPostViewEventRepository.save(new PostViewEvent(postId));
     }
@@ -46,6 +52,8 @@ public class PostViewEventService {
         }
 
         countByPost.forEach(postRepository::increaseViewCount);
+        postViewStatsService.record(rows);
         jpaPostViewEventRepository.updateStatus(processedEventIds);
+        countByPost.forEach(popularPostRanking::recordViews);
     }
 }
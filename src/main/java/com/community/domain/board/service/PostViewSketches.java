@@ -0,0 +1,162 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.model.PostViewSketch;
+import com.community.domain.board.repository.JpaPostViewSketchRepository;
+import com.community.domain.common.util.BloomFilter;
+import com.community.domain.common.util.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 게시글별 순 조회자(회원) 수를 HyperLogLog 로 추정한다.
+ * 스케치는 메모리에서 갱신하고, 바뀐 스케치만 flush-delay-ms 마다 post_view_sketches 에 저장된 스케치와 합쳐 저장한다.
+ * 합친 결과를 메모리에도 반영하므로 다른 노드의 조회자도 다음 flush 이후의 추정치에 포함된다.
+ * 같은 회원의 반복 조회는 dedup-window-ms 동안 조회수 이벤트를 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class PostViewSketches {
+
+    // 2^11 byte 레지스터 = PostViewSketch.REGISTER_BYTES, 표준 오차 약 2.3%
+    static final int PRECISION = 11;
+    private static final double DEDUP_FALSE_POSITIVE_RATE = 0.01;
+
+    private final JpaPostViewSketchRepository repository;
+    private final TransactionTemplate transaction;
+    private final int maxSketches;
+    private final long dedupExpectedViews;
+
+    private final ConcurrentHashMap<Long, HyperLogLog> sketches = new ConcurrentHashMap<>();
+    // 스케치 갱신과 dirty 표시는 sketches.compute 안에서 함께 일어나므로, dirty 가 아닌 스케치만 메모리에서 내릴 수 있다.
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    // 직전 구간과 현재 구간의 (게시글, 회원) 조회 기록. 구간이 바뀌면 직전 구간을 버리므로 중복 제거 기간은 1~2 구간이다.
+    private volatile BloomFilter currentWindow;
+    private volatile BloomFilter previousWindow;
+
+    public PostViewSketches(JpaPostViewSketchRepository repository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${application.post-view-sketch.max-sketches}") int maxSketches,
+                            @Value("${application.post-view-sketch.dedup-expected-views}") long dedupExpectedViews) {
+        this.repository = repository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxSketches = maxSketches;
+        this.dedupExpectedViews = dedupExpectedViews;
+        this.currentWindow = newWindow();
+        this.previousWindow = newWindow();
+    }
+
+    /**
+     * 순 조회자 스케치에 회원을 추가하고, 중복 제거 기간 안에서 처음 본 조회이면 true 를 반환한다.
+     * 중복 확인은 블룸 필터로 하므로 드물게(약 1%) 처음 본 조회도 중복으로 판단될 수 있다.
+     */
+    public boolean recordView(Long postId, Long viewerId) {
+        HyperLogLog loaded = sketchOf(postId);
+        sketches.compute(postId, (id, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : loaded;
+            if (target.offer(viewerId)) {
+                dirty.add(id);
+            }
+            return target;
+        });
+
+        String key = postId + ":" + viewerId;
+        BloomFilter current = currentWindow;
+        if (current.mightContain(key) || previousWindow.mightContain(key)) {
+            return false;
+        }
+        current.put(key);
+        return true;
+    }
+
+    // 레지스터는 byte 단위로 갱신되므로 잠그지 않고 읽어도 조회 시점 전후의 추정치가 나온다.
+    public long uniqueViewCount(Long postId) {
+        return sketchOf(postId).estimate();
+    }
+
+    @Scheduled(fixedDelayString = "${application.post-view-sketch.dedup-window-ms}",
+            initialDelayString = "${application.post-view-sketch.dedup-window-ms}")
+    public void rotateWindow() {
+        previousWindow = currentWindow;
+        currentWindow = newWindow();
+    }
+
+    @Scheduled(fixedDelayString = "${application.post-view-sketch.flush-delay-ms}")
+    public void flush() {
+        List<Long> postIds = List.copyOf(dirty);
+        if (!postIds.isEmpty()) {
+            dirty.removeAll(postIds);
+            try {
+                transaction.executeWithoutResult(status -> postIds.forEach(this::persist));
+            } catch (RuntimeException e) {
+                dirty.addAll(postIds);
+                log.warn("[PostViewSketches] flush failed for {} posts", postIds.size(), e);
+            }
+        }
+        trim();
+    }
+
+    int sketchCount() {
+        return sketches.size();
+    }
+
+    private HyperLogLog sketchOf(Long postId) {
+        HyperLogLog sketch = sketches.get(postId);
+        if (sketch != null) {
+            return sketch;
+        }
+        HyperLogLog loaded = repository.findById(postId)
+                .map(stored -> HyperLogLog.fromBytes(stored.getRegisters()))
+                .orElseGet(() -> new HyperLogLog(PRECISION));
+        HyperLogLog existing = sketches.putIfAbsent(postId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void persist(Long postId) {
+        AtomicReference<HyperLogLog> snapshot = new AtomicReference<>();
+        sketches.computeIfPresent(postId, (id, sketch) -> {
+            snapshot.set(sketch.copy());
+            return sketch;
+        });
+        HyperLogLog local = snapshot.get();
+        if (local == null) {
+            return;
+        }
+
+        Optional<PostViewSketch> stored = repository.findByIdForUpdate(postId);
+        if (stored.isEmpty()) {
+            repository.save(new PostViewSketch(postId, local.toBytes()));
+            return;
+        }
+
+        HyperLogLog merged = HyperLogLog.fromBytes(stored.get().getRegisters());
+        merged.merge(local);
+        stored.get().updateRegisters(merged.toBytes());
+        sketches.computeIfPresent(postId, (id, sketch) -> {
+            sketch.merge(merged);
+            return sketch;
+        });
+    }
+
+    // 저장된 스케치는 다시 읽을 수 있으므로, 개수가 max-sketches 를 넘으면 저장이 끝난 스케치부터 메모리에서 내린다.
+    private void trim() {
+        Iterator<Long> postIds = sketches.keySet().iterator();
+        while (sketches.size() > maxSketches && postIds.hasNext()) {
+            sketches.computeIfPresent(postIds.next(), (id, sketch) -> dirty.contains(id) ? sketch : null);
+        }
+    }
+
+    private BloomFilter newWindow() {
+        return new BloomFilter(dedupExpectedViews, DEDUP_FALSE_POSITIVE_RATE);
+    }
+}
@@ -0,0 +1,155 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.PostViewStatsResponse;
+import com.community.domain.board.dto.response.ViewBucketResponse;
+import com.community.domain.board.model.PostViewBucket;
+import com.community.domain.board.model.PostViewBucketId;
+import com.community.domain.board.model.PostViewEvent;
+import com.community.domain.board.model.ViewGranularity;
+import com.community.domain.board.repository.JpaPostViewBucketRepository;
+import com.community.domain.board.repository.PostRepository;
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글별 분 / 시 / 일 단위 조회수 버킷.
+ * 조회 이벤트를 소비할 때 세 단위의 버킷에 함께 더하므로, 어느 구간이든 post_view_events 를 다시 읽지 않고 합쳐진 버킷으로 답한다.
+ * 오래된 버킷은 단위별 보관 기간이 지나면 지우고, 더 큰 단위의 버킷만 남겨 해상도를 낮춘다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class PostViewStatsService {
+
+    static final int MAX_BUCKETS = 1_500;
+    // 단위를 지정하지 않으면 버킷 수가 이 값을 넘지 않는 가장 작은 단위를 쓴다.
+    static final int PREFERRED_BUCKETS = 360;
+    private static final Duration DEFAULT_RANGE = Duration.ofHours(24);
+
+    // 여러 버킷을 올리는 트랜잭션끼리 행 잠금을 같은 순서로 잡아 교착을 피한다.
+    private static final Comparator<PostViewBucketId> LOCK_ORDER = Comparator
+            .comparing(PostViewBucketId::getPostId)
+            .thenComparing(PostViewBucketId::getGranularity)
+            .thenComparing(PostViewBucketId::getBucketStart);
+
+    private final JpaPostViewBucketRepository bucketRepository;
+    private final PostRepository postRepository;
+    private final Map<ViewGranularity, Duration> retention = new EnumMap<>(ViewGranularity.class);
+
+    public PostViewStatsService(JpaPostViewBucketRepository bucketRepository,
+                                PostRepository postRepository,
+                                @Value("${application.post-view-stats.minute-retention-hours}") long minuteRetentionHours,
+                                @Value("${application.post-view-stats.hour-retention-days}") long hourRetentionDays,
+                                @Value("${application.post-view-stats.day-retention-days}") long dayRetentionDays) {
+        this.bucketRepository = bucketRepository;
+        this.postRepository = postRepository;
+        this.retention.put(ViewGranularity.MINUTE, Duration.ofHours(minuteRetentionHours));
+        this.retention.put(ViewGranularity.HOUR, Duration.ofDays(hourRetentionDays));
+        this.retention.put(ViewGranularity.DAY, Duration.ofDays(dayRetentionDays));
+    }
+
+    /**
+     * PostViewEventService 가 소비한 조회 이벤트를 같은 트랜잭션에서 버킷에 더한다.
+     */
+    public void record(List<PostViewEvent> events) {
+        Map<PostViewBucketId, Long> increments = new TreeMap<>(LOCK_ORDER);
+        for (PostViewEvent event : events) {
+            for (ViewGranularity granularity : ViewGranularity.values()) {
+                PostViewBucketId id = new PostViewBucketId(event.getPostId(), granularity, granularity.bucketStart(event.getCreatedAt()));
+                increments.merge(id, 1L, Long::sum);
+            }
+        }
+
+        increments.forEach(bucketRepository::increase);
+    }
+
+    /**
+     * [from, to) 구간의 조회수를 버킷 단위로 반환한다. 비어 있는 버킷은 0 으로 채운다.
+     * from 이 속한 버킷부터 시작하므로 첫 버킷에는 from 이전의 조회도 포함될 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public PostViewStatsResponse getStats(Long postId, ViewGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        postRepository.findById(postId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime end = to != null ? to : now;
+        LocalDateTime start = from != null ? from : end.minus(DEFAULT_RANGE);
+        if (!start.isBefore(end)) {
+            throw new CustomException(ErrorCode.INVALID_VIEW_STATS_RANGE);
+        }
+
+        ViewGranularity resolved = granularity != null ? granularity : preferredGranularity(start, end, now);
+        if (!isRetained(resolved, start, now) || bucketCount(resolved, start, end) > MAX_BUCKETS) {
+            throw new CustomException(ErrorCode.INVALID_VIEW_STATS_RANGE);
+        }
+
+        LocalDateTime first = resolved.bucketStart(start);
+        Map<LocalDateTime, Long> viewsByStart = bucketRepository.findRange(postId, resolved, first, end).stream()
+                .collect(Collectors.toMap(bucket -> bucket.getId().getBucketStart(), PostViewBucket::getViews));
+
+        List<ViewBucketResponse> buckets = new ArrayList<>();
+        long totalViews = 0;
+        for (LocalDateTime bucketStart = first; bucketStart.isBefore(end); bucketStart = resolved.next(bucketStart)) {
+            long views = viewsByStart.getOrDefault(bucketStart, 0L);
+            buckets.add(new ViewBucketResponse(bucketStart, views));
+            totalViews += views;
+        }
+
+        return new PostViewStatsResponse(postId, resolved, first, end, totalViews, buckets);
+    }
+
+    @Scheduled(fixedDelayString = "${application.post-view-stats.purge-delay-ms}",
+            initialDelayString = "${application.post-view-stats.purge-delay-ms}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        for (ViewGranularity granularity : ViewGranularity.values()) {
+            int deleted = bucketRepository.deleteOlderThan(granularity, now.minus(retention.get(granularity)));
+            if (deleted > 0) {
+                log.info("[PostViewStatsService] purged {} {} buckets", deleted, granularity);
+            }
+        }
+    }
+
+    // 보관 기간 안에 있고 버킷 수가 PREFERRED_BUCKETS 이하인 가장 작은 단위. 없으면 보관 중인 가장 작은 단위를 쓴다.
+    private ViewGranularity preferredGranularity(LocalDateTime start, LocalDateTime end, LocalDateTime now) {
+        ViewGranularity fallback = ViewGranularity.DAY;
+        for (ViewGranularity granularity : ViewGranularity.values()) {
+            if (!isRetained(granularity, start, now)) {
+                continue;
+            }
+            if (bucketCount(granularity, start, end) <= PREFERRED_BUCKETS) {
+                return granularity;
+            }
+            if (fallback.compareTo(granularity) > 0 && bucketCount(granularity, start, end) <= MAX_BUCKETS) {
+                fallback = granularity;
+            }
+        }
+        return fallback;
+    }
+
+    private boolean isRetained(ViewGranularity granularity, LocalDateTime start, LocalDateTime now) {
+        return !granularity.bucketStart(start).isBefore(now.minus(retention.get(granularity)));
+    }
+
+    private long bucketCount(ViewGranularity granularity, LocalDateTime start, LocalDateTime end) {
+        Duration span = Duration.between(granularity.bucketStart(start), end);
+        long length = granularity.length().toMillis();
+        return (span.toMillis() + length - 1) / length;
+    }
+}
@@ -0,0 +1,18 @@
+package com.community.domain.common.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * insert 전에 TsidFactory 로 id 를 할당한다.
+ * IDENTITY 와 달리 insert 마다 생성된 키를 읽어 올 필요가 없어 hibernate.jdbc.batch_size 단위로 insert 를 묶을 수 있다.
+ */
+@IdGeneratorType(TsidIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidId {
+}
@@ -0,0 +1,39 @@
+package com.community.domain.common.model;
+
+import com.community.domain.common.util.TsidFactory;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * @TsidId 의 id 생성기. 노드 번호는 Hibernate 설정 community.tsid.node 에서 읽는다.
+ */
+public class TsidIdGenerator implements BeforeExecutionGenerator {
+
+    static final String NODE_SETTING = "community.tsid.node";
+
+    private final TsidFactory factory;
+
+    public TsidIdGenerator(TsidId config, Member idMember, CustomIdGeneratorCreationContext context) {
+        ConfigurationService configuration = context.getServiceRegistry().getService(ConfigurationService.class);
+        String node = configuration == null ? "0" : configuration.getSetting(NODE_SETTING, StandardConverters.STRING, "0");
+        this.factory = TsidFactory.forNode(Integer.parseInt(node.trim()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return factory.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -8,7 +8,6 @@ public record PaginationRequest(Integer page,
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 10;
     private static final String DEFAULT_SORT_BY = "createdAt";
-
     public PaginationRequest {
         page = normalizePage(page);
         size = normalizeSize(size);
@@ -37,6 +36,16 @@ public record PaginationRequest(Integer page,
         return sortBy.trim();
     }
 
+    /**
+     * 요청한 페이지 크기가 상한을 넘으면 상한으로 줄인 요청을 반환한다. 더 많은 행이 필요하면 페이지 대신 내보내기(스트리밍)를 쓴다.
+     */
+    public PaginationRequest limitSize(int maxSize) {
+        if (size <= maxSize) {
+            return this;
+        }
+        return new PaginationRequest(page, maxSize, sortBy, direction);
+    }
+
     public enum SortDirection {
         ASC, DESC
     }
@@ -0,0 +1,42 @@
+package com.community.domain.common.page;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+
+/**
+ * 쿼리 파라미터를 PaginationRequest 로 바인딩하고, 페이지 크기를 application.pagination.max-size 로 제한한다.
+ * 바인딩 / 변환 오류는 기본 @ModelAttribute 처리와 같게 동작하도록 바인딩은 ServletModelAttributeMethodProcessor 에 맡긴다.
+ * 기본 @ModelAttribute 처리가 먼저 적용되므로 컨트롤러에서는 @ModelAttribute 를 붙이지 않는다.
+ */
+@Component
+public class PaginationRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final ServletModelAttributeMethodProcessor binder = new ServletModelAttributeMethodProcessor(true);
+    private final int maxSize;
+
+    public PaginationRequestArgumentResolver(@Value("${application.pagination.max-size}") int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType().equals(PaginationRequest.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) throws Exception {
+        PaginationRequest request = (PaginationRequest) binder.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+
+        return request.limitSize(maxSize);
+    }
+}
@@ -0,0 +1,26 @@
+package com.community.domain.common.page;
+
+/**
+ * 정렬 가능한 엔티티 속성. 요청의 sortBy 는 이 목록 중 하나로 변환된 뒤에만 쿼리에 사용된다.
+ */
+public interface SortKey {
+
+    String property();
+
+    /**
+     * 대소문자를 무시하고 속성 이름이 일치하는 키를 찾는다. 목록에 없는 값은 기본 키로 대체한다.
+     */
+    static <K extends Enum<K> & SortKey> K resolve(Class<K> keyType, String sortBy, K defaultKey) {
+        if (sortBy == null) {
+            return defaultKey;
+        }
+
+        String normalized = sortBy.trim();
+        for (K key : keyType.getEnumConstants()) {
+            if (key.property().equalsIgnoreCase(normalized)) {
+                return key;
+            }
+        }
+        return defaultKey;
+    }
+}
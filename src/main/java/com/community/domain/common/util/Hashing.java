@@ -0,0 +1,20 @@
+package com.community.domain.common.util;
+
+/**
+ * BloomFilter / HyperLogLog / 스트라이프 선택에서 함께 쓰는 64bit 해시 섞기.
+ */
+public class Hashing {
+
+    private Hashing() {
+    }
+
+    // murmur3 finalizer. 연속된 id 나 TSID 처럼 하위 비트가 치우친 값도 고르게 흩어진다.
+    public static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
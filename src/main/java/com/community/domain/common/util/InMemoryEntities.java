@@ -0,0 +1,44 @@
+package com.community.domain.common.util;
+
+import com.community.domain.common.model.BaseTimeEntity;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 저장소에서 JPA 가 대신 해 주던 id 할당과 생성 / 수정 시각 기록을 처리한다.
+ * 엔티티는 setter 를 두지 않으므로 필드에 직접 값을 넣는다.
+ */
+public abstract class InMemoryEntities {
+
+    private static final Field CREATED_AT = timeField("createdAt");
+    private static final Field UPDATED_AT = timeField("updatedAt");
+    private static final Map<Class<?>, Field> ID_FIELDS = new ConcurrentHashMap<>();
+
+    public static void assignId(Object entity, Long id) {
+        Field field = ID_FIELDS.computeIfAbsent(entity.getClass(), type -> {
+            Field found = ReflectionUtils.findField(type, "id");
+            if (found == null) {
+                throw new IllegalArgumentException(type.getName() + " has no id field");
+            }
+            ReflectionUtils.makeAccessible(found);
+            return found;
+        });
+        ReflectionUtils.setField(field, entity, id);
+    }
+
+    public static void stampCreated(BaseTimeEntity entity) {
+        LocalDateTime now = LocalDateTime.now();
+        ReflectionUtils.setField(CREATED_AT, entity, now);
+        ReflectionUtils.setField(UPDATED_AT, entity, now);
+    }
+
+    private static Field timeField(String name) {
+        Field field = ReflectionUtils.findField(BaseTimeEntity.class, name);
+        ReflectionUtils.makeAccessible(field);
+        return field;
+    }
+}
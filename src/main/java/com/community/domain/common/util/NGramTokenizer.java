@@ -0,0 +1,42 @@
+package com.community.domain.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 문자 바이그램 토크나이저.
+ * 한국어는 조사 / 어미가 붙어 공백 단위 단어로는 검색이 잘 맞지 않으므로, 형태소 분석 없이 두 글자 단위로 자른다.
+ * 글자 / 숫자가 아닌 문자를 기준으로 단어를 나누고, 한 글자 단어는 버린다.
+ */
+public class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    public static List<String> bigrams(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                addBigrams(normalized, wordStart, i, tokens);
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
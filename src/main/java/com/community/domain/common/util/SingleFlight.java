@@ -0,0 +1,61 @@
+package com.community.domain.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합친다(single-flight).
+ * 먼저 도착한 요청(leader)만 loader 를 실행하고, 실행 중에 도착한 같은 키의 요청은 leader 의 CompletableFuture 를 기다려
+ * 같은 결과(또는 같은 예외)를 받는다. 결과를 보관하지 않으므로 leader 가 끝난 뒤의 요청은 다시 조회한다.
+ * 결과 객체를 여러 요청이 공유하므로 불변 응답 DTO 에만 사용한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Runnable onCollapsed;
+
+    public SingleFlight(Runnable onCollapsed) {
+        this.onCollapsed = onCollapsed;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            onCollapsed.run();
+            return await(running);
+        }
+
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // leader 의 예외를 감싸지 않고 그대로 던져 CustomException 등이 기존 처리 경로를 따르도록 한다.
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.community.domain.common.util;
+
+import com.community.domain.common.page.PaginationRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * (정렬 값, id) 순으로 정렬된 id 색인. 메모리 저장소의 정렬 키마다 하나씩 둔다.
+ * 페이지 조회는 전체를 복사해 정렬하지 않고 skip list 를 offset 만큼 건너뛴 뒤 size 개만 읽는다.
+ * 색인에 넣을 때의 정렬 값을 id 별로 기억해 두므로, 엔티티의 값이 바뀐 뒤에도 이전 위치를 찾아 옮길 수 있다.
+ */
+public class SortedIndex<T> {
+
+    private static final Comparator<Comparable<Object>> VALUE_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final Function<T, ? extends Comparable<?>> valueExtractor;
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+    private final Map<Long, Entry> entriesById = new ConcurrentHashMap<>();
+
+    public SortedIndex(Function<T, ? extends Comparable<?>> valueExtractor) {
+        this.valueExtractor = valueExtractor;
+    }
+
+    /**
+     * 새로 넣거나, 이미 있으면 현재 값 기준으로 위치를 옮긴다.
+     */
+    @SuppressWarnings("unchecked")
+    public void put(Long id, T item) {
+        Entry next = new Entry((Comparable<Object>) valueExtractor.apply(item), id);
+        entriesById.compute(id, (key, previous) -> {
+            if (previous != null) {
+                entries.remove(previous);
+            }
+            entries.add(next);
+            return next;
+        });
+    }
+
+    public void remove(Long id) {
+        entriesById.computeIfPresent(id, (key, previous) -> {
+            entries.remove(previous);
+            return null;
+        });
+    }
+
+    /**
+     * 뒤쪽 절반의 페이지는 반대 방향에서 건너뛰어 읽으므로, 건너뛰는 수는 전체의 절반을 넘지 않는다.
+     */
+    public List<Long> page(PaginationRequest.SortDirection direction, int offset, int size) {
+        int total = size();
+        if (offset >= total) {
+            return List.of();
+        }
+        if (offset <= total / 2) {
+            return ordered(direction).stream()
+                    .skip(offset)
+                    .limit(size)
+                    .map(Entry::id)
+                    .toList();
+        }
+
+        int limit = Math.min(size, total - offset);
+        List<Long> reversed = ordered(opposite(direction)).stream()
+                .skip(total - offset - limit)
+                .limit(limit)
+                .map(Entry::id)
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    public List<Long> all(PaginationRequest.SortDirection direction) {
+        return ordered(direction).stream()
+                .map(Entry::id)
+                .toList();
+    }
+
+    // skip list 의 size() 는 전체를 훑으므로 id 맵의 크기를 사용한다.
+    public int size() {
+        return entriesById.size();
+    }
+
+    public boolean isEmpty() {
+        return entriesById.isEmpty();
+    }
+
+    private NavigableSet<Entry> ordered(PaginationRequest.SortDirection direction) {
+        return direction == PaginationRequest.SortDirection.ASC ? entries : entries.descendingSet();
+    }
+
+    private static PaginationRequest.SortDirection opposite(PaginationRequest.SortDirection direction) {
+        return direction == PaginationRequest.SortDirection.ASC
+                ? PaginationRequest.SortDirection.DESC
+                : PaginationRequest.SortDirection.ASC;
+    }
+
+    private record Entry(Comparable<Object> value, Long id) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int compared = VALUE_ORDER.compare(value, other.value);
+            return compared != 0 ? compared : id.compareTo(other.id);
+        }
+    }
+}
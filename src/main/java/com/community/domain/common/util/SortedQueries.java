@@ -0,0 +1,32 @@
+package com.community.domain.common.util;
+
+import com.community.domain.common.page.PaginationRequest;
+import com.community.domain.common.page.SortKey;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 정렬 키 × 방향 조합별 JPQL 을 미리 만들어 둔다.
+ * 요청 값이 쿼리 문자열에 직접 들어가지 않고, 쿼리 종류가 고정되므로 Hibernate 쿼리 플랜 캐시도 커지지 않는다.
+ * 템플릿의 %s 는 순서대로 정렬 속성과 방향(asc / desc)으로 채워진다.
+ */
+public class SortedQueries<K extends Enum<K> & SortKey> {
+
+    private final Map<K, Map<PaginationRequest.SortDirection, String>> queries;
+
+    public SortedQueries(Class<K> keyType, String template) {
+        this.queries = new EnumMap<>(keyType);
+        for (K key : keyType.getEnumConstants()) {
+            Map<PaginationRequest.SortDirection, String> byDirection = new EnumMap<>(PaginationRequest.SortDirection.class);
+            for (PaginationRequest.SortDirection direction : PaginationRequest.SortDirection.values()) {
+                byDirection.put(direction, template.formatted(key.property(), PageUtil.resolveDirection(direction)));
+            }
+            queries.put(key, byDirection);
+        }
+    }
+
+    public String get(K key, PaginationRequest.SortDirection direction) {
+        return queries.get(key).get(direction);
+    }
+}
@@ -0,0 +1,62 @@
+package com.community.domain.common.util;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순으로 증가하는 64bit id(TSID / Snowflake 방식) 생성기.
+ * [경과 ms 40bit][노드 5bit][순번 8bit] 로 53bit 안에 들어가므로 JSON 숫자(JavaScript Number)로도 정확히 표현된다.
+ * 같은 노드에서는 항상 증가하고, 노드가 달라도 대략 생성 시각 순이므로 커서 키로 사용할 수 있다.
+ * 1ms 에 순번 256 개를 넘기거나 시계가 뒤로 가면 다음 ms 를 미리 빌려 쓴다.
+ */
+public class TsidFactory {
+
+    // 2025-01-01T00:00:00Z. 40bit 경과 ms 는 약 34년(2059년)까지 사용할 수 있다.
+    static final long EPOCH_MILLIS = 1735689600000L;
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 8;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final Map<Integer, TsidFactory> FACTORIES = new ConcurrentHashMap<>();
+
+    private final long node;
+    private final LongSupplier clock;
+    // (경과 ms << SEQUENCE_BITS) | 순번. 마지막으로 발급한 값보다 항상 크게 갱신한다.
+    private final AtomicLong state = new AtomicLong();
+
+    TsidFactory(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("node must be between 0 and " + MAX_NODE + ": " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    /**
+     * 같은 노드의 모든 엔티티가 하나의 생성기를 공유해 테이블이 달라도 id 가 겹치지 않는다.
+     */
+    public static TsidFactory forNode(int node) {
+        return FACTORIES.computeIfAbsent(node, key -> new TsidFactory(key, System::currentTimeMillis));
+    }
+
+    public long next() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long current = state.updateAndGet(previous -> Math.max(now, previous + 1));
+
+        long elapsed = current >>> SEQUENCE_BITS;
+        long sequence = current & SEQUENCE_MASK;
+        return (elapsed << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE);
+    }
+}
@@ -3,6 +3,8 @@ package com.community.domain.file.service;
 import com.community.domain.file.service.dto.StoredFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+
 public interface FileStorageService {
 
     String save(MultipartFile file);
@@ -11,5 +13,7 @@ public interface FileStorageService {
 
     void delete(String filePath);
 
+    int deleteAll(Collection<String> filePaths);
+
     String saveManual(MultipartFile file, String fileId);
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,8 +60,7 @@ public class LocalFileStorageService implements FileStorageService {
 
     @Override
     public void delete(String filePath) {
-        int start = filePath.lastIndexOf(FILE_ENDPOINT_PREFIX) + FILE_ENDPOINT_PREFIX.length();
-        String fileId = filePath.substring(start);
+        String fileId = extractFileId(filePath);
         log.info("Removed stored file: {}", fileId);
         StoredFile removed = store.remove(fileId);
         if (removed == null) {
@@ -68,6 +68,21 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    /**
+     * 존재하지 않는 파일은 건너뛰고, 실제로 삭제된 파일 수를 반환
+     */
+    @Override
+    public int deleteAll(Collection<String> filePaths) {
+        int removedCount = 0;
+        for (String filePath : filePaths) {
+            if (store.remove(extractFileId(filePath)) != null) {
+                removedCount++;
+            }
+        }
+        log.info("Removed {} of {} stored files", removedCount, filePaths.size());
+        return removedCount;
+    }
+
     public String saveManual(MultipartFile file, String fileId) {
         if (file == null || file.isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_FILE);
@@ -89,4 +104,9 @@ public class LocalFileStorageService implements FileStorageService {
             throw new CustomException(ErrorCode.FILE_STORAGE_ERROR);
         }
     }
+
+    private String extractFileId(String filePath) {
+        int start = filePath.lastIndexOf(FILE_ENDPOINT_PREFIX) + FILE_ENDPOINT_PREFIX.length();
+        return filePath.substring(start);
+    }
 }
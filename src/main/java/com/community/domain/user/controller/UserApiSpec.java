@@ -6,6 +6,7 @@ import com.community.domain.user.dto.request.SignInRequest;
 import com.community.domain.user.dto.request.UpdateRequest;
 import com.community.domain.user.dto.response.SignInAvailableResponse;
 import com.community.domain.user.dto.response.SignInResponse;
+import com.community.domain.user.dto.response.UserDeletionResponse;
 import com.community.domain.user.dto.response.UserResponse;
 import com.community.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +38,9 @@ public interface UserApiSpec {
     ResponseEntity<ApiResponse<Void>> updatePassword(AuthenticatedUser authenticatedUser,
                                                      @Valid PasswordUpdateRequest req);
 
-    @Operation(summary = "회원 탈퇴", description = "회원 탈퇴를 진행합니다. 관련된 정보를 삭제합니다.")
+    @Operation(summary = "회원 탈퇴", description = "회원 탈퇴를 요청합니다. 관련된 정보는 백그라운드에서 순차적으로 삭제됩니다.")
     ResponseEntity<ApiResponse<Void>> deleteUser(AuthenticatedUser authenticatedUser);
+
+    @Operation(summary = "회원 탈퇴 진행 상황 조회", description = "백그라운드에서 진행 중인 회원 탈퇴의 진행 상황을 조회합니다.")
+    ResponseEntity<ApiResponse<UserDeletionResponse>> getDeletionProgress(AuthenticatedUser authenticatedUser);
 }
@@ -9,6 +9,7 @@ import com.community.domain.user.dto.request.SignInRequest;
 import com.community.domain.user.dto.request.UpdateRequest;
 import com.community.domain.user.dto.response.SignInAvailableResponse;
 import com.community.domain.user.dto.response.SignInResponse;
+import com.community.domain.user.dto.response.UserDeletionResponse;
 import com.community.domain.user.dto.response.UserResponse;
 import com.community.domain.user.service.UserService;
 import com.community.global.response.ApiResponse;
@@ -100,4 +101,15 @@ public class UserController implements UserApiSpec {
                 .noContent()
                 .build();
     }
+
+    @Override
+    @Auth
+    @GetMapping("/me/deletion")
+    public ResponseEntity<ApiResponse<UserDeletionResponse>> getDeletionProgress(@AuthUser AuthenticatedUser authenticatedUser) {
+        UserDeletionResponse res = userService.getDeletionProgress(authenticatedUser.userId());
+
+        return ResponseEntity
+                .ok()
+                .body(ApiResponse.success(SuccessMessage.USER_DELETION_FETCHED, res));
+    }
 }
@@ -0,0 +1,33 @@
+package com.community.domain.user.dto.response;
+
+import com.community.domain.user.model.UserDeletionJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "회원 탈퇴 진행 상황 응답 DTO")
+@Getter
+@AllArgsConstructor
+public class UserDeletionResponse {
+
+    @Schema(description = "탈퇴 처리 상태", example = "PENDING")
+    private final String status;
+
+    @Schema(description = "삭제된 게시글 수", example = "120")
+    private final long deletedPosts;
+
+    @Schema(description = "삭제된 댓글 수", example = "3400")
+    private final long deletedComments;
+
+    @Schema(description = "삭제된 좋아요 수", example = "5600")
+    private final long deletedLikes;
+
+    public static UserDeletionResponse from(UserDeletionJob job) {
+        return new UserDeletionResponse(
+                job.getStatus().name(),
+                job.getDeletedPosts(),
+                job.getDeletedComments(),
+                job.getDeletedLikes()
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package com.community.domain.user.model;
 
 import com.community.domain.common.model.BaseTimeEntity;
+import com.community.domain.common.model.TsidId;
+import com.community.global.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -8,15 +10,21 @@ import jakarta.validation.constraints.Size;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "users")
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "user_id")
     private Long id;
 
@@ -32,12 +40,16 @@ public class User extends BaseTimeEntity {
 
     @NotBlank
     @Size(max = 10)
+    @Column(unique = true)
     private String nickname;
 
     @NotBlank
     @Size(max = 255)
     private String imageUrl;
 
+    // 탈퇴를 요청한 시각. 탈퇴 작업이 회원을 지울 때까지 로그인 / 토큰 재발급 / 새 글 작성을 막는다.
+    private LocalDateTime deactivatedAt;
+
     public User(String email, String password, String nickname, String imageUrl) {
         this.email = email;
         this.password = password;
@@ -57,6 +69,16 @@ public class User extends BaseTimeEntity {
         this.imageUrl = imageUrl;
     }
 
+    public void deactivate() {
+        if (deactivatedAt == null) {
+            deactivatedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isDeactivated() {
+        return deactivatedAt != null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
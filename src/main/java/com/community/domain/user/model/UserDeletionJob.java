@@ -0,0 +1,82 @@
+package com.community.domain.user.model;
+
+import com.community.domain.common.model.BaseTimeEntity;
+import com.community.domain.common.model.TsidId;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_deletion_jobs")
+public class UserDeletionJob extends BaseTimeEntity {
+
+    @Id
+    @TsidId
+    @Column(name = "user_deletion_job_id")
+    private Long id;
+
+    @NotNull
+    @Column(unique = true)
+    private Long userId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private long deletedPosts;
+
+    private long deletedComments;
+
+    private long deletedLikes;
+
+    public UserDeletionJob(Long userId) {
+        this.userId = userId;
+        this.status = Status.PENDING;
+    }
+
+    public void addDeletedPosts(long count) {
+        this.deletedPosts += count;
+    }
+
+    public void addDeletedComments(long count) {
+        this.deletedComments += count;
+    }
+
+    public void addDeletedLikes(long count) {
+        this.deletedLikes += count;
+    }
+
+    public void complete() {
+        this.status = Status.DONE;
+    }
+
+    public boolean isDone() {
+        return this.status == Status.DONE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UserDeletionJob that = (UserDeletionJob) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    public enum Status {
+        PENDING,
+        DONE
+    }
+}
@@ -0,0 +1,105 @@
+package com.community.domain.user.repository;
+
+import com.community.domain.common.util.InMemoryEntities;
+import com.community.domain.user.model.User;
+import com.community.domain.user.repository.dto.UserIdentity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 없이 동작하는 회원 저장소(inmemory 프로필). 이메일 / 닉네임은 DB 의 unique 제약처럼 중복 저장을 막는다.
+ * 닉네임은 엔티티에서 바로 바뀌므로 색인으로 찾은 회원의 현재 닉네임을 확인하고,
+ * 색인에 없으면 전체를 훑어 색인을 고친다. 사용 가능한 닉네임은 대부분 UserAvailabilityIndex 에서 먼저 걸러진다.
+ */
+@Profile("inmemory")
+@Repository
+public class InMemoryUserRepository implements UserRepository {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListMap<Long, User> users = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> userIdsByEmail = new ConcurrentHashMap<>();
+    private final Map<String, Long> userIdsByNickname = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Override
+    public Long save(User user) {
+        writeLock.lock();
+        try {
+            if (userIdsByEmail.containsKey(user.getEmail()) || findByNickname(user.getNickname()).isPresent()) {
+                throw new DataIntegrityViolationException("duplicated email or nickname");
+            }
+
+            Long id = sequence.incrementAndGet();
+            InMemoryEntities.assignId(user, id);
+            InMemoryEntities.stampCreated(user);
+
+            users.put(id, user);
+            userIdsByEmail.put(user.getEmail(), id);
+            userIdsByNickname.put(user.getNickname(), id);
+            return id;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(User user) {
+        writeLock.lock();
+        try {
+            User removed = users.remove(user.getId());
+            if (removed == null) {
+                return;
+            }
+            userIdsByEmail.remove(removed.getEmail(), removed.getId());
+            userIdsByNickname.values().remove(removed.getId());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<User> findById(Long userId) {
+        return Optional.ofNullable(users.get(userId));
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        Long userId = userIdsByEmail.get(email);
+        return userId == null ? Optional.empty() : findById(userId);
+    }
+
+    @Override
+    public Optional<User> findByNickname(String nickName) {
+        Long userId = userIdsByNickname.get(nickName);
+        User indexed = userId == null ? null : users.get(userId);
+        if (indexed != null && indexed.getNickname().equals(nickName)) {
+            return Optional.of(indexed);
+        }
+        if (userId != null) {
+            userIdsByNickname.remove(nickName, userId);
+        }
+
+        Optional<User> found = users.values().stream()
+                .filter(user -> user.getNickname().equals(nickName))
+                .findFirst();
+        found.ifPresent(user -> userIdsByNickname.put(nickName, user.getId()));
+        return found;
+    }
+
+    @Override
+    public List<UserIdentity> findIdentitiesAfter(Long lastUserId, int limit) {
+        return users.tailMap(lastUserId, false).values().stream()
+                .limit(limit)
+                .map(user -> new UserIdentity(user.getId(), user.getEmail(), user.getNickname()))
+                .toList();
+    }
+}
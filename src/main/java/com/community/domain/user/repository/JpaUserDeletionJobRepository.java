@@ -0,0 +1,37 @@
+package com.community.domain.user.repository;
+
+import com.community.domain.user.model.UserDeletionJob;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public class JpaUserDeletionJobRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public UserDeletionJob save(UserDeletionJob userDeletionJob) {
+        em.persist(userDeletionJob);
+        return userDeletionJob;
+    }
+
+    public Optional<UserDeletionJob> findByUserId(Long userId) {
+        return em.createQuery("select j from UserDeletionJob j where j.userId = :userId", UserDeletionJob.class)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    public Optional<UserDeletionJob> findFirstPending() {
+        return em.createQuery("select j from UserDeletionJob j " +
+                        "where j.status = :status " +
+                        "order by j.id asc", UserDeletionJob.class)
+                .setParameter("status", UserDeletionJob.Status.PENDING)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+    }
+}
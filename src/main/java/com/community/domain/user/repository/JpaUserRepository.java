@@ -1,16 +1,21 @@
 package com.community.domain.user.repository;
 
 import com.community.domain.user.model.User;
+import com.community.domain.user.repository.dto.UserIdentity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
 @Primary
+@Profile("!inmemory")
 @Repository
 public class JpaUserRepository implements UserRepository {
 
@@ -36,10 +41,14 @@ public class JpaUserRepository implements UserRepository {
         return Optional.ofNullable(em.find(User.class, userId));
     }
 
+    /**
+     * 로그인 / 가입 중복 검사 조회. l2cache 프로필에서는 결과를 쿼리 캐시에 두고, users 테이블이 바뀌면 Hibernate 가 무효화한다.
+     */
     @Override
     public Optional<User> findByEmail(String email) {
         return fetchSingleResult(() -> em.createQuery("select u from User u where u.email = :email", User.class)
                 .setParameter("email", email)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .getSingleResult());
     }
 
@@ -47,9 +56,19 @@ public class JpaUserRepository implements UserRepository {
     public Optional<User> findByNickname(String nickName) {
         return fetchSingleResult(() -> em.createQuery("select u from User u where u.nickname = :nickname", User.class)
                 .setParameter("nickname", nickName)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .getSingleResult());
     }
 
+    @Override
+    public List<UserIdentity> findIdentitiesAfter(Long lastUserId, int limit) {
+        return em.createQuery("select new com.community.domain.user.repository.dto.UserIdentity(u.id, u.email, u.nickname) " +
+                        "from User u where u.id > :lastUserId order by u.id asc", UserIdentity.class)
+                .setParameter("lastUserId", lastUserId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     private <T> Optional<T> fetchSingleResult(Supplier<T> supplier) {
         try {
             return Optional.ofNullable(supplier.get());
@@ -1,7 +1,9 @@
 package com.community.domain.user.repository;
 
 import com.community.domain.user.model.User;
+import com.community.domain.user.repository.dto.UserIdentity;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -11,4 +13,5 @@ public interface UserRepository {
     Optional<User> findById(Long userId);
     Optional<User> findByEmail(String email);
     Optional<User> findByNickname(String nickName);
+    List<UserIdentity> findIdentitiesAfter(Long lastUserId, int limit);
 }
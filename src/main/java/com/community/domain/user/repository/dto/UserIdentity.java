@@ -0,0 +1,8 @@
+package com.community.domain.user.repository.dto;
+
+public record UserIdentity(
+        Long id,
+        String email,
+        String nickname
+) {
+}
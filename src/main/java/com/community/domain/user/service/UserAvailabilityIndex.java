@@ -0,0 +1,189 @@
+package com.community.domain.user.service;
+
+import com.community.domain.common.util.BloomFilter;
+import com.community.domain.user.repository.UserRepository;
+import com.community.domain.user.repository.dto.UserIdentity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 가입된 이메일 / 닉네임의 블룸 필터 인덱스.
+ * "확실히 사용 가능" 한 값만 DB 조회 없이 응답하고, 그 외에는 항상 DB 로 확인한다.
+ * 블룸 필터는 값을 제거할 수 없으므로 탈퇴 / 닉네임 변경으로 비게 된 값은 주기적인 재구성 시 정리된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserAvailabilityIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final Pattern IGNORABLE = Pattern.compile("[\\p{M}\\p{Cf}]");
+    private static final char HANGUL_JAMO_START = '\u1100';
+    private static final char HANGUL_JAMO_END = '\u11FF';
+
+    @Value("${application.user-availability.expected-insertions}")
+    private long EXPECTED_INSERTIONS;
+
+    @Value("${application.user-availability.false-positive-rate}")
+    private double FALSE_POSITIVE_RATE;
+
+    private final UserRepository userRepository;
+
+    private final Object lock = new Object();
+    // 재구성은 JDBC 조회를 포함하므로 synchronized 대신 ReentrantLock 을 사용해 가상 스레드가 캐리어에 고정되지 않도록 한다.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Filters current;
+    private Filters building;
+
+    public boolean isDefinitelyAvailableEmail(String email) {
+        Filters filters = current;
+        String key = normalize(email);
+        return filters != null && isComparable(key) && !filters.emails().mightContain(key);
+    }
+
+    public boolean isDefinitelyAvailableNickname(String nickname) {
+        Filters filters = current;
+        String key = normalize(nickname);
+        return filters != null && isComparable(key) && !filters.nicknames().mightContain(key);
+    }
+
+    public void addNickname(String nickname) {
+        register(() -> put(null, nickname));
+    }
+
+    public void add(String email, String nickname) {
+        register(() -> put(email, nickname));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${application.user-availability.rebuild-delay-ms}",
+            initialDelayString = "${application.user-availability.rebuild-delay-ms}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildFilters();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildFilters() {
+        Filters next = newFilters();
+        synchronized (lock) {
+            building = next;
+        }
+
+        long loaded = 0;
+        Long lastUserId = 0L;
+        try {
+            List<UserIdentity> chunk;
+            do {
+                chunk = userRepository.findIdentitiesAfter(lastUserId, LOAD_CHUNK_SIZE);
+                for (UserIdentity identity : chunk) {
+                    next.emails().put(normalize(identity.email()));
+                    next.nicknames().put(normalize(identity.nickname()));
+                    lastUserId = identity.id();
+                }
+                loaded += chunk.size();
+            } while (chunk.size() == LOAD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                building = null;
+            }
+            log.warn("[UserAvailabilityIndex] rebuild failed, keeping previous index", e);
+            return;
+        }
+
+        synchronized (lock) {
+            current = next;
+            building = null;
+        }
+
+        if (loaded > EXPECTED_INSERTIONS) {
+            log.warn("[UserAvailabilityIndex] loaded {} users, more than expected {}", loaded, EXPECTED_INSERTIONS);
+        }
+        log.info("[UserAvailabilityIndex] rebuilt with {} users", loaded);
+    }
+
+    // 커밋 전에도 바로 반영하고, 재구성 중 스캔이 놓칠 수 있는 값을 위해 커밋 후 한 번 더 반영한다.
+    private void register(Runnable action) {
+        action.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private void put(String email, String nickname) {
+        synchronized (lock) {
+            putInto(current, email, nickname);
+            putInto(building, email, nickname);
+        }
+    }
+
+    private void putInto(Filters filters, String email, String nickname) {
+        if (filters == null) {
+            return;
+        }
+        if (email != null) {
+            filters.emails().put(normalize(email));
+        }
+        if (nickname != null) {
+            filters.nicknames().put(normalize(nickname));
+        }
+    }
+
+    private Filters newFilters() {
+        return new Filters(
+                new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE),
+                new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE)
+        );
+    }
+
+    /**
+     * users 테이블의 utf8mb4_0900_ai_ci 비교에 가깝게 맞춘다.
+     * 호환 분해(NFKD) 후 결합 문자(악센트 등)와 서식 문자를 지우고 대소문자를 접어, DB 가 같다고 보는 값이 같은 키가 되도록 한다.
+     * toUpperCase 를 거치는 것은 'ß' -> "ss" 처럼 길이가 바뀌는 대소문자 접기를 반영하기 위함이다.
+     */
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        String stripped = IGNORABLE.matcher(decomposed).replaceAll("");
+        return stripped.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    // 정규화 결과가 ASCII 와 한글 자모로만 이루어진 값만 빠른 경로로 답한다. 그 외 문자는 collation 규칙을 다 따라가지 못하므로 DB 로 확인한다.
+    static boolean isComparable(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= 0x80 && (c < HANGUL_JAMO_START || c > HANGUL_JAMO_END)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter nicknames) {
+    }
+}
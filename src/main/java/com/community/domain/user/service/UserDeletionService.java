@@ -0,0 +1,153 @@
+package com.community.domain.user.service;
+
+import com.community.domain.board.event.PostDeleted;
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.CommentRepository;
+import com.community.domain.board.repository.PostLikeRepository;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.board.repository.dto.DeletedComments;
+import com.community.domain.board.service.CommentPageCache;
+import com.community.domain.board.service.PostListCache;
+import com.community.domain.board.service.PostPurgeService;
+import com.community.domain.file.service.FileStorageService;
+import com.community.domain.user.dto.response.UserDeletionResponse;
+import com.community.domain.user.model.UserDeletionJob;
+import com.community.domain.user.repository.JpaUserDeletionJobRepository;
+import com.community.domain.user.repository.UserRepository;
+import com.community.global.event.DomainEventBus;
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원 탈퇴를 백그라운드에서 청크 단위로 처리한다.
+ * 한 번의 실행(트랜잭션)마다 최대 CHUNK_SIZE 개의 자식 row 만 삭제하여, 실행 사이에 락이 해제되도록 한다.
+ * 벌크 삭제는 캐시를 거치지 않으므로 청크마다 영향받은 게시글의 댓글 페이지와 게시글 목록 캐시를 직접 비운다(커밋 후 한 번 더).
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class UserDeletionService {
+
+    @Value("${application.user-deletion.chunk-size}")
+    private int CHUNK_SIZE;
+
+    @Value("${application.local.default_image_url}")
+    private String DEFAULT_IMAGE_URL;
+
+    private final JpaUserDeletionJobRepository jpaUserDeletionJobRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostPurgeService postPurgeService;
+    private final CommentPageCache commentPageCache;
+    private final PostListCache postListCache;
+    private final FileStorageService fileStorageService;
+    private final DomainEventBus eventBus;
+
+    public UserDeletionResponse request(Long userId) {
+        UserDeletionJob job = jpaUserDeletionJobRepository.findByUserId(userId)
+                .orElseGet(() -> jpaUserDeletionJobRepository.save(new UserDeletionJob(userId)));
+
+        return UserDeletionResponse.from(job);
+    }
+
+    @Transactional(readOnly = true)
+    public UserDeletionResponse getProgress(Long userId) {
+        UserDeletionJob job = jpaUserDeletionJobRepository.findByUserId(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_DELETION_NOT_FOUND));
+
+        return UserDeletionResponse.from(job);
+    }
+
+    @Scheduled(fixedDelayString = "${application.user-deletion.consumer-delay-ms}")
+    public void consumeChunk() {
+        jpaUserDeletionJobRepository.findFirstPending()
+                .ifPresent(this::processChunk);
+    }
+
+    private void processChunk(UserDeletionJob job) {
+        Long userId = job.getUserId();
+
+        // 1) 회원이 작성한 게시글에 달린 댓글 / 좋아요
+        DeletedComments deletedComments = commentRepository.deleteChunkByPostAuthorId(userId, CHUNK_SIZE);
+        if (deletedComments.count() > 0) {
+            job.addDeletedComments(deletedComments.count());
+            evictCaches(deletedComments.postIds());
+            logProgress(job);
+            return;
+        }
+
+        int deletedCount = postLikeRepository.deleteChunkByPostAuthorId(userId, CHUNK_SIZE);
+        if (deletedCount > 0) {
+            job.addDeletedLikes(deletedCount);
+            postListCache.invalidate();
+            logProgress(job);
+            return;
+        }
+
+        // 2) 회원이 작성한 게시글의 조회 기록 / 조회수 버킷, 그 뒤 게시글과 게시글 이미지
+        List<Post> posts = postRepository.findChunkByUserId(userId, CHUNK_SIZE);
+        if (!posts.isEmpty()) {
+            PostPurgeService.PurgedRows purged = postPurgeService.purge(posts);
+            job.addDeletedComments(purged.comments());
+            job.addDeletedLikes(purged.likes());
+            evictCaches(posts.stream().map(Post::getId).toList());
+            if (purged.posts() > 0) {
+                job.addDeletedPosts(purged.posts());
+                // 검색 색인 / 인기글 순위 등은 커밋 후 이벤트로 정리한다.
+                posts.forEach(post -> eventBus.publish(new PostDeleted(post.getId())));
+            }
+            logProgress(job);
+            return;
+        }
+
+        // 3) 다른 게시글에 남긴 댓글 / 좋아요
+        deletedComments = commentRepository.deleteChunkByUserId(userId, CHUNK_SIZE);
+        if (deletedComments.count() > 0) {
+            job.addDeletedComments(deletedComments.count());
+            evictCaches(deletedComments.postIds());
+            logProgress(job);
+            return;
+        }
+
+        deletedCount = postLikeRepository.deleteChunkByUserId(userId, CHUNK_SIZE);
+        if (deletedCount > 0) {
+            job.addDeletedLikes(deletedCount);
+            postListCache.invalidate();
+            logProgress(job);
+            return;
+        }
+
+        // 4) 회원 본인 (delete 시 영속성 컨텍스트가 비워지므로 job 상태를 먼저 갱신한다)
+        job.complete();
+        userRepository.findById(userId).ifPresent(user -> {
+            if (!DEFAULT_IMAGE_URL.equals(user.getImageUrl())) {
+                fileStorageService.deleteAll(List.of(user.getImageUrl()));
+            }
+            userRepository.delete(user);
+        });
+        logProgress(job);
+    }
+
+    // 목록 응답에 댓글 / 좋아요 수가 들어 있으므로 목록 캐시도 함께 비운다.
+    private void evictCaches(Collection<Long> postIds) {
+        postIds.forEach(commentPageCache::evict);
+        postListCache.invalidate();
+    }
+
+    private void logProgress(UserDeletionJob job) {
+        log.info("[UserDeletion] userId={} status={} posts={} comments={} likes={}",
+                job.getUserId(), job.getStatus(), job.getDeletedPosts(), job.getDeletedComments(), job.getDeletedLikes());
+    }
+}
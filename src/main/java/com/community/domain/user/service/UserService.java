@@ -1,5 +1,7 @@
 package com.community.domain.user.service;
 
+import com.community.domain.auth.repository.RefreshTokenRepository;
+import com.community.domain.auth.service.PasswordHashingService;
 import com.community.domain.board.service.CommentService;
 import com.community.domain.file.service.FileStorageService;
 import com.community.domain.board.service.PostService;
@@ -8,19 +10,21 @@ import com.community.domain.user.dto.request.SignInRequest;
 import com.community.domain.user.dto.request.UpdateRequest;
 import com.community.domain.user.dto.response.SignInAvailableResponse;
 import com.community.domain.user.dto.response.SignInResponse;
+import com.community.domain.user.dto.response.UserDeletionResponse;
 import com.community.domain.user.dto.response.UserResponse;
 import com.community.domain.user.model.User;
 import com.community.domain.user.repository.UserRepository;
 import com.community.global.exception.CustomException;
 import com.community.global.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class UserService {
 
@@ -31,10 +35,40 @@ public class UserService {
     private final FileStorageService fileStorageService;
     private final PostService postService;
     private final CommentService commentService;
+    private final UserDeletionService userDeletionService;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final PasswordHashingService passwordHashingService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transaction;
+
+    public UserService(UserRepository userRepository,
+                       FileStorageService fileStorageService,
+                       PostService postService,
+                       CommentService commentService,
+                       UserDeletionService userDeletionService,
+                       UserAvailabilityIndex userAvailabilityIndex,
+                       PasswordHashingService passwordHashingService,
+                       RefreshTokenRepository refreshTokenRepository,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.fileStorageService = fileStorageService;
+        this.postService = postService;
+        this.commentService = commentService;
+        this.userDeletionService = userDeletionService;
+        this.userAvailabilityIndex = userAvailabilityIndex;
+        this.passwordHashingService = passwordHashingService;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
 
+    /**
+     * 비밀번호 해싱은 해싱 풀에서 최대 수 초까지 걸리므로 트랜잭션 밖에서 하고, 회원 저장에만 트랜잭션을 연다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignInResponse signIn(SignInRequest req) {
         validateEmailUnique(req.getEmail());
         validateNicknameUnique(req.getNickname());
+        String encodedPassword = passwordHashingService.encode(req.getPassword());
 
         MultipartFile file = req.getFile();
         String imageUrl = DEFAULT_IMAGE_URL;
@@ -42,7 +76,9 @@ public class UserService {
             imageUrl = fileStorageService.save(file);
         }
 
-        Long savedId = userRepository.save(new User(req.getEmail(), req.getPassword(), req.getNickname(), imageUrl));
+        User user = new User(req.getEmail(), encodedPassword, req.getNickname(), imageUrl);
+        Long savedId = transaction.execute(status -> userRepository.save(user));
+        userAvailabilityIndex.add(req.getEmail(), req.getNickname());
 
         return new SignInResponse(savedId);
     }
@@ -70,13 +106,13 @@ public class UserService {
     }
 
     public void updateProfile(Long userId, UpdateRequest req) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+        User user = findActiveUser(userId);
 
         if (req.getNickname() != null && !req.getNickname().isBlank()
                 && !req.getNickname().equals(user.getNickname())) {
             validateNicknameUnique(req.getNickname());
             user.updateNickname(req.getNickname());
+            userAvailabilityIndex.addNickname(req.getNickname());
         }
 
         if (req.getFile() != null && !req.getFile().isEmpty()) {
@@ -89,22 +125,53 @@ public class UserService {
         }
     }
 
+    /**
+     * signIn 과 같은 이유로 해싱을 마친 뒤에 회원 조회와 변경만 트랜잭션에서 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(Long userId, PasswordUpdateRequest req) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+        String encodedPassword = passwordHashingService.encode(req.getPassword());
 
-        user.updatePassword(req.getPassword());
+        transaction.executeWithoutResult(status -> findActiveUser(userId).updatePassword(encodedPassword));
     }
 
+    public void upgradePasswordHash(Long userId, String encodedPassword) {
+        userRepository.findById(userId)
+                .ifPresent(user -> user.updatePassword(encodedPassword));
+    }
+
+    /**
+     * 탈퇴 작업이 끝나기 전에 로그인하거나 새 글을 남기지 못하도록, 요청 트랜잭션에서 회원을 비활성화하고 리프레시 토큰을 폐기한다.
+     * 이미 발급된 어세스 토큰은 만료 전까지 남지만 작성 / 수정 요청은 비활성화된 회원이라 거절된다.
+     */
     public void deleteUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
-        fileStorageService.delete(user.getImageUrl());
 
-        userRepository.delete(user);
+        user.deactivate();
+        refreshTokenRepository.deleteAllByUserId(userId);
+        userDeletionService.request(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public UserDeletionResponse getDeletionProgress(Long userId) {
+        return userDeletionService.getProgress(userId);
+    }
+
+    private User findActiveUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+        if (user.isDeactivated()) {
+            throw new CustomException(ErrorCode.DEACTIVATED_USER);
+        }
+        return user;
     }
 
     private void validateEmailUnique(String email) {
+        if (userAvailabilityIndex.isDefinitelyAvailableEmail(email)) {
+            return;
+        }
+
         userRepository.findByEmail(email)
                 .ifPresent(user -> {
                     throw new CustomException(ErrorCode.DUPLICATED_EMAIL);
@@ -112,6 +179,10 @@ public class UserService {
     }
 
     private void validateNicknameUnique(String nickname) {
+        if (userAvailabilityIndex.isDefinitelyAvailableNickname(nickname)) {
+            return;
+        }
+
         userRepository.findByNickname(nickname)
                 .ifPresent(user -> {
                     throw new CustomException(ErrorCode.DUPLICATED_NICKNAME);
@@ -1,20 +1,51 @@
 package com.community.global.aop;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.slf4j.MDC;
 
-import java.util.UUID;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 컨트롤러 / 서비스 메서드 실행 시간을 메서드별 Micrometer Timer 에 기록한다. (/actuator/prometheus)
+ * 로그는 log-mode 로 조절한다. ALL: 모든 호출, SLOW: 임계값을 넘은 호출 중 sample-rate 비율만, NONE: 로그 없음
+ */
 @Slf4j
 @Aspect
 @Component
 public class ControllerExecutionTimeAspect {
 
     private static final String REQUEST_ID_KEY = "requestId";
+    private static final String TIMER_NAME = "community.method.execution";
+
+    private final MeterRegistry meterRegistry;
+    private final LogMode logMode;
+    private final long slowThresholdNanos;
+    private final double slowSampleRate;
+    // Spring AOP 는 호출마다 Signature 객체를 새로 만들기 때문에 Method 를 키로 사용한다.
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public ControllerExecutionTimeAspect(MeterRegistry meterRegistry,
+                                         @Value("${application.execution-time.log-mode}") LogMode logMode,
+                                         @Value("${application.execution-time.slow-threshold-ms}") long slowThresholdMs,
+                                         @Value("${application.execution-time.slow-sample-rate}") double slowSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.logMode = logMode;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.slowSampleRate = slowSampleRate;
+    }
 
     @Around("within(@org.springframework.web.bind.annotation.RestController *)")
     public Object logControllerExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
@@ -28,17 +59,21 @@ public class ControllerExecutionTimeAspect {
 
     private Object logExecutionTime(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
         boolean requestIdCreated = ensureRequestId();
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
             return joinPoint.proceed();
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-            String typeName = joinPoint.getSignature().getDeclaringType().getSimpleName();
-            String methodName = joinPoint.getSignature().getName();
-            String requestId = MDC.get(REQUEST_ID_KEY);
+            long duration = System.nanoTime() - startTime;
+            Signature signature = joinPoint.getSignature();
+            timers.computeIfAbsent(((MethodSignature) signature).getMethod(), key -> createTimer(layer, signature))
+                    .record(duration, TimeUnit.NANOSECONDS);
 
-            log.info("[{}][{}] {}.{} executed in {} ms", layer, requestId, typeName, methodName, duration);
+            if (shouldLog(duration)) {
+                log.info("[{}][{}] {}.{} executed in {} ms", layer, MDC.get(REQUEST_ID_KEY),
+                        signature.getDeclaringType().getSimpleName(), signature.getName(),
+                        TimeUnit.NANOSECONDS.toMillis(duration));
+            }
 
             if (requestIdCreated) {
                 MDC.remove(REQUEST_ID_KEY);
@@ -46,12 +81,35 @@ public class ControllerExecutionTimeAspect {
         }
     }
 
+    private Timer createTimer(String layer, Signature signature) {
+        return Timer.builder(TIMER_NAME)
+                .tag("layer", layer)
+                .tag("class", signature.getDeclaringType().getSimpleName())
+                .tag("method", signature.getName())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private boolean shouldLog(long durationNanos) {
+        return switch (logMode) {
+            case ALL -> true;
+            case SLOW -> durationNanos >= slowThresholdNanos
+                    && (slowSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < slowSampleRate);
+            case NONE -> false;
+        };
+    }
+
+    // UUID.randomUUID 는 SecureRandom 을 사용하므로 호출마다 쓰기엔 비싸다. 로그 상관관계 용도라 충돌 확률만 낮으면 된다.
     private boolean ensureRequestId() {
         if (MDC.get(REQUEST_ID_KEY) != null) {
             return false;
         }
 
-        MDC.put(REQUEST_ID_KEY, UUID.randomUUID().toString());
+        MDC.put(REQUEST_ID_KEY, Long.toHexString(ThreadLocalRandom.current().nextLong()));
         return true;
     }
+
+    public enum LogMode {
+        ALL, SLOW, NONE
+    }
 }
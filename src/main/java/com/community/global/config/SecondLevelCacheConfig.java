@@ -0,0 +1,69 @@
+package com.community.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시(l2cache 프로필). User / Post 엔티티와 회원 조회 쿼리 결과를 Caffeine(JCache) region 에 둔다.
+ * region 별 hit / miss / put 은 hibernate.second.level.cache.* 메트릭으로 /actuator/prometheus 에 노출된다.
+ */
+@Configuration
+@Profile("l2cache")
+public class SecondLevelCacheConfig {
+
+    public static final String USER_REGION = "user";
+    public static final String POST_REGION = "post";
+
+    private final long maxEntries;
+    private final long ttlSeconds;
+
+    public SecondLevelCacheConfig(@Value("${application.l2-cache.max-entries}") long maxEntries,
+                                  @Value("${application.l2-cache.ttl-seconds}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 기본 CacheManager 는 JVM 에서 공유되므로 컨텍스트가 닫혀도 close 하지 않는다.
+     */
+    @Bean(destroyMethod = "")
+    public CacheManager secondLevelCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        createIfAbsent(cacheManager, USER_REGION, boundedRegion());
+        createIfAbsent(cacheManager, POST_REGION, boundedRegion());
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, boundedRegion());
+        // 쿼리 캐시의 유효성을 판단하는 테이블별 갱신 시각. 만료되면 오래된 쿼리 결과를 쓸 수 있으므로 크기 / 시간 제한을 두지 않는다.
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private CaffeineConfiguration<Object, Object> boundedRegion() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        return configuration;
+    }
+
+    private void createIfAbsent(CacheManager cacheManager, String region, CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, configuration);
+        }
+    }
+}
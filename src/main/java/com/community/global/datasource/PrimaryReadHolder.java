@@ -0,0 +1,34 @@
+package com.community.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 primary 에서 읽어야 하는 구간을 스레드에 표시한다.
+ * 여러 회원에게 함께 응답하는 캐시처럼, 요청한 회원의 read-your-writes 로는 판단할 수 없는 읽기에 사용한다.
+ * 커넥션은 첫 쿼리 시점에 고르므로 이 구간 안에서 트랜잭션의 첫 쿼리가 실행되어야 효과가 있다.
+ * replica 프로필이 아니면 아무 효과가 없다.
+ */
+public final class PrimaryReadHolder {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReadHolder() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        if (isPinned()) {
+            return action.get();
+        }
+
+        PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.community.global.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근에 쓰기 트랜잭션을 커밋한 회원 목록. 복제 지연 동안 자신이 쓴 내용이 안 보이는 일이 없도록
+ * read-your-writes-ms 동안 이 회원들의 읽기 전용 트랜잭션은 primary 로 보낸다.
+ */
+@Component
+@Profile("replica")
+public class RecentWriters {
+
+    private final Map<Long, Long> expiresAtByUserId = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public RecentWriters(@Value("${application.datasource.read-your-writes-ms}") long windowMs) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    }
+
+    public void mark(Long userId) {
+        expiresAtByUserId.put(userId, System.nanoTime() + windowNanos);
+    }
+
+    public boolean contains(Long userId) {
+        Long expiresAt = expiresAtByUserId.get(userId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt - System.nanoTime() > 0) {
+            return true;
+        }
+        expiresAtByUserId.remove(userId, expiresAt);
+        return false;
+    }
+
+    public int size() {
+        return expiresAtByUserId.size();
+    }
+
+    // 다시 읽지 않은 회원의 만료된 항목이 남지 않도록 주기적으로 지운다.
+    @Scheduled(fixedDelayString = "${application.datasource.read-your-writes-ms}",
+            initialDelayString = "${application.datasource.read-your-writes-ms}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        expiresAtByUserId.values().removeIf(expiresAt -> expiresAt - now <= 0);
+    }
+}
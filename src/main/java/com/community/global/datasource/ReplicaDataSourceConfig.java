@@ -0,0 +1,73 @@
+package com.community.global.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * replica 프로필에서 primary(spring.datasource.*) 와 replica(application.datasource.replica-urls) 커넥션 풀을 만들고,
+ * 읽기 전용 트랜잭션을 replica 로 보내는 DataSource 를 기본 DataSource 로 등록한다.
+ * replica 풀은 primary 의 계정 / 풀 크기 설정을 그대로 사용한다.
+ */
+@Configuration
+@Profile("replica")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            RecentWriters recentWriters,
+            MeterRegistry meterRegistry,
+            @Value("${application.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${application.datasource.replica-selection}") ReplicaSelection selection) {
+        LinkedHashMap<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, replica(name, replicaUrls.get(i).trim(), primaryDataSource, meterRegistry));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, selection, recentWriters, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource replica(String name, String url, HikariDataSource primary, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(primary.getUsername());
+        config.setPassword(primary.getPassword());
+        config.setDriverClassName(primary.getDriverClassName());
+        config.setMaximumPoolSize(primary.getMaximumPoolSize());
+        config.setMinimumIdle(primary.getMinimumIdle());
+        config.setConnectionTimeout(primary.getConnectionTimeout());
+        config.setReadOnly(true);
+        config.setMetricRegistry(meterRegistry);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,171 @@
+package com.community.global.datasource;
+
+import com.community.domain.auth.dto.AuthenticatedUser;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 그 밖의 커넥션은 primary 로 보낸다.
+ * 트랜잭션의 readOnly 여부는 트랜잭션이 시작된 뒤에야 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 쿼리 시점에 커넥션을 고르도록 해야 한다.
+ * 최근에 쓰기를 커밋한 회원(RecentWriters)의 읽기는 replica 가 따라잡기 전이므로 primary 로 보낸다.
+ * 조회 기록처럼 회원이 다시 읽지 않는 쓰기는 UnattributedWriteHolder 구간에서 실행해 회원을 기록하지 않는다.
+ * 회원은 스레드의 SecurityContext 로 구분하므로, 다른 스레드에서 읽을 때는 SecurityContext 를 넘겨주거나
+ * PrimaryReadHolder 로 primary 를 지정해야 한다.
+ * 선택 결과는 community.datasource.route{target, reason} 로 기록한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaNames;
+    private final Map<String, HikariDataSource> replicas;
+    private final ReplicaSelection selection;
+    private final RecentWriters recentWriters;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    LinkedHashMap<String, HikariDataSource> replicas,
+                                    ReplicaSelection selection,
+                                    RecentWriters recentWriters,
+                                    MeterRegistry meterRegistry) {
+        this.replicaNames = List.copyOf(replicas.keySet());
+        this.replicas = replicas;
+        this.selection = selection;
+        this.recentWriters = recentWriters;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        for (Route route : Route.values()) {
+            List<String> routeTargets = route == Route.READ && !replicaNames.isEmpty() ? replicaNames : List.of(PRIMARY);
+            for (String target : routeTargets) {
+                counters.put(counterKey(target, route), Counter.builder("community.datasource.route")
+                        .description("커넥션을 보낸 데이터소스")
+                        .tag("target", target)
+                        .tag("reason", route.tag)
+                        .register(meterRegistry));
+            }
+        }
+        Gauge.builder("community.datasource.recent_writers", recentWriters, RecentWriters::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!UnattributedWriteHolder.isActive()) {
+                markAfterCommit(userId);
+            }
+            return route(PRIMARY, Route.WRITE);
+        }
+        if (userId != null && recentWriters.contains(userId)) {
+            return route(PRIMARY, Route.READ_YOUR_WRITES);
+        }
+        if (PrimaryReadHolder.isPinned()) {
+            return route(PRIMARY, Route.PINNED);
+        }
+        return route(selectReplica(), Route.READ);
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+
+    private String selectReplica() {
+        int count = replicaNames.size();
+        if (count == 0) {
+            return PRIMARY;
+        }
+
+        int start = Math.floorMod(cursor.getAndIncrement(), count);
+        if (selection == ReplicaSelection.ROUND_ROBIN) {
+            return replicaNames.get(start);
+        }
+
+        String selected = replicaNames.get(start);
+        int fewest = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            String name = replicaNames.get((start + i) % count);
+            int active = activeConnections(replicas.get(name));
+            if (active < fewest) {
+                fewest = active;
+                selected = name;
+            }
+        }
+        return selected;
+    }
+
+    // 복제 지연은 커밋 시점부터 시작되므로 커밋된 뒤에 기록한다. 롤백된 쓰기는 기록하지 않는다.
+    private void markAfterCommit(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.mark(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.mark(userId);
+            }
+        });
+    }
+
+    private String route(String target, Route route) {
+        counters.get(counterKey(target, route)).increment();
+        return target;
+    }
+
+    private static int activeConnections(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.userId();
+        }
+        return null;
+    }
+
+    private static String counterKey(String target, Route route) {
+        return target + ":" + route.tag;
+    }
+
+    private enum Route {
+        WRITE("write"),
+        READ("read"),
+        READ_YOUR_WRITES("read-your-writes"),
+        PINNED("pinned");
+
+        private final String tag;
+
+        Route(String tag) {
+            this.tag = tag;
+        }
+    }
+}
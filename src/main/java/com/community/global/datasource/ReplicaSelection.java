@@ -0,0 +1,11 @@
+package com.community.global.datasource;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 replica 를 고르는 방식.
+ */
+public enum ReplicaSelection {
+    // 순서대로 돌아가며 선택한다.
+    ROUND_ROBIN,
+    // 사용 중인 커넥션이 가장 적은 replica 를 선택한다. 같으면 순서대로 돌아가며 선택한다.
+    LEAST_CONNECTIONS
+}
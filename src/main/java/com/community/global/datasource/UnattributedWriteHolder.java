@@ -0,0 +1,34 @@
+package com.community.global.datasource;
+
+/**
+ * 요청한 회원이 다시 읽을 내용이 아닌 쓰기(조회 기록 등)를 스레드에 표시한다.
+ * 이 구간에서 연 쓰기 커넥션은 회원을 RecentWriters 에 기록하지 않으므로, 게시글을 읽기만 한 회원이
+ * read-your-writes 기간 동안 primary 로 고정되지 않는다.
+ * 커넥션은 첫 쿼리 시점에 고르므로 트랜잭션 경계를 이 구간 안에 두어야 한다.
+ * replica 프로필이 아니면 아무 효과가 없다.
+ */
+public final class UnattributedWriteHolder {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private UnattributedWriteHolder() {
+    }
+
+    public static void run(Runnable action) {
+        if (isActive()) {
+            action.run();
+            return;
+        }
+
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            action.run();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
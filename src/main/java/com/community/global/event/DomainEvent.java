@@ -0,0 +1,7 @@
+package com.community.global.event;
+
+/**
+ * DomainEventBus 로 발행되는 이벤트 표시용 인터페이스.
+ */
+public interface DomainEvent {
+}
@@ -0,0 +1,219 @@
+package com.community.global.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 트랜잭션의 부가 작업(색인, 순위, 파일 정리, 실시간 알림 등)을 커밋 후 비동기로 처리하는 이벤트 버스.
+ * 리스너마다 크기가 제한된 대기열과 전용 스레드를 두고, 쌓인 이벤트를 batch-size 개까지 묶어 한 번에 전달한다.
+ * 대기열이 가득 차면 기다리지 않고 바로 버린다. 커밋 후 전달은 요청 스레드에서 일어나므로 응답을 늦추지 않기 위함이다.
+ * 버린 뒤에는 리스너 스레드에서 onEventsDropped 를 호출해 리스너가 원본에서 상태를 다시 맞출 수 있게 한다.
+ * 다시 맞출 수 있는 파생 작업(캐시, 색인, 순위, 알림 등)만 이 버스로 처리하고,
+ * 유실되면 안 되는 기록과 파일 삭제 같은 부수 효과는 요청 트랜잭션이나 커밋 직후에 직접 처리한다.
+ * 리스너별 대기 이벤트 수 / 발행부터 처리까지의 지연 / 버림 / 실패 수를 community.event_bus.* 로 노출한다.
+ */
+@Slf4j
+@Component
+public class DomainEventBus {
+
+    private static final long POLL_INTERVAL_MS = 200;
+    private static final long STOP_TIMEOUT_MS = 5_000;
+
+    private final List<Channel<?>> channels;
+    private final int batchSize;
+
+    public DomainEventBus(List<DomainEventListener<?>> listeners,
+                          MeterRegistry meterRegistry,
+                          @Value("${application.event-bus.queue-capacity}") int queueCapacity,
+                          @Value("${application.event-bus.batch-size}") int batchSize) {
+        this.batchSize = batchSize;
+        this.channels = listeners.stream()
+                .<Channel<?>>map(listener -> channel(listener, queueCapacity, meterRegistry))
+                .toList();
+        channels.forEach(Channel::start);
+    }
+
+    /**
+     * 트랜잭션 안에서는 커밋 후에 전달하고, 롤백되면 버린다. 트랜잭션 밖에서는 바로 전달한다.
+     */
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.forEach(Channel::stop);
+    }
+
+    private <E extends DomainEvent> Channel<E> channel(DomainEventListener<E> listener,
+                                                       int queueCapacity,
+                                                       MeterRegistry meterRegistry) {
+        return new Channel<>(listener, queueCapacity, meterRegistry);
+    }
+
+    private void dispatch(DomainEvent event) {
+        for (Channel<?> channel : channels) {
+            channel.offer(event);
+        }
+    }
+
+    private record Envelope<E>(E event, long publishedAt) {
+    }
+
+    private final class Channel<E extends DomainEvent> {
+
+        private final DomainEventListener<E> listener;
+        // 리스너가 트랜잭션 프록시일 수 있으므로 발행마다 호출하지 않고 한 번만 읽어 둔다.
+        private final Class<E> eventType;
+        private final String name;
+        private final BlockingQueue<Envelope<E>> queue;
+        private final ExecutorService executor;
+        private final Timer lag;
+        private final Counter dropped;
+        private final Counter failed;
+        // 마지막으로 리스너에게 알린 뒤 버린 이벤트 수
+        private final AtomicLong droppedSinceNotified = new AtomicLong();
+        private volatile boolean running = true;
+
+        private Channel(DomainEventListener<E> listener, int queueCapacity, MeterRegistry meterRegistry) {
+            this.listener = listener;
+            this.eventType = listener.eventType();
+            // @Transactional 리스너는 CGLIB 프록시이므로 원래 클래스 이름을 사용한다.
+            this.name = ClassUtils.getUserClass(listener).getSimpleName();
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "event-" + name);
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            Gauge.builder("community.event_bus.pending", queue, BlockingQueue::size)
+                    .tag("listener", name)
+                    .register(meterRegistry);
+            this.lag = Timer.builder("community.event_bus.lag")
+                    .description("이벤트 발행부터 리스너가 처리를 시작하기까지의 시간")
+                    .tag("listener", name)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.dropped = Counter.builder("community.event_bus.dropped")
+                    .tag("listener", name)
+                    .register(meterRegistry);
+            this.failed = Counter.builder("community.event_bus.failed")
+                    .tag("listener", name)
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            executor.execute(this::run);
+        }
+
+        private void offer(DomainEvent event) {
+            if (!eventType.isInstance(event)) {
+                return;
+            }
+
+            Envelope<E> envelope = new Envelope<>(eventType.cast(event), System.nanoTime());
+            if (!queue.offer(envelope)) {
+                dropped.increment();
+                droppedSinceNotified.incrementAndGet();
+            }
+        }
+
+        private void run() {
+            List<Envelope<E>> batch = new ArrayList<>(batchSize);
+            while (running) {
+                Envelope<E> first;
+                try {
+                    first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    handle(batch);
+                    batch.clear();
+                }
+                notifyDropped();
+            }
+        }
+
+        // 리스너가 원본을 다시 읽는 동안 이벤트 처리와 겹치지 않도록 리스너 스레드에서 알린다.
+        private void notifyDropped() {
+            long count = droppedSinceNotified.getAndSet(0);
+            if (count == 0) {
+                return;
+            }
+
+            log.warn("[DomainEventBus] {} queue full, dropped {} events", name, count);
+            try {
+                listener.onEventsDropped(count);
+            } catch (RuntimeException e) {
+                log.error("[DomainEventBus] {} failed to recover from {} dropped events", name, count, e);
+            }
+        }
+
+        private void handle(List<Envelope<E>> batch) {
+            long now = System.nanoTime();
+            List<E> events = new ArrayList<>(batch.size());
+            for (Envelope<E> envelope : batch) {
+                lag.record(now - envelope.publishedAt(), TimeUnit.NANOSECONDS);
+                events.add(envelope.event());
+            }
+
+            try {
+                listener.onEvents(events);
+            } catch (RuntimeException e) {
+                failed.increment(events.size());
+                log.error("[DomainEventBus] {} failed to handle {} events", name, events.size(), e);
+            }
+        }
+
+        // 처리 중인 묶음은 끝까지 처리하고, 남은 이벤트는 호출 스레드에서 처리한다.
+        private void stop() {
+            running = false;
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            List<Envelope<E>> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                handle(remaining);
+            }
+        }
+    }
+}
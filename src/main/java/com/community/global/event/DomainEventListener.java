@@ -0,0 +1,20 @@
+package com.community.global.event;
+
+import java.util.List;
+
+/**
+ * 커밋된 이벤트를 묶음으로 처리하는 리스너. 리스너마다 전용 스레드에서 발행 순서대로 호출된다.
+ */
+public interface DomainEventListener<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void onEvents(List<E> events);
+
+    /**
+     * 대기열이 가득 차 이 리스너의 이벤트를 버린 뒤 리스너 스레드에서 호출된다.
+     * 원본(DB)에서 상태를 다시 맞출 수 있는 리스너는 여기서 다시 동기화한다.
+     */
+    default void onEventsDropped(long droppedCount) {
+    }
+}
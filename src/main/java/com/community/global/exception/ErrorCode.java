@@ -10,6 +10,7 @@ public enum ErrorCode {
     // common
     // [500]
     ID_REFLECTION_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Id 값 처리에 실패했습니다."),
+    QUERY_BUDGET_EXCEEDED(HttpStatus.INTERNAL_SERVER_ERROR, "요청당 SQL 실행 한도를 초과했습니다."),
 
     // user domain
     // [400]
@@ -17,8 +18,11 @@ public enum ErrorCode {
     INVALID_CURRENT_PASSWORD(HttpStatus.BAD_REQUEST, "현재 비밀번호가 일치하지 않습니다."),
     // [401]
     UNAUTHORIZED_USER(HttpStatus.UNAUTHORIZED, "인증되지 않은 사용자입니다."),
+    // [403]
+    DEACTIVATED_USER(HttpStatus.FORBIDDEN, "탈퇴 처리 중인 사용자입니다."),
     // [404]
     NOT_FOUND_USER(HttpStatus.NOT_FOUND, "존재하지 않는 사용자입니다."),
+    USER_DELETION_NOT_FOUND(HttpStatus.NOT_FOUND, "진행 중인 회원 탈퇴 요청이 없습니다."),
     // [409]
     DUPLICATED_EMAIL(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
     DUPLICATED_NICKNAME(HttpStatus.CONFLICT, "이미 사용 중인 닉네임입니다."),
@@ -32,8 +36,13 @@ public enum ErrorCode {
     REFRESH_TOKEN_MISMATCH(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다."),
     // [500]
     TOKEN_GENERATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "토큰 발급에 실패했습니다."),
+    // [503]
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 비밀번호를 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
     // post domain
+    // [400]
+    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어는 공백 없이 두 글자 이상인 단어를 포함해야 합니다."),
+    INVALID_VIEW_STATS_RANGE(HttpStatus.BAD_REQUEST, "조회수 통계 구간이 올바르지 않거나, 보관 기간 또는 최대 버킷 수를 벗어났습니다."),
     // [403]
     POST_FORBIDDEN(HttpStatus.FORBIDDEN, "게시글에 대한 권한이 없습니다."),
     // [404]
@@ -16,13 +16,18 @@ public final class SuccessMessage {
     public static final String PROFILE_FETCHED = "사용자 정보 조회에 성공했습니다.";
     public static final String PROFILE_UPDATED = "사용자 정보가 수정되었습니다.";
     public static final String PASSWORD_UPDATED = "비밀번호가 수정되었습니다.";
+    public static final String USER_DELETION_FETCHED = "회원 탈퇴 진행 상황 조회에 성공했습니다.";
 
     // post
     public static final String POST_LIST_FETCHED = "게시글 목록 조회에 성공했습니다.";
+    public static final String POPULAR_POST_LIST_FETCHED = "인기 게시글 조회에 성공했습니다.";
+    public static final String POST_SEARCHED = "게시글 검색에 성공했습니다.";
     public static final String POST_CREATED = "게시글이 등록되었습니다.";
     public static final String POST_FETCHED = "게시글 상세 조회에 성공했습니다.";
+    public static final String POST_VIEW_STATS_FETCHED = "게시글 조회수 통계 조회에 성공했습니다.";
     public static final String POST_UPDATED = "게시글이 수정되었습니다.";
     public static final String POST_DELETED = "게시글이 삭제되었습니다.";
+    public static final String POST_RESTORED = "게시글이 복구되었습니다.";
     public static final String POST_LIKED = "게시글에 좋아요를 표시했습니다.";
     public static final String POST_LIKE_CANCELLED = "게시글 좋아요가 취소되었습니다.";
     public static final String POST_LIKE_STATUS_FETCHED = "유저의 게시글 좋아요 여부 조회에 성공했습니다.";
@@ -10,16 +10,24 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class PostPermissionEvaluator implements TargetAwarePermissionEvaluator {
 
+    private static final String RESTORE = "RESTORE";
+
     private final PostRepository postRepository;
 
     @Override
     public boolean hasPermission(Authentication auth, Serializable targetId, String targetType, Object permission) {
-        Post post = postRepository.findById((Long) targetId).orElseThrow(
+        Long postId = (Long) targetId;
+        // 복구는 삭제 표시된 게시글을 대상으로 한다.
+        Optional<Post> target = RESTORE.equals(permission)
+                ? postRepository.findDeletedById(postId)
+                : postRepository.findById(postId);
+        Post post = target.orElseThrow(
                 () -> new CustomException(ErrorCode.POST_NOT_FOUND)
         );
         Long userId = ((AuthenticatedUser) auth.getPrincipal()).userId();
@@ -1,6 +1,8 @@
 package com.community.global.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -10,6 +12,10 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
@@ -19,6 +25,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -31,7 +38,8 @@ public class SecurityConfig {
             MATCHER.matcher(HttpMethod.POST, "/auth/login"),
             MATCHER.matcher(HttpMethod.GET, "/users/availability/**"),
             MATCHER.matcher(HttpMethod.POST, "/users"),
-            MATCHER.matcher(HttpMethod.GET, "/files/**")
+            MATCHER.matcher(HttpMethod.GET, "/files/**"),
+            MATCHER.matcher(HttpMethod.GET, "/actuator/health")
     };
 
     private final JwtFilter jwtFilter;
@@ -39,7 +47,8 @@ public class SecurityConfig {
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${management.server.port:-1}") int managementPort) throws Exception {
 
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -55,7 +64,10 @@ public class SecurityConfig {
                         .accessDeniedHandler(customAccessDeniedHandler))
 
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답 완료 시의 async dispatch 는 최초 요청에서 이미 인가되었다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(PERMIT_ALL_MATCHERS).permitAll()
+                        .requestMatchers(onManagementPort(managementPort, "/actuator/prometheus")).permitAll()
                         .anyRequest().authenticated())
 
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
@@ -63,6 +75,15 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 내부 인터페이스에 묶은 관리 포트(management.server.port)로 들어온 요청만 맞춘다.
+     * 관리 포트를 따로 두지 않으면 어떤 요청과도 맞지 않으므로, 메트릭은 인증된 요청에만 응답한다.
+     */
+    private static RequestMatcher onManagementPort(int managementPort, String pattern) {
+        RequestMatcher path = MATCHER.matcher(HttpMethod.GET, pattern);
+        return request -> managementPort > 0 && request.getLocalPort() == managementPort && path.matches(request);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -89,6 +110,21 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 새 비밀번호는 {bcrypt} 로 저장하고, 접두사가 없는 기존 평문 비밀번호는 noop 으로 검증한다.
+     * 평문이거나 cost 가 낮은 해시는 upgradeEncoding 이 true 가 되어 로그인 시 다시 해싱된다.
+     */
+    @Bean
+    @SuppressWarnings("deprecation")
+    public PasswordEncoder passwordEncoder(@Value("${application.password.bcrypt-strength}") int strength) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of(
+                "bcrypt", new BCryptPasswordEncoder(strength),
+                "noop", NoOpPasswordEncoder.getInstance()
+        ));
+        encoder.setDefaultPasswordEncoderForMatches(NoOpPasswordEncoder.getInstance());
+        return encoder;
+    }
+
     @Bean
     public MethodSecurityExpressionHandler methodSecurityExpressionHandler(CompositePermissionEvaluator evaluator) {
         var handler = new DefaultMethodSecurityExpressionHandler();
@@ -0,0 +1,21 @@
+package com.community.global.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 중 실행되는 SQL 을 세고, 어느 컨트롤러 메서드에서 실행됐는지 SQL 주석으로 남긴다.
+ * (hibernate.session_factory.statement_inspector 로 등록)
+ */
+public class QueryBudgetInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountContext context = QueryCountHolder.get();
+        if (context == null) {
+            return sql;
+        }
+
+        context.record(sql);
+        return "/* " + context.getEndpoint() + " */ " + sql;
+    }
+}
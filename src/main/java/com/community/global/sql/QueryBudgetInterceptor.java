@@ -0,0 +1,83 @@
+package com.community.global.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 컨트롤러 메서드 단위로 SQL 실행 수를 집계한다.
+ * 한도(max-statements)를 넘으면 LOG 모드에서는 경고 로그를, FAIL 모드에서는 한도를 넘는 SQL 실행 시점에 예외를 던진다.
+ * 같은 SQL 이 repeat-threshold 번 이상 반복되면 N+1 의심 로그를 남긴다.
+ * 비동기 요청은 afterCompletion 이 요청 스레드에서 호출되지 않으므로 비동기 처리가 시작될 때 컨텍스트를 비운다.
+ */
+@Slf4j
+@Component
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String METRIC_NAME = "community.request.queries";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int maxStatements;
+    private final Mode mode;
+    private final int repeatThreshold;
+
+    public QueryBudgetInterceptor(ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${application.query-budget.max-statements}") int maxStatements,
+                                  @Value("${application.query-budget.mode}") Mode mode,
+                                  @Value("${application.query-budget.repeat-threshold}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.mode = mode;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (mode != Mode.OFF && handler instanceof HandlerMethod handlerMethod) {
+            String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            QueryCountHolder.begin(new QueryCountContext(endpoint, maxStatements, mode == Mode.FAIL));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 요청 스레드는 컨테이너로 돌아가 다른 요청을 처리하므로 남은 컨텍스트가 다음 요청에 섞이지 않게 한다.
+        QueryCountHolder.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCountContext context = QueryCountHolder.get();
+        if (context == null) {
+            return;
+        }
+        QueryCountHolder.clear();
+
+        meterRegistry.ifAvailable(registry -> DistributionSummary.builder(METRIC_NAME)
+                .tag("endpoint", context.getEndpoint())
+                .register(registry)
+                .record(context.getCount()));
+
+        if (context.isOverBudget()) {
+            log.warn("[QueryBudget] {} executed {} statements (budget {})",
+                    context.getEndpoint(), context.getCount(), context.getBudget());
+        }
+        context.getRepeats().forEach((sql, times) -> {
+            if (times >= repeatThreshold) {
+                log.warn("[QueryBudget] possible N+1 in {}: {} times -> {}", context.getEndpoint(), times, sql);
+            }
+        });
+    }
+
+    public enum Mode {
+        OFF, LOG, FAIL
+    }
+}
@@ -0,0 +1,48 @@
+package com.community.global.sql;
+
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 요청 동안 실행된 SQL 수와 같은 SQL 이 반복된 횟수를 기록한다.
+ * 요청이 기다리는 조회 스레드도 같은 컨텍스트에 기록하므로 동시에 기록될 수 있다.
+ */
+@Getter
+public class QueryCountContext {
+
+    private final String endpoint;
+    private final int budget;
+    private final boolean failOnExceed;
+    private final Map<String, Integer> repeats = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger count = new AtomicInteger();
+
+    public QueryCountContext(String endpoint, int budget, boolean failOnExceed) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+        this.failOnExceed = failOnExceed;
+    }
+
+    public void record(String sql) {
+        int recorded = count.incrementAndGet();
+        repeats.merge(sql, 1, Integer::sum);
+
+        if (failOnExceed && recorded > budget) {
+            throw new CustomException(ErrorCode.QUERY_BUDGET_EXCEEDED);
+        }
+    }
+
+    public int getCount() {
+        return count.get();
+    }
+
+    public boolean isOverBudget() {
+        return getCount() > budget;
+    }
+}
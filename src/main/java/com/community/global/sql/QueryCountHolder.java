@@ -0,0 +1,52 @@
+package com.community.global.sql;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 스레드에 QueryCountContext 를 보관한다.
+ * StatementInspector 는 Hibernate 가 직접 생성하므로 빈 주입 대신 ThreadLocal 로 인터셉터와 상태를 공유한다.
+ * 요청이 기다리는 다른 스레드의 조회(ParallelPostAssembler)는 propagate 로 같은 컨텍스트에 집계한다.
+ * 응답 뒤에 실행되는 PostListCache 의 백그라운드 갱신은 어느 요청에도 집계하지 않는다.
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<QueryCountContext> CONTEXT = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    public static void begin(QueryCountContext context) {
+        CONTEXT.set(context);
+    }
+
+    public static QueryCountContext get() {
+        return CONTEXT.get();
+    }
+
+    public static void clear() {
+        CONTEXT.remove();
+    }
+
+    /**
+     * 호출 스레드의 컨텍스트를 실행 스레드에 넘기는 supplier 를 반환한다. 실행이 끝나면 실행 스레드의 이전 컨텍스트로 되돌린다.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        QueryCountContext context = CONTEXT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            QueryCountContext previous = CONTEXT.get();
+            CONTEXT.set(context);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    CONTEXT.remove();
+                } else {
+                    CONTEXT.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+-- 회원 탈퇴 (백그라운드 청크 삭제 + 요청 즉시 비활성화)
+-- spring.jpa.hibernate.ddl-auto=validate 이므로 배포 전에 파일 번호 순서대로 적용한다.
+
+CREATE TABLE IF NOT EXISTS `user_deletion_jobs` (
+`user_deletion_job_id` bigint NOT NULL AUTO_INCREMENT,
+`user_id` bigint NOT NULL,
+`status` enum('PENDING','DONE') NOT NULL DEFAULT 'PENDING',
+`deleted_posts` bigint NOT NULL DEFAULT 0,
+`deleted_comments` bigint NOT NULL DEFAULT 0,
+`deleted_likes` bigint NOT NULL DEFAULT 0,
+`created_at` datetime(6) DEFAULT NULL,
+`updated_at` datetime(6) DEFAULT NULL,
+PRIMARY KEY (`user_deletion_job_id`),
+UNIQUE KEY `uk_user_deletion_jobs_user_id` (`user_id`),
+KEY `idx_user_deletion_jobs_status` (`status`,`user_deletion_job_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+ALTER TABLE `users` ADD COLUMN `deactivated_at` datetime(6) DEFAULT NULL;
@@ -0,0 +1,5 @@
+-- 닉네임 유일성 (가용성 인덱스가 "확실히 사용 가능" 하다고 답한 뒤의 최종 보장은 이 제약이 맡는다)
+-- 중복 닉네임이 남아 있으면 ALTER 가 실패하므로 먼저 확인하고 정리한다.
+-- SELECT `nickname`, COUNT(*) FROM `users` GROUP BY `nickname` HAVING COUNT(*) > 1;
+
+ALTER TABLE `users` ADD UNIQUE KEY `uk_users_nickname` (`nickname`);
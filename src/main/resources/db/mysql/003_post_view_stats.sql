@@ -0,0 +1,17 @@
+-- 게시글 순 조회자 수 스케치(HyperLogLog)와 분 / 시 / 일 조회수 버킷
+
+CREATE TABLE IF NOT EXISTS `post_view_sketches` (
+`post_id` bigint NOT NULL,
+`registers` varbinary(2048) NOT NULL,
+`updated_at` datetime(6) NOT NULL,
+PRIMARY KEY (`post_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 버킷 증가는 INSERT ... ON DUPLICATE KEY UPDATE 로 하므로 기본 키가 (post_id, granularity, bucket_start) 여야 한다.
+CREATE TABLE IF NOT EXISTS `post_view_buckets` (
+`post_id` bigint NOT NULL,
+`granularity` varchar(10) NOT NULL,
+`bucket_start` datetime(6) NOT NULL,
+`views` bigint NOT NULL,
+PRIMARY KEY (`post_id`, `granularity`, `bucket_start`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,6 @@
+-- 게시글 soft delete (복구 기간이 지난 게시글은 PostPurgeService 가 청크 단위로 지운다)
+-- idx_posts_deleted_at: 삭제 대기 게시글을 deleted_at 순으로 찾는 purge 조회용
+
+ALTER TABLE `posts`
+    ADD COLUMN `deleted_at` datetime(6) DEFAULT NULL,
+    ADD KEY `idx_posts_deleted_at` (`deleted_at`);
@@ -0,0 +1,3 @@
+-- 게시글을 지울 때 조회 이벤트를 상태와 관계없이 post_id 로 찾아 지운다(PostPurgeService).
+
+ALTER TABLE `post_view_events` ADD KEY `idx_post_view_events_post_id` (`post_id`);
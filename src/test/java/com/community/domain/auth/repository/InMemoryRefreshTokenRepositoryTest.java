@@ -42,4 +42,21 @@ class InMemoryRefreshTokenRepositoryTest {
         //then
         assertThat(repository.find("token-to-delete")).isEmpty();
     }
+
+    @Test
+    @DisplayName("deleteAllByUserId 호출 시 해당 회원의 리프레시 토큰만 모두 제거한다.")
+    void deleteAllByUserId() {
+        //given
+        repository.save(new RefreshToken("token-1", 1L, Instant.now().plusSeconds(60)));
+        repository.save(new RefreshToken("token-2", 1L, Instant.now().plusSeconds(60)));
+        repository.save(new RefreshToken("token-3", 2L, Instant.now().plusSeconds(60)));
+
+        //when
+        repository.deleteAllByUserId(1L);
+
+        //then
+        assertThat(repository.find("token-1")).isEmpty();
+        assertThat(repository.find("token-2")).isEmpty();
+        assertThat(repository.find("token-3")).isPresent();
+    }
 }
@@ -0,0 +1,144 @@
+package com.community.domain.auth.service;
+
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱한 비밀번호는 원문과 다르고 원문으로 검증할 수 있다.")
+    void encode_and_matches() {
+        //given
+        passwordHashingService = new PasswordHashingService(delegatingEncoder(4), 1, 1, 1_000);
+
+        //when
+        String encoded = passwordHashingService.encode("Password1!");
+
+        //then
+        assertThat(encoded).startsWith("{bcrypt}");
+        assertThat(passwordHashingService.matches("Password1!", encoded)).isTrue();
+        assertThat(passwordHashingService.matches("Wrong1!", encoded)).isFalse();
+        assertThat(passwordHashingService.needsUpgrade(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("접두사가 없는 기존 평문 비밀번호도 검증되고, 재해싱 대상으로 판단한다.")
+    void matches_legacy_plaintext() {
+        //given
+        passwordHashingService = new PasswordHashingService(delegatingEncoder(4), 1, 1, 1_000);
+
+        //when + then
+        assertThat(passwordHashingService.matches("legacy", "legacy")).isTrue();
+        assertThat(passwordHashingService.needsUpgrade("legacy")).isTrue();
+    }
+
+    @Test
+    @DisplayName("더미 검증은 현재 설정으로 만든 bcrypt 해시와 비교하여 실제 검증과 같은 비용을 치른다.")
+    void matchesDummy_compares_against_bcrypt_hash() {
+        //given
+        PasswordEncoder encoder = spy(delegatingEncoder(4));
+        passwordHashingService = new PasswordHashingService(encoder, 1, 1, 1_000);
+
+        //when
+        passwordHashingService.matchesDummy("Password1!");
+        passwordHashingService.matchesDummy("Password2!");
+
+        //then
+        verify(encoder, times(1)).encode(anyString());
+        verify(encoder).matches(eq("Password1!"), startsWith("{bcrypt}"));
+        verify(encoder).matches(eq("Password2!"), startsWith("{bcrypt}"));
+    }
+
+    @Test
+    @DisplayName("cost 가 설정값보다 낮은 해시는 재해싱 대상으로 판단한다.")
+    void needsUpgrade_when_strength_lower() {
+        //given
+        String weakHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("Password1!");
+        passwordHashingService = new PasswordHashingService(delegatingEncoder(5), 1, 1, 1_000);
+
+        //when + then
+        assertThat(passwordHashingService.needsUpgrade(weakHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업 스레드와 대기열이 모두 차 있으면 바로 PASSWORD_HASHING_BUSY 예외를 던진다.")
+    void encode_throws_when_saturated() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHashingService = new PasswordHashingService(blockingEncoder(started, release), 1, 1, 5_000);
+
+        Thread running = new Thread(() -> passwordHashingService.encode("running"));
+        Thread queued = new Thread(() -> passwordHashingService.encode("queued"));
+        running.start();
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        queued.start();
+        Thread.sleep(100);
+
+        //when
+        CustomException ex = assertThrows(CustomException.class, () -> passwordHashingService.encode("rejected"));
+
+        //then
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+        release.countDown();
+        running.join();
+        queued.join();
+    }
+
+    @SuppressWarnings("deprecation")
+    private PasswordEncoder delegatingEncoder(int strength) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of(
+                "bcrypt", new BCryptPasswordEncoder(strength),
+                "noop", NoOpPasswordEncoder.getInstance()
+        ));
+        encoder.setDefaultPasswordEncoderForMatches(NoOpPasswordEncoder.getInstance());
+        return encoder;
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}
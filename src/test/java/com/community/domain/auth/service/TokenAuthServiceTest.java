@@ -9,6 +9,7 @@ import com.community.domain.auth.model.RefreshToken;
 import com.community.domain.auth.repository.RefreshTokenRepository;
 import com.community.domain.user.model.User;
 import com.community.domain.user.repository.UserRepository;
+import com.community.domain.user.service.UserService;
 import com.community.global.exception.CustomException;
 import com.community.global.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +41,12 @@ class TokenAuthServiceTest {
     @Mock
     private TokenProvider tokenProvider;
 
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private UserService userService;
+
     @InjectMocks
     private TokenAuthService tokenAuthService;
 
@@ -54,6 +61,7 @@ class TokenAuthServiceTest {
         TokenResult refreshToken = new TokenResult("refresh-token", Instant.now().plusSeconds(7200));
 
         when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches(request.getPassword(), user.getPassword())).thenReturn(true);
         when(tokenProvider.createToken(anyMap(), eq(TokenType.ACCESS))).thenReturn(accessToken);
         when(tokenProvider.createToken(anyMap(), eq(TokenType.REFRESH))).thenReturn(refreshToken);
 
@@ -75,7 +83,7 @@ class TokenAuthServiceTest {
     }
 
     @Test
-    @DisplayName("로그인 시 이메일로 사용자를 찾지 못하면 LOGIN_FAILED 예외를 던진다.")
+    @DisplayName("로그인 시 이메일로 사용자를 찾지 못하면 더미 해시로 비밀번호를 검증한 뒤 LOGIN_FAILED 예외를 던진다.")
     void login_throws_login_failed_when_findByEmail_empty() {
         //given
         LoginRequest request = loginRequest("missing@test.com", "password");
@@ -86,6 +94,7 @@ class TokenAuthServiceTest {
 
         //then
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.LOGIN_FAILED);
+        verify(passwordHashingService).matchesDummy("password");
     }
 
     @Test
@@ -95,10 +104,53 @@ class TokenAuthServiceTest {
         LoginRequest request = loginRequest("test1@email.com", "pwDifferent!1");
         User user = getIdentifyingUser(1);
         when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches(request.getPassword(), user.getPassword())).thenReturn(false);
 
         //when + then
         CustomException exception = assertThrows(CustomException.class, () -> tokenAuthService.login(request));
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.LOGIN_FAILED);
+        verify(userService, never()).upgradePasswordHash(any(), any());
+    }
+
+    @Test
+    @DisplayName("로그인에 성공했을 때 비밀번호 해시가 오래된 형식이면 다시 해싱하여 저장한다.")
+    void login_upgrades_legacy_password_hash() {
+        //given
+        User user = getIdentifyingUser(1);
+        LoginRequest request = loginRequest("test1@test.com", "password");
+
+        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("password", user.getPassword())).thenReturn(true);
+        when(passwordHashingService.needsUpgrade(user.getPassword())).thenReturn(true);
+        when(passwordHashingService.encode("password")).thenReturn("{bcrypt}hashed");
+        when(tokenProvider.createToken(anyMap(), any())).thenReturn(new TokenResult("token", Instant.now().plusSeconds(60)));
+
+        //when
+        tokenAuthService.login(request);
+
+        //then
+        verify(userService).upgradePasswordHash(1L, "{bcrypt}hashed");
+    }
+
+    @Test
+    @DisplayName("비밀번호 재해싱 풀이 바쁘면 재해싱을 건너뛰고 로그인은 성공한다.")
+    void login_skips_upgrade_when_hashing_busy() {
+        //given
+        User user = getIdentifyingUser(1);
+        LoginRequest request = loginRequest("test1@test.com", "password");
+
+        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("password", user.getPassword())).thenReturn(true);
+        when(passwordHashingService.needsUpgrade(user.getPassword())).thenReturn(true);
+        when(passwordHashingService.encode("password")).thenThrow(new CustomException(ErrorCode.PASSWORD_HASHING_BUSY));
+        when(tokenProvider.createToken(anyMap(), any())).thenReturn(new TokenResult("token", Instant.now().plusSeconds(60)));
+
+        //when
+        LoginResult result = tokenAuthService.login(request);
+
+        //then
+        assertThat(result.tokenResponse().getAccessToken()).isEqualTo("token");
+        verify(userService, never()).upgradePasswordHash(any(), any());
     }
 
     @Test
@@ -111,6 +163,9 @@ class TokenAuthServiceTest {
         TokenResult newRefreshToken = new TokenResult("new-refresh", Instant.now().plusSeconds(10800));
 
         when(tokenProvider.parseToken(refreshTokenValue, TokenType.REFRESH)).thenReturn(payload);
+        when(refreshTokenRepository.find(refreshTokenValue))
+                .thenReturn(Optional.of(new RefreshToken(refreshTokenValue, 7L, payload.expiresAt())));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(getNumberedUser(7)));
         when(tokenProvider.createToken(anyMap(), eq(TokenType.ACCESS))).thenReturn(newAccessToken);
         when(tokenProvider.createToken(anyMap(), eq(TokenType.REFRESH))).thenReturn(newRefreshToken);
 
@@ -141,6 +196,61 @@ class TokenAuthServiceTest {
         verifyNoInteractions(tokenProvider, refreshTokenRepository);
     }
 
+    @Test
+    @DisplayName("탈퇴를 요청한 회원은 비밀번호가 맞아도 LOGIN_FAILED 예외를 던진다.")
+    void login_throws_login_failed_when_user_deactivated() {
+        //given
+        User user = getNumberedUser(1);
+        user.deactivate();
+        LoginRequest request = loginRequest("test1@test.com", "password");
+        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("password", user.getPassword())).thenReturn(true);
+
+        //when
+        CustomException exception = assertThrows(CustomException.class, () -> tokenAuthService.login(request));
+
+        //then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.LOGIN_FAILED);
+        verifyNoInteractions(tokenProvider, refreshTokenRepository);
+    }
+
+    @Test
+    @DisplayName("저장소에 없는(폐기된) 리프레시 토큰으로는 재발급할 수 없다.")
+    void refresh_throws_token_mismatch_when_token_revoked() {
+        //given
+        TokenPayload payload = new TokenPayload(7L, Instant.now().plusSeconds(7200), TokenType.REFRESH.name());
+        when(tokenProvider.parseToken("revoked", TokenType.REFRESH)).thenReturn(payload);
+        when(refreshTokenRepository.find("revoked")).thenReturn(Optional.empty());
+
+        //when
+        CustomException exception = assertThrows(CustomException.class, () -> tokenAuthService.refresh("revoked"));
+
+        //then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_MISMATCH);
+        verify(tokenProvider, never()).createToken(anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("탈퇴를 요청한 회원의 리프레시 토큰은 폐기하고 재발급하지 않는다.")
+    void refresh_throws_token_mismatch_when_user_deactivated() {
+        //given
+        TokenPayload payload = new TokenPayload(7L, Instant.now().plusSeconds(7200), TokenType.REFRESH.name());
+        User user = getNumberedUser(7);
+        user.deactivate();
+        when(tokenProvider.parseToken("refresh-token", TokenType.REFRESH)).thenReturn(payload);
+        when(refreshTokenRepository.find("refresh-token"))
+                .thenReturn(Optional.of(new RefreshToken("refresh-token", 7L, payload.expiresAt())));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class, () -> tokenAuthService.refresh("refresh-token"));
+
+        //then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_MISMATCH);
+        verify(refreshTokenRepository).delete("refresh-token");
+        verify(tokenProvider, never()).createToken(anyMap(), any());
+    }
+
     private LoginRequest loginRequest(String email, String password) {
         LoginRequest request = new LoginRequest();
         request.setEmail(email);
@@ -2,11 +2,13 @@ package com.community.domain.board.repository;
 
 import com.community.domain.board.model.Comment;
 import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.dto.DeletedComments;
 import com.community.domain.common.page.PageResult;
 import com.community.domain.common.page.PaginationRequest;
 import com.community.domain.user.model.User;
 import com.community.domain.user.repository.JpaUserRepository;
 import com.community.domain.user.repository.UserRepository;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +20,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.community.helper.CommentMaker.getNumberedComment;
 import static com.community.helper.PostMaker.getNumberedPost;
@@ -108,6 +111,33 @@ class CommentRepositoryTest {
         assertTrue(result.items().stream().allMatch(c -> c.getPost().getId().equals(post.getId())));
     }
 
+    @Test
+    @DisplayName("댓글 페이지 조회 시 작성자를 함께 불러오고, 마지막 페이지에서도 전체 개수를 정확히 계산한다.")
+    void findByPostId_fetches_author_and_counts_last_page() {
+        //given
+        User author = saveUser(1);
+        Post post = savePost(author, 1);
+        saveComment(post, author, 1);
+        saveComment(post, author, 2);
+        saveComment(post, author, 3);
+        flushAndClear();
+
+        PaginationRequest lastPage = new PaginationRequest(1, 2, "id", PaginationRequest.SortDirection.ASC);
+        PaginationRequest emptyPage = new PaginationRequest(5, 2, "id", PaginationRequest.SortDirection.ASC);
+
+        //when
+        PageResult<Comment> result = commentRepository.findByPostId(post.getId(), lastPage);
+        PageResult<Comment> empty = commentRepository.findByPostId(post.getId(), emptyPage);
+
+        //then
+        assertEquals(1, result.items().size());
+        assertEquals(3, result.totalElements());
+        assertEquals(2, result.totalPages());
+        assertTrue(Hibernate.isInitialized(result.items().get(0).getUser()));
+        assertEquals(0, empty.items().size());
+        assertEquals(3, empty.totalElements());
+    }
+
     @Test
     @DisplayName("게시글 id 로 댓글 수를 집계할 수 있다.")
     void countByPostId() {
@@ -170,6 +200,58 @@ class CommentRepositoryTest {
         assertEquals(other.getId(), remaining.get(0).getUser().getId());
     }
 
+    @Test
+    @DisplayName("사용자 id 로 댓글을 limit 개수만큼만 삭제하고 삭제된 개수와 댓글이 달린 게시글 id 를 반환한다.")
+    void deleteChunkByUserId() {
+        //given
+        User author = saveUser(1);
+        User other = saveUser(2);
+        Post post = savePost(other, 1);
+        saveComment(post, author, 1);
+        saveComment(post, author, 2);
+        saveComment(post, author, 3);
+        saveComment(post, other, 4);
+        flushAndClear();
+
+        //when
+        DeletedComments firstChunk = commentRepository.deleteChunkByUserId(author.getId(), 2);
+        DeletedComments secondChunk = commentRepository.deleteChunkByUserId(author.getId(), 2);
+        DeletedComments thirdChunk = commentRepository.deleteChunkByUserId(author.getId(), 2);
+        flushAndClear();
+
+        //then
+        assertEquals(2, firstChunk.count());
+        assertEquals(Set.of(post.getId()), firstChunk.postIds());
+        assertEquals(1, secondChunk.count());
+        assertEquals(0, thirdChunk.count());
+        assertEquals(Set.of(), thirdChunk.postIds());
+        assertEquals(1L, commentRepository.countByPostId(post.getId()));
+    }
+
+    @Test
+    @DisplayName("게시글 작성자 id 로 해당 작성자의 게시글에 달린 댓글을 limit 개수만큼 삭제할 수 있다.")
+    void deleteChunkByPostAuthorId() {
+        //given
+        User author = saveUser(1);
+        User commenter = saveUser(2);
+        Post authorPost = savePost(author, 1);
+        Post commenterPost = savePost(commenter, 2);
+        saveComment(authorPost, commenter, 1);
+        saveComment(authorPost, commenter, 2);
+        saveComment(commenterPost, author, 3);
+        flushAndClear();
+
+        //when
+        DeletedComments deleted = commentRepository.deleteChunkByPostAuthorId(author.getId(), 10);
+        flushAndClear();
+
+        //then
+        assertEquals(2, deleted.count());
+        assertEquals(Set.of(authorPost.getId()), deleted.postIds());
+        assertEquals(0L, commentRepository.countByPostId(authorPost.getId()));
+        assertEquals(1L, commentRepository.countByPostId(commenterPost.getId()));
+    }
+
     private User saveUser(int sequence) {
         User user = getNumberedUser(sequence);
         userRepository.save(user);
@@ -0,0 +1,195 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.board.model.Post;
+import com.community.domain.board.model.PostLike;
+import com.community.domain.board.repository.dto.PostActivity;
+import com.community.domain.board.repository.dto.PostDocument;
+import com.community.domain.common.page.PageResult;
+import com.community.domain.common.page.PaginationRequest;
+import com.community.domain.user.model.User;
+import com.community.domain.user.repository.InMemoryUserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.community.helper.CommentMaker.getNumberedComment;
+import static com.community.helper.PostMaker.getNumberedPost;
+import static com.community.helper.UserMaker.getNumberedUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryPostRepositoryTest {
+
+    private final InMemoryUserRepository userRepository = new InMemoryUserRepository();
+    private final InMemoryCommentRepository commentRepository = new InMemoryCommentRepository();
+    private final InMemoryPostLikeRepository postLikeRepository = new InMemoryPostLikeRepository();
+    private final InMemoryPostRepository postRepository = new InMemoryPostRepository(commentRepository, postLikeRepository);
+
+    private User saveUser(int num) {
+        User user = getNumberedUser(num);
+        userRepository.save(user);
+        return user;
+    }
+
+    private Post savePost(User user, int num) {
+        Post post = getNumberedPost(user, num);
+        postRepository.save(post);
+        return post;
+    }
+
+    @Test
+    @DisplayName("게시글 목록은 정렬 키 색인에서 요청한 페이지만 읽고, 전체 개수를 함께 반환한다.")
+    void findAll_pages_by_sort_key() {
+        //given
+        User user = saveUser(1);
+        for (int i = 1; i <= 5; i++) {
+            savePost(user, i);
+        }
+        postRepository.increaseViewCount(2L, 10);
+        postRepository.increaseViewCount(4L, 5);
+
+        //when
+        PageResult<Post> latest = postRepository.findAll(
+                new PaginationRequest(0, 2, "createdAt", PaginationRequest.SortDirection.DESC));
+        PageResult<Post> mostViewed = postRepository.findAll(
+                new PaginationRequest(0, 2, "viewCount", PaginationRequest.SortDirection.DESC));
+        PageResult<Post> lastPage = postRepository.findAll(
+                new PaginationRequest(2, 2, "createdAt", PaginationRequest.SortDirection.DESC));
+
+        //then
+        assertThat(latest.items()).extracting(Post::getId).containsExactly(5L, 4L);
+        assertThat(latest.totalElements()).isEqualTo(5);
+        assertThat(latest.totalPages()).isEqualTo(3);
+        assertThat(mostViewed.items()).extracting(Post::getId).containsExactly(2L, 4L);
+        assertThat(lastPage.items()).extracting(Post::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("회원별 게시글 / 좋아요한 게시글은 해당 회원의 게시글만 정렬해 반환한다.")
+    void findByUserId_and_findByPostLikeUserId() {
+        //given
+        User author = saveUser(1);
+        User other = saveUser(2);
+        Post first = savePost(author, 1);
+        savePost(other, 2);
+        Post third = savePost(author, 3);
+        postLikeRepository.save(new PostLike(first, other));
+        postLikeRepository.save(new PostLike(third, other));
+
+        PaginationRequest request = new PaginationRequest(0, 10, "createdAt", PaginationRequest.SortDirection.DESC);
+
+        //when
+        PageResult<Post> written = postRepository.findByUserId(author.getId(), request);
+        PageResult<Post> liked = postRepository.findByPostLikeUserId(other.getId(), request);
+
+        //then
+        assertThat(written.items()).containsExactly(third, first);
+        assertThat(liked.items()).containsExactly(third, first);
+        assertThat(liked.totalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글을 삭제하면 색인에서 빠지고 댓글 / 좋아요도 함께 삭제된다.")
+    void delete_cascades_to_comments_and_likes() {
+        //given
+        User user = saveUser(1);
+        Post post = savePost(user, 1);
+        commentRepository.save(getNumberedComment(post, user, 1));
+        postLikeRepository.save(new PostLike(post, user));
+
+        //when
+        postRepository.delete(post);
+
+        //then
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(postRepository.findAll(new PaginationRequest(0, 10, null, null)).totalElements()).isZero();
+        assertThat(postRepository.findAllByUserId(user.getId())).isEmpty();
+        assertThat(commentRepository.countByPostId(post.getId())).isZero();
+        assertThat(postLikeRepository.existsByPostIdAndUserId(post.getId(), user.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글은 색인에서 빠지고 댓글 / 좋아요도 조회되지 않으며, 복구하면 그대로 돌아온다.")
+    void softDelete_and_restore() {
+        //given
+        User user = saveUser(1);
+        Post post = savePost(user, 1);
+        commentRepository.save(getNumberedComment(post, user, 1));
+        postLikeRepository.save(new PostLike(post, user));
+
+        //when
+        postRepository.softDelete(post);
+
+        //then
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(postRepository.findAll(new PaginationRequest(0, 10, null, null)).totalElements()).isZero();
+        assertThat(commentRepository.countByPostId(post.getId())).isZero();
+        assertThat(postLikeRepository.existsByPostIdAndUserId(post.getId(), user.getId())).isFalse();
+        assertThat(postRepository.findChunkDeletedBefore(LocalDateTime.now().plusSeconds(1), 10)).containsExactly(post);
+        assertThat(postRepository.findChunkByUserId(user.getId(), 10)).containsExactly(post);
+        assertThat(postRepository.streamByUserId(user.getId())).isEmpty();
+
+        //when
+        postRepository.restore(postRepository.findDeletedById(post.getId()).orElseThrow());
+
+        //then
+        assertThat(postRepository.findById(post.getId())).contains(post);
+        assertThat(postRepository.findAll(new PaginationRequest(0, 10, null, null)).items()).containsExactly(post);
+        assertThat(postRepository.streamByUserId(user.getId())).containsExactly(post);
+        assertThat(commentRepository.countByPostId(post.getId())).isEqualTo(1L);
+        assertThat(postLikeRepository.countByPostId(post.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("제목을 수정하면 제목 정렬에서 새 위치로 옮겨진다.")
+    void updateTitle_reindexes_title() {
+        //given
+        User user = saveUser(1);
+        Post a = savePost(user, 1);
+        Post b = savePost(user, 2);
+
+        //when
+        postRepository.updateTitle(a, "z");
+
+        //then
+        PageResult<Post> byTitle = postRepository.findAll(
+                new PaginationRequest(0, 10, "title", PaginationRequest.SortDirection.ASC));
+        assertThat(byTitle.items()).containsExactly(b, a);
+    }
+
+    @Test
+    @DisplayName("최근 게시글 활동은 최신 게시글부터 좋아요 / 댓글 수와 함께 반환한다.")
+    void findActivitiesSince_counts_likes_and_comments() {
+        //given
+        User user = saveUser(1);
+        Post first = savePost(user, 1);
+        Post second = savePost(user, 2);
+        commentRepository.save(getNumberedComment(first, user, 1));
+        commentRepository.save(getNumberedComment(first, user, 2));
+        postLikeRepository.save(new PostLike(second, user));
+
+        //when
+        List<PostActivity> activities = postRepository.findActivitiesSince(LocalDateTime.now().minusDays(1), 10);
+
+        //then
+        assertThat(activities).extracting(PostActivity::postId).containsExactly(second.getId(), first.getId());
+        assertThat(activities.get(0).likeCount()).isEqualTo(1L);
+        assertThat(activities.get(1).commentCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("게시글 id 이후의 검색 문서를 id 순으로 limit 개까지 반환한다.")
+    void findDocumentsAfter() {
+        //given
+        User user = saveUser(1);
+        for (int i = 1; i <= 4; i++) {
+            savePost(user, i);
+        }
+
+        //when & then
+        assertThat(postRepository.findDocumentsAfter(1L, 2))
+                .extracting(PostDocument::postId)
+                .containsExactly(2L, 3L);
+    }
+}
@@ -135,6 +135,55 @@ public class PostLikeRepositoryTest {
         assertEquals(2L, count);
     }
 
+    @Test
+    @DisplayName("회원 id 로 좋아요를 limit 개수만큼만 삭제한다.")
+    void deleteChunkByUserId() {
+        //given
+        User author = saveUser(1);
+        User liker = saveUser(2);
+        Post first = savePost(author, 1);
+        Post second = savePost(author, 2);
+        Post third = savePost(author, 3);
+        savePostLike(first, liker);
+        savePostLike(second, liker);
+        savePostLike(third, liker);
+        savePostLike(first, author);
+        flushAndClear();
+
+        //when
+        int deleted = postLikeRepository.deleteChunkByUserId(liker.getId(), 2);
+        flushAndClear();
+
+        //then
+        assertEquals(2, deleted);
+        long remaining = postLikeRepository.countByPostId(first.getId())
+                + postLikeRepository.countByPostId(second.getId())
+                + postLikeRepository.countByPostId(third.getId());
+        assertEquals(2L, remaining);
+    }
+
+    @Test
+    @DisplayName("게시글 작성자 id 로 해당 작성자의 게시글에 눌린 좋아요를 삭제한다.")
+    void deleteChunkByPostAuthorId() {
+        //given
+        User author = saveUser(1);
+        User liker = saveUser(2);
+        Post authorPost = savePost(author, 1);
+        Post likerPost = savePost(liker, 2);
+        savePostLike(authorPost, liker);
+        savePostLike(likerPost, author);
+        flushAndClear();
+
+        //when
+        int deleted = postLikeRepository.deleteChunkByPostAuthorId(author.getId(), 10);
+        flushAndClear();
+
+        //then
+        assertEquals(1, deleted);
+        assertEquals(0L, postLikeRepository.countByPostId(authorPost.getId()));
+        assertEquals(1L, postLikeRepository.countByPostId(likerPost.getId()));
+    }
+
     private User saveUser(int sequence) {
         User user = getNumberedUser(sequence);
         userRepository.save(user);
@@ -1,12 +1,17 @@
 package com.community.domain.board.repository;
 
+import com.community.domain.board.model.Comment;
 import com.community.domain.board.model.Post;
 import com.community.domain.board.model.PostLike;
+import com.community.domain.board.repository.dto.PostActivity;
+import com.community.domain.board.repository.dto.PostDocument;
 import com.community.domain.common.page.PageResult;
 import com.community.domain.common.page.PaginationRequest;
 import com.community.domain.user.model.User;
 import com.community.domain.user.repository.JpaUserRepository;
 import com.community.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,8 +21,13 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.community.helper.PostMaker.*;
 import static com.community.helper.UserMaker.*;
@@ -111,6 +121,37 @@ public class PostRepositoryTest {
         assertEquals(List.of(p1.getId(), p2.getId()), itemIds);
     }
 
+    @Test
+    @DisplayName("허용되지 않은 sortBy 는 쿼리에 들어가지 않고 작성일 정렬로 대체되며, 쿼리 플랜을 새로 만들지 않는다.")
+    void findAll_with_unknown_sortBy_uses_prebuilt_query() {
+        //given
+        User author = saveUser(1);
+        Post p1 = savePost(author, 1);
+        Post p2 = savePost(author, 2);
+        flushAndClear();
+
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        postRepository.findAll(new PaginationRequest(0, 10, "createdAt", PaginationRequest.SortDirection.DESC));
+        long planMisses = statistics.getQueryPlanCacheMissCount();
+
+        //when
+        PageResult<Post> result = null;
+        for (int i = 0; i < 5; i++) {
+            String injected = "id; delete from Post p where p.id = " + i;
+            result = postRepository.findAll(new PaginationRequest(0, 10, injected, PaginationRequest.SortDirection.DESC));
+        }
+
+        //then
+        List<Long> itemIds = result.items().stream()
+                .map(Post::getId)
+                .toList();
+        assertEquals(2, result.totalElements());
+        assertTrue(itemIds.containsAll(List.of(p1.getId(), p2.getId())));
+        assertEquals(planMisses, statistics.getQueryPlanCacheMissCount());
+    }
+
     @Test
     @DisplayName("특정 사용자의 게시글만 페이징으로 조회할 수 있다.")
     void findByUserId() {
@@ -187,6 +228,83 @@ public class PostRepositoryTest {
         assertTrue(ids.containsAll(List.of(first.getId(), second.getId())));
     }
 
+    @Test
+    @DisplayName("특정 사용자의 게시글을 limit 개수만큼 나누어 조회하고 id 목록으로 일괄 삭제할 수 있다.")
+    void findChunkByUserId_and_deleteAllByIds() {
+        //given
+        User author = saveUser(1);
+        User other = saveUser(2);
+
+        savePost(author, 1);
+        savePost(author, 2);
+        savePost(author, 3);
+        Post otherPost = savePost(other, 4);
+        flushAndClear();
+
+        //when
+        List<Post> chunk = postRepository.findChunkByUserId(author.getId(), 2);
+        int deleted = postRepository.deleteAllByIds(chunk.stream().map(Post::getId).toList());
+        flushAndClear();
+
+        //then
+        assertEquals(2, chunk.size());
+        assertEquals(2, deleted);
+        assertEquals(1, postRepository.findAllByUserId(author.getId()).size());
+        assertTrue(postRepository.findById(otherPost.getId()).isPresent());
+        assertEquals(0, postRepository.deleteAllByIds(List.of()));
+    }
+
+    @Test
+    @DisplayName("특정 사용자의 삭제되지 않은 게시글을 id 순으로 스트림으로 조회한다.")
+    void streamByUserId() {
+        //given
+        User author = saveUser(1);
+        User other = saveUser(2);
+
+        Post first = savePost(author, 1);
+        Post deleted = savePost(author, 2);
+        Post last = savePost(author, 3);
+        savePost(other, 4);
+        deleted.softDelete();
+        flushAndClear();
+
+        //when
+        List<Post> streamed;
+        try (Stream<Post> posts = postRepository.streamByUserId(author.getId())) {
+            streamed = posts.toList();
+        }
+
+        //then
+        List<Long> expectedIds = Stream.of(first, last)
+                .map(Post::getId)
+                .sorted()
+                .toList();
+        assertEquals(expectedIds, streamed.stream().map(Post::getId).toList());
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글은 단건 / 목록 조회에서 빠지고, 복구와 삭제 배치 조회에서만 조회된다.")
+    void softDelete_hides_post_until_purged() {
+        //given
+        User author = saveUser(1);
+        Post deleted = savePost(author, 1);
+        Post alive = savePost(author, 2);
+        flushAndClear();
+
+        //when
+        postRepository.softDelete(postRepository.findById(deleted.getId()).get());
+        flushAndClear();
+
+        //then
+        assertTrue(postRepository.findById(deleted.getId()).isEmpty());
+        assertEquals(1L, postRepository.findAll(new PaginationRequest(0, 10, null, null)).totalElements());
+        assertEquals(List.of(alive), postRepository.findAllByUserId(author.getId()));
+        assertTrue(postRepository.findDeletedById(deleted.getId()).isPresent());
+        assertTrue(postRepository.findDeletedById(alive.getId()).isEmpty());
+        assertEquals(List.of(deleted), postRepository.findChunkDeletedBefore(LocalDateTime.now().plusSeconds(1), 10));
+        assertTrue(postRepository.findChunkDeletedBefore(LocalDateTime.now().minusHours(1), 10).isEmpty());
+    }
+
     @Test
     @DisplayName("조회 수 증가 요청이 양수일 때만 값을 변경한다.")
     void increaseViewCount() {
@@ -206,6 +324,77 @@ public class PostRepositoryTest {
         assertEquals(5, updated.getViewCount());
     }
 
+    @Test
+    @DisplayName("id 목록으로 게시글을 작성자와 함께 조회한다.")
+    void findAllByIds() {
+        //given
+        User author = saveUser(1);
+        Post first = savePost(author, 1);
+        Post second = savePost(author, 2);
+        savePost(author, 3);
+        flushAndClear();
+
+        //when
+        List<Post> posts = postRepository.findAllByIds(List.of(first.getId(), second.getId(), -1L));
+
+        //then
+        assertEquals(2, posts.size());
+        assertTrue(posts.stream().allMatch(post -> post.getUser().getNickname().equals(author.getNickname())));
+        assertTrue(postRepository.findAllByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후 게시글의 조회수 / 좋아요 수 / 댓글 수를 한 번에 집계한다.")
+    void findActivitiesSince() {
+        //given
+        User author = saveUser(1);
+        User other = saveUser(2);
+        Post popular = savePost(author, 1);
+        Post quiet = savePost(author, 2);
+        persistPostLike(author, popular);
+        persistPostLike(other, popular);
+        em.persist(new Comment(popular, other, "comment"));
+        flushAndClear();
+        postRepository.increaseViewCount(popular.getId(), 7);
+        flushAndClear();
+
+        //when
+        Map<Long, PostActivity> activities = postRepository.findActivitiesSince(LocalDateTime.now().minusDays(1), 10)
+                .stream()
+                .collect(Collectors.toMap(PostActivity::postId, Function.identity()));
+
+        //then
+        assertEquals(2, activities.size());
+        PostActivity popularActivity = activities.get(popular.getId());
+        assertEquals(7L, popularActivity.viewCount());
+        assertEquals(2L, popularActivity.likeCount());
+        assertEquals(1L, popularActivity.commentCount());
+        assertNotNull(popularActivity.createdAt());
+        assertEquals(0L, activities.get(quiet.getId()).likeCount());
+        assertTrue(postRepository.findActivitiesSince(LocalDateTime.now().plusDays(1), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("id 순으로 마지막 id 이후의 게시글 제목 / 본문을 limit 개수만큼 조회한다.")
+    void findDocumentsAfter() {
+        //given
+        User author = saveUser(1);
+        Post first = savePost(author, 1);
+        Post second = savePost(author, 2);
+        Post third = savePost(author, 3);
+        flushAndClear();
+
+        //when
+        List<PostDocument> documents = postRepository.findDocumentsAfter(first.getId(), 1);
+
+        //then
+        assertEquals(1, documents.size());
+        assertEquals(second.getId(), documents.get(0).postId());
+        assertEquals(second.getTitle(), documents.get(0).title());
+        assertEquals(second.getBody(), documents.get(0).body());
+        assertTrue(postRepository.findDocumentsAfter(third.getId(), 10).isEmpty());
+    }
+
     private User saveUser(int sequence) {
         User user = getNumberedUser(sequence);
         userRepository.save(user);
@@ -0,0 +1,48 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.board.model.PostViewBucket;
+import com.community.domain.board.model.PostViewBucketId;
+import com.community.domain.board.model.ViewGranularity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaPostViewBucketRepository.class)
+class PostViewBucketRepositoryTest {
+
+    @Autowired
+    private JpaPostViewBucketRepository repository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("없는 버킷은 만들고, 이미 있는 버킷에는 조회수를 더한다.")
+    void increase_upserts_bucket() {
+        //given
+        PostViewBucketId id = new PostViewBucketId(1L, ViewGranularity.HOUR, LocalDateTime.of(2026, 10, 19, 13, 0));
+        PostViewBucketId other = new PostViewBucketId(1L, ViewGranularity.DAY, LocalDateTime.of(2026, 10, 19, 0, 0));
+
+        //when
+        repository.increase(id, 3L);
+        repository.increase(id, 4L);
+        repository.increase(other, 1L);
+        em.clear();
+
+        //then
+        assertThat(em.find(PostViewBucket.class, id).getViews()).isEqualTo(7L);
+        assertThat(em.find(PostViewBucket.class, other).getViews()).isEqualTo(1L);
+    }
+}
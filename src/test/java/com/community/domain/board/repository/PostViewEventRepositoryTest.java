@@ -0,0 +1,92 @@
+package com.community.domain.board.repository;
+
+import com.community.domain.board.model.PostViewEvent;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JpaPostViewEventRepository.class)
+class PostViewEventRepositoryTest {
+
+    @Autowired
+    private JpaPostViewEventRepository repository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("id 가 insert 전에 할당되므로 여러 조회 이벤트의 insert 가 하나의 batch 로 전송된다.")
+    void save_batches_inserts() {
+        //given
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        List<PostViewEvent> events = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 30; i++) {
+            events.add(repository.save(new PostViewEvent(1L)));
+        }
+        em.flush();
+
+        //then
+        assertThat(events).allSatisfy(event -> assertThat(event.getId()).isNotNull());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("나중에 저장한 이벤트의 id 가 더 크므로 id 순 조회가 저장 순서와 같다.")
+    void ids_follow_insertion_order() {
+        //given
+        PostViewEvent first = repository.save(new PostViewEvent(1L));
+        PostViewEvent second = repository.save(new PostViewEvent(2L));
+        em.flush();
+        em.clear();
+
+        //when
+        List<PostViewEvent> pending = repository.findByLimitOrderByIdAsc(1_000);
+
+        //then
+        assertThat(pending).extracting(PostViewEvent::getId).containsSubsequence(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("게시글의 조회 이벤트는 소비 여부와 관계없이 limit 개씩 지우고, 다른 게시글의 이벤트는 남긴다.")
+    void deleteChunkByPostIds_deletes_pending_and_done() {
+        //given
+        PostViewEvent done = repository.save(new PostViewEvent(1L));
+        repository.save(new PostViewEvent(1L));
+        PostViewEvent other = repository.save(new PostViewEvent(2L));
+        em.flush();
+        repository.updateStatus(Set.of(done.getId()));
+        em.clear();
+
+        //when
+        int first = repository.deleteChunkByPostIds(List.of(1L), 1);
+        int second = repository.deleteChunkByPostIds(List.of(1L), 1);
+        int third = repository.deleteChunkByPostIds(List.of(1L), 1);
+
+        //then
+        assertThat(first + second).isEqualTo(2);
+        assertThat(third).isZero();
+        assertThat(em.find(PostViewEvent.class, other.getId())).isNotNull();
+    }
+}
@@ -0,0 +1,70 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.CommentSingleResponse;
+import com.community.domain.common.page.PageResponse;
+import com.community.domain.common.page.PaginationRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class BoardReadCoalescerTest {
+
+    private static final PaginationRequest REQUEST = new PaginationRequest(0, 10, null, null);
+    private static final PageResponse<CommentSingleResponse> EMPTY_PAGE = new PageResponse<>(List.of(), 0, 0, 0, 10);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BoardReadCoalescer readCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        readCoalescer = new BoardReadCoalescer(new SimpleMeterRegistry(), transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 호출하면 leader 가 읽기 전용 트랜잭션을 열어 조회한다.")
+    void leader_loads_in_read_only_transaction() {
+        //when
+        PageResponse<CommentSingleResponse> page = readCoalescer.commentPage(1L, REQUEST, () -> EMPTY_PAGE);
+
+        //then
+        assertThat(page).isSameAs(EMPTY_PAGE);
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("이미 트랜잭션 안에서 호출하면 합치지 않고 그 트랜잭션에서 바로 조회한다.")
+    void loads_directly_inside_transaction() {
+        //given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        //when
+        PageResponse<CommentSingleResponse> page = readCoalescer.commentPage(1L, REQUEST, () -> EMPTY_PAGE);
+
+        //then
+        assertThat(page).isSameAs(EMPTY_PAGE);
+        verifyNoInteractions(transactionManager);
+    }
+}
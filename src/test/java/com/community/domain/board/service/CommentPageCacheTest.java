@@ -0,0 +1,104 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.CommentSingleResponse;
+import com.community.domain.common.page.PageResponse;
+import com.community.domain.common.page.PaginationRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentPageCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("앞쪽 페이지는 캐시하고, 그 뒤 페이지는 매번 조회한다.")
+    void caches_only_first_pages() {
+        //given
+        CommentPageCache cache = new CommentPageCache(10, 60_000, 1);
+        PaginationRequest firstPage = new PaginationRequest(0, 10, null, null);
+        PaginationRequest secondPage = new PaginationRequest(1, 10, null, null);
+
+        //when
+        cache.get(1L, firstPage, loader());
+        cache.get(1L, firstPage, loader());
+        cache.get(1L, secondPage, loader());
+        cache.get(1L, secondPage, loader());
+
+        //then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("무효화하면 해당 게시글의 페이지만 다시 조회한다.")
+    void evict_only_target_post() {
+        //given
+        CommentPageCache cache = new CommentPageCache(10, 60_000, 1);
+        PaginationRequest request = new PaginationRequest(0, 10, null, null);
+        cache.get(1L, request, loader());
+        cache.get(2L, request, loader());
+
+        //when
+        cache.evict(1L);
+        cache.get(1L, request, loader());
+        cache.get(2L, request, loader());
+
+        //then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회한 결과는 캐시에 넣지 않는다.")
+    void skips_put_when_invalidated_during_load() {
+        //given
+        CommentPageCache cache = new CommentPageCache(10, 60_000, 1);
+        PaginationRequest request = new PaginationRequest(0, 10, null, null);
+
+        //when
+        cache.get(1L, request, () -> {
+            cache.evict(1L);
+            return loader().get();
+        });
+        cache.get(1L, request, loader());
+
+        //then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 게시글의 페이지부터 제거하고, TTL 이 지난 페이지는 다시 조회한다.")
+    void evicts_least_recently_used_and_expired() throws InterruptedException {
+        //given
+        CommentPageCache bounded = new CommentPageCache(2, 60_000, 1);
+        CommentPageCache expiring = new CommentPageCache(10, 1, 1);
+        PaginationRequest request = new PaginationRequest(0, 10, null, null);
+
+        //when
+        bounded.get(1L, request, loader());
+        bounded.get(2L, request, loader());
+        bounded.get(1L, request, loader());
+        bounded.get(3L, request, loader());
+        bounded.get(1L, request, loader());
+        int afterBounded = loads.get();
+
+        expiring.get(1L, request, loader());
+        Thread.sleep(5);
+        expiring.get(1L, request, loader());
+
+        //then
+        assertThat(afterBounded).isEqualTo(3);
+        assertThat(loads.get()).isEqualTo(5);
+    }
+
+    private Supplier<PageResponse<CommentSingleResponse>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return new PageResponse<>(List.of(), 0, 0, 0, 10);
+        };
+    }
+}
@@ -3,6 +3,8 @@ package com.community.domain.board.service;
 import com.community.domain.board.dto.request.CommentRequest;
 import com.community.domain.board.dto.response.CommentIdResponse;
 import com.community.domain.board.dto.response.CommentSingleResponse;
+import com.community.domain.board.event.CommentAdded;
+import com.community.domain.board.event.CommentDeleted;
 import com.community.domain.board.model.Comment;
 import com.community.domain.board.model.Post;
 import com.community.domain.board.repository.CommentRepository;
@@ -12,15 +14,19 @@ import com.community.domain.common.page.PageResult;
 import com.community.domain.common.page.PaginationRequest;
 import com.community.domain.user.model.User;
 import com.community.domain.user.repository.UserRepository;
+import com.community.global.event.DomainEventBus;
 import com.community.global.exception.CustomException;
 import com.community.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -30,6 +36,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,12 +51,18 @@ class CommentServiceTest {
     private PostRepository postRepository;
     @Mock
     private UserRepository userRepository;
+    @Spy
+    private CommentPageCache commentPageCache = new CommentPageCache(100, 60_000, 1);
+    @Spy
+    private BoardReadCoalescer readCoalescer = new BoardReadCoalescer(new SimpleMeterRegistry(), mock(PlatformTransactionManager.class));
+    @Mock
+    private DomainEventBus eventBus;
 
     @InjectMocks
     private CommentService commentService;
 
     @Test
-    @DisplayName("게시글의 댓글 목록 조회시 PaginationRequest 를 기반으로 PageResponse 를 반환한다.")
+    @DisplayName("게시글의 댓글 목록 조회시 작성자가 함께 조회된 댓글로 PageResponse 를 반환하고, 게시글 조회는 생략한다.")
     void getComments() {
         //given
         long postId = 1L;
@@ -56,10 +71,8 @@ class CommentServiceTest {
         User author = user(10L);
         Comment comment = comment(5L, post, author);
 
-        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
         when(commentRepository.findByPostId(postId, request))
                 .thenReturn(new PageResult<>(List.of(comment), 1, 1));
-        when(userRepository.findById(author.getId())).thenReturn(Optional.of(author));
 
         //when
         PageResponse<CommentSingleResponse> response = commentService.getComments(postId, request);
@@ -69,16 +82,19 @@ class CommentServiceTest {
         CommentSingleResponse item = response.items().get(0);
         assertThat(item.getComment().getId()).isEqualTo(comment.getId());
         assertThat(item.getAuthor().getId()).isEqualTo(author.getId());
-        verify(postRepository).findById(postId);
+        assertThat(item.getAuthor().getNickname()).isEqualTo(author.getNickname());
+        verify(postRepository, never()).findById(postId);
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
-    @DisplayName("게시글의 댓글 목록 조회시 게시글이 존재하지 않으면 POST_NOT_FOUND 예외를 던진다.")
+    @DisplayName("댓글이 없는 게시글은 존재 여부를 확인하고, 게시글이 존재하지 않으면 POST_NOT_FOUND 예외를 던진다.")
     void getComments_throws_when_post_not_found() {
         //given
         long postId = 999L;
         PaginationRequest request = new PaginationRequest(0, 10, null, null);
 
+        when(commentRepository.findByPostId(postId, request)).thenReturn(new PageResult<>(List.of(), 0, 0));
         when(postRepository.findById(postId)).thenReturn(Optional.empty());
 
         //when + then
@@ -86,6 +102,33 @@ class CommentServiceTest {
         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.POST_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("첫 페이지는 캐시에서 반환하고, 댓글을 작성하면 해당 게시글의 캐시가 무효화된다.")
+    void getComments_cached_until_comment_created() {
+        //given
+        long postId = 1L;
+        PaginationRequest request = new PaginationRequest(0, 10, null, null);
+        Post post = post(postId);
+        User author = user(10L);
+        when(commentRepository.findByPostId(postId, request))
+                .thenReturn(new PageResult<>(List.of(comment(5L, post, author)), 1, 1));
+        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+        when(userRepository.findById(author.getId())).thenReturn(Optional.of(author));
+        when(commentRepository.save(any(Comment.class))).thenReturn(6L);
+        CommentRequest commentRequest = new CommentRequest();
+        commentRequest.setBody("new");
+
+        //when
+        commentService.getComments(postId, request);
+        commentService.getComments(postId, request);
+        commentService.createComment(postId, author.getId(), commentRequest);
+        commentService.getComments(postId, request);
+
+        //then
+        verify(commentRepository, times(2)).findByPostId(postId, request);
+        verify(commentPageCache).evict(postId);
+    }
+
     @Test
     @DisplayName("댓글을 생성하면 CommentId 를 반환한다.")
     void createComment_and_response() {
@@ -109,6 +152,11 @@ class CommentServiceTest {
         assertThat(saved.getBody()).isEqualTo("hello");
         assertThat(saved.getPost()).isEqualTo(post);
         assertThat(saved.getUser()).isEqualTo(user);
+        ArgumentCaptor<CommentAdded> eventCaptor = ArgumentCaptor.forClass(CommentAdded.class);
+        verify(eventBus).publish(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().postId()).isEqualTo(postId);
+        assertThat(eventCaptor.getValue().comment().getComment().getBody()).isEqualTo("hello");
+        assertThat(eventCaptor.getValue().comment().getAuthor().getId()).isEqualTo(userId);
     }
 
     @Test
@@ -122,6 +170,27 @@ class CommentServiceTest {
         assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.POST_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("탈퇴를 요청한 회원은 댓글을 작성할 수 없다.")
+    void createComment_throws_when_user_deactivated() {
+        //given
+        Post post = post(1L);
+        User user = user(2L);
+        user.deactivate();
+        CommentRequest request = new CommentRequest();
+        request.setBody("body");
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        //when
+        CustomException ex = assertThrows(CustomException.class,
+                () -> commentService.createComment(post.getId(), user.getId(), request));
+
+        //then
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.DEACTIVATED_USER);
+        verify(commentRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("댓글을 수정하면 내용이 변경되고 CommentId 를 반환한다.")
     void updateComment() {
@@ -131,12 +200,14 @@ class CommentServiceTest {
         CommentRequest request = new CommentRequest();
         request.setBody("updated");
 
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
 
         CommentIdResponse response = commentService.updateComment(post.getId(), comment.getId(), user.getId(), request);
 
         assertThat(response.getId()).isEqualTo(comment.getId());
         assertThat(comment.getBody()).isEqualTo("updated");
+        verify(commentPageCache).evict(post.getId());
     }
 
     @Test
@@ -150,6 +221,8 @@ class CommentServiceTest {
         commentService.deleteComment(post.getId(), comment.getId(), user.getId());
 
         verify(commentRepository).delete(comment);
+        verify(commentPageCache).evict(post.getId());
+        verify(eventBus).publish(new CommentDeleted(post.getId(), comment.getId()));
     }
 
     @Test
@@ -0,0 +1,147 @@
+package com.community.domain.board.service;
+
+import com.community.domain.auth.dto.AuthenticatedUser;
+import com.community.domain.board.dto.response.PostSingleResponse;
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.CommentRepository;
+import com.community.domain.board.repository.PostLikeRepository;
+import com.community.domain.user.model.User;
+import com.community.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelPostAssemblerTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ParallelPostAssembler parallelPostAssembler;
+
+    @BeforeEach
+    void setUp() {
+        parallelPostAssembler = new ParallelPostAssembler(postLikeRepository, commentRepository, userRepository, transactionManager);
+        ReflectionTestUtils.setField(parallelPostAssembler, "TIMEOUT_MS", 200L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        parallelPostAssembler.shutdown();
+    }
+
+    @Test
+    @DisplayName("좋아요 수, 댓글 수, 작성자를 동시에 조회해 게시글 단건 응답을 만든다.")
+    void assemble() {
+        //given
+        User author = user(9L);
+        Post post = post(4L, author);
+        when(postLikeRepository.countByPostId(4L)).thenReturn(5L);
+        when(commentRepository.countByPostId(4L)).thenReturn(7L);
+        when(userRepository.findById(9L)).thenReturn(Optional.of(author));
+
+        //when
+        PostSingleResponse response = parallelPostAssembler.assemble(post);
+
+        //then
+        assertThat(response.getPost().getLikeCount()).isEqualTo(5L);
+        assertThat(response.getPost().getCommentCount()).isEqualTo(7L);
+        assertThat(response.getAuthor().getNickname()).isEqualTo("nick9");
+    }
+
+    @Test
+    @DisplayName("조회 스레드에도 호출한 회원의 SecurityContext 가 전달된다.")
+    void assemble_propagates_security_context() {
+        //given
+        User author = user(9L);
+        Post post = post(4L, author);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthenticatedUser(20L), null, List.of()));
+        when(postLikeRepository.countByPostId(4L)).thenAnswer(invocation ->
+                ((AuthenticatedUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).userId());
+        when(commentRepository.countByPostId(4L)).thenReturn(7L);
+        when(userRepository.findById(9L)).thenReturn(Optional.of(author));
+
+        //when
+        PostSingleResponse response = parallelPostAssembler.assemble(post);
+
+        //then
+        assertThat(response.getPost().getLikeCount()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("조회가 timeout 을 넘기면 기다리지 않고 대체 값으로 응답한다.")
+    void assemble_falls_back_on_timeout() {
+        //given
+        User author = user(9L);
+        Post post = post(4L, author);
+        when(postLikeRepository.countByPostId(4L)).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return 5L;
+        });
+        when(commentRepository.countByPostId(4L)).thenReturn(7L);
+        when(userRepository.findById(9L)).thenReturn(Optional.of(author));
+
+        //when
+        long start = System.nanoTime();
+        PostSingleResponse response = parallelPostAssembler.assemble(post);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        //then
+        assertThat(elapsedMs).isLessThan(1_500L);
+        assertThat(response.getPost().getLikeCount()).isZero();
+        assertThat(response.getPost().getCommentCount()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("작성자 조회가 실패하면 id 만 채운 작성자로 응답한다.")
+    void assemble_falls_back_when_author_query_fails() {
+        //given
+        User author = user(9L);
+        Post post = post(4L, author);
+        when(postLikeRepository.countByPostId(4L)).thenReturn(5L);
+        when(commentRepository.countByPostId(4L)).thenReturn(7L);
+        when(userRepository.findById(9L)).thenThrow(new IllegalStateException("db down"));
+
+        //when
+        PostSingleResponse response = parallelPostAssembler.assemble(post);
+
+        //then
+        assertThat(response.getAuthor().getId()).isEqualTo(9L);
+        assertThat(response.getAuthor().getNickname()).isNull();
+        assertThat(response.getPost().getLikeCount()).isEqualTo(5L);
+    }
+
+    private User user(Long id) {
+        User user = new User("user" + id + "@email.com", "password", "nick" + id, "image" + id);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private Post post(Long id, User user) {
+        Post post = new Post(user, "title " + id, "image-" + id, "body " + id);
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
@@ -0,0 +1,143 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.event.CommentAdded;
+import com.community.domain.board.event.LikeToggled;
+import com.community.domain.board.event.PostDeleted;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.board.repository.dto.PostActivity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PopularPostRankingTest {
+
+    private static final long HOUR_MS = Duration.ofHours(1).toMillis();
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PopularPostRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new PopularPostRanking(postRepository, 1.0, 3, 7);
+    }
+
+    @Test
+    @DisplayName("좋아요 / 댓글 / 조회수 가중치를 합산한 점수 순으로 상위 게시글을 반환한다.")
+    void topPostIds_ordered_by_score() {
+        //given
+        ranking.recordViews(1L, 3);
+        ranking.onEvents(List.of(new LikeToggled(2L, true), new CommentAdded(3L, null)));
+
+        //when
+        List<Long> top = ranking.topPostIds(2);
+
+        //then
+        assertThat(top).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("같은 가중치라도 최근에 받은 이벤트가 더 높은 점수를 가진다.")
+    void recent_events_outrank_older_ones() {
+        //given
+        long now = System.currentTimeMillis();
+        ranking.add(1L, PopularPostRanking.LIKE_WEIGHT * 3, now);
+        ranking.add(2L, PopularPostRanking.LIKE_WEIGHT * 2, now + 2 * HOUR_MS);
+
+        //when + then
+        assertThat(ranking.topPostIds(2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("같은 묶음의 이벤트는 게시글별로 합산되고, 삭제된 게시글은 순위에서 빠진다.")
+    void onEvents_sums_per_post_and_removes_deleted() {
+        //given
+        ranking.onEvents(List.of(new LikeToggled(1L, true), new CommentAdded(2L, null)));
+
+        //when
+        ranking.onEvents(List.of(
+                new LikeToggled(3L, true),
+                new LikeToggled(1L, true),
+                new LikeToggled(3L, false),
+                new PostDeleted(2L)
+        ));
+
+        //then
+        assertThat(ranking.topPostIds(3)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("순위에 없는 게시글의 좋아요 취소는 0점 항목을 만들지 않는다.")
+    void unlike_of_absent_post_is_ignored() {
+        //given
+        long now = System.currentTimeMillis();
+        ranking.add(1L, PopularPostRanking.LIKE_WEIGHT, now);
+        ranking.add(2L, PopularPostRanking.LIKE_WEIGHT * 2, now);
+
+        //when
+        ranking.onEvents(List.of(new LikeToggled(4L, false)));
+
+        //then
+        assertThat(ranking.topPostIds(3)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 점수가 가장 낮은 게시글부터 제외한다.")
+    void trims_to_capacity() {
+        //when
+        for (long postId = 1; postId <= 5; postId++) {
+            ranking.recordViews(postId, postId);
+        }
+
+        //then
+        assertThat(ranking.topPostIds(10)).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("재구성 후에도 기존 순서가 유지되고, 메모리에 없는 최근 게시글은 DB 집계로 채운다.")
+    void rebuild_keeps_order_and_seeds_missing_posts() {
+        //given
+        long now = System.currentTimeMillis();
+        ranking.add(1L, PopularPostRanking.LIKE_WEIGHT, now);
+        ranking.add(2L, PopularPostRanking.VIEW_WEIGHT, now);
+        when(postRepository.findActivitiesSince(any(LocalDateTime.class), anyInt())).thenReturn(List.of(
+                new PostActivity(1L, 100L, 100L, 100L, LocalDateTime.now()),
+                new PostActivity(3L, 10L, 0L, 0L, LocalDateTime.now())
+        ));
+
+        //when
+        ranking.rebuildBoard(now + 5 * HOUR_MS);
+
+        //then
+        assertThat(ranking.topPostIds(3)).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 DB 조회에 실패하면 기존 순위를 유지한다.")
+    void rebuild_keeps_previous_on_failure() {
+        //given
+        ranking.onEvents(List.of(new LikeToggled(1L, true)));
+        when(postRepository.findActivitiesSince(any(LocalDateTime.class), anyInt()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        //when
+        ranking.rebuild();
+
+        //then
+        assertThat(ranking.topPostIds(3)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,95 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.event.CommentDeleted;
+import com.community.domain.board.event.LikeToggled;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostEventStreamTest {
+
+    // 전송 작업을 실행하지 않는 executor 로 대기열이 비워지지 않는 느린 구독자를 흉내 낸다.
+    @Mock
+    private ExecutorService sender;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PostEventStream stream(int queueCapacity) {
+        return new PostEventStream(new ObjectMapper(), meterRegistry, sender, 60_000, queueCapacity);
+    }
+
+    @Test
+    @DisplayName("이벤트는 해당 게시글의 구독자에게만 전송된다.")
+    void broadcast_to_post_subscribers_only() {
+        //given
+        PostEventStream stream = stream(8);
+        stream.subscribe(1L);
+        stream.subscribe(2L);
+
+        //when
+        stream.onEvents(List.of(new CommentDeleted(1L, 9L)));
+
+        //then
+        verify(sender, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 게시글의 이벤트는 무시한다.")
+    void broadcast_without_subscribers_is_noop() {
+        //given
+        PostEventStream stream = stream(8);
+
+        //when
+        stream.onEvents(List.of(new LikeToggled(1L, true)));
+
+        //then
+        verify(sender, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 느린 구독자는 연결을 끊고 구독에서 제외한다.")
+    void slow_subscriber_is_dropped() {
+        //given
+        PostEventStream stream = stream(2);
+        stream.subscribe(1L);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            stream.onEvents(List.of(new LikeToggled(1L, i % 2 == 0)));
+        }
+
+        //then
+        assertThat(stream.subscriberCount(1L)).isZero();
+        assertThat(meterRegistry.get("community.post_events.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("community.post_events.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차도 heartbeat 는 건너뛰기만 하고 연결을 유지한다.")
+    void heartbeat_does_not_drop_subscriber() {
+        //given
+        PostEventStream stream = stream(1);
+        stream.subscribe(1L);
+        stream.onEvents(List.of(new LikeToggled(1L, true)));
+
+        //when
+        stream.heartbeat();
+
+        //then
+        assertThat(stream.subscriberCount(1L)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,87 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.user.model.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.community.helper.PostMaker.getNumberedPost;
+import static com.community.helper.UserMaker.getNumberedUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostExportServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private PostExportService postExportService;
+
+    @BeforeEach
+    void setUp() {
+        postExportService = new PostExportService(postRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("게시글마다 한 줄의 JSON 을 쓰고, 쓴 건수를 반환한다.")
+    void exportByUserId_writes_one_line_per_post() throws IOException {
+        //given
+        User user = getNumberedUser(1);
+        int count = PostExportService.FLUSH_INTERVAL + 1;
+        when(postRepository.streamByUserId(1L)).thenReturn(IntStream.rangeClosed(1, count)
+                .mapToObj(num -> post(user, num)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        long written = postExportService.exportByUserId(1L, out);
+
+        //then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(count);
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("\n");
+        assertThat(lines).hasSize(count);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("title").asText()).isEqualTo("t1");
+        assertThat(objectMapper.readTree(lines[count - 1]).get("id").asLong()).isEqualTo(count);
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 아무것도 쓰지 않는다.")
+    void exportByUserId_writes_nothing_without_posts() throws IOException {
+        //given
+        when(postRepository.streamByUserId(1L)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        long written = postExportService.exportByUserId(1L, out);
+
+        //then
+        assertThat(written).isZero();
+        assertThat(out.size()).isZero();
+    }
+
+    private Post post(User user, int num) {
+        Post post = getNumberedPost(user, num);
+        ReflectionTestUtils.setField(post, "id", (long) num);
+        return post;
+    }
+}
@@ -0,0 +1,148 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.PostSingleResponse;
+import com.community.domain.common.page.PageResponse;
+import com.community.domain.common.page.PaginationRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PostListCacheTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final PaginationRequest firstPage = new PaginationRequest(0, 10, null, null);
+    private PostListCache cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("soft TTL 안의 앞쪽 페이지는 다시 조회하지 않고, 그 뒤 페이지는 매번 조회한다.")
+    void caches_only_first_pages() {
+        //given
+        cache = cache(60_000, 300_000);
+        PaginationRequest secondPage = new PaginationRequest(1, 10, null, null);
+
+        //when
+        cache.get(firstPage, loader());
+        cache.get(firstPage, loader());
+        cache.get(secondPage, loader());
+        cache.get(secondPage, loader());
+
+        //then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회는 읽기 전용 트랜잭션에서 하고, 캐시 적중은 트랜잭션을 열지 않는다.")
+    void hit_does_not_open_transaction() {
+        //given
+        cache = cache(60_000, 300_000);
+        cache.get(firstPage, loader());
+
+        //when
+        cache.get(firstPage, loader());
+
+        //then
+        assertThat(loads.get()).isEqualTo(1);
+        verify(transactionManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("soft TTL 이 지난 페이지는 이전 결과로 바로 응답하고, 백그라운드에서 갱신한다.")
+    void serves_stale_page_and_refreshes_in_background() throws InterruptedException {
+        //given
+        cache = cache(0, 300_000);
+        PageResponse<PostSingleResponse> first = cache.get(firstPage, loader());
+
+        //when
+        PageResponse<PostSingleResponse> stale = cache.get(firstPage, loader());
+        waitUntilLoads(2);
+
+        //then
+        assertThat(stale).isSameAs(first);
+        assertThat(stale.totalElements()).isEqualTo(1L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("hard TTL 이 지난 페이지는 응답하지 않고 다시 조회한다.")
+    void reloads_after_hard_ttl() {
+        //given
+        cache = cache(0, 0);
+        cache.get(firstPage, loader());
+
+        //when
+        PageResponse<PostSingleResponse> response = cache.get(firstPage, loader());
+
+        //then
+        assertThat(response.totalElements()).isEqualTo(2L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 요청은 다시 조회한다.")
+    void invalidate_reloads() {
+        //given
+        cache = cache(60_000, 300_000);
+        cache.get(firstPage, loader());
+
+        //when
+        cache.invalidate();
+        PageResponse<PostSingleResponse> response = cache.get(firstPage, loader());
+
+        //then
+        assertThat(response.totalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회한 결과는 캐시에 넣지 않는다.")
+    void skips_put_when_invalidated_during_load() {
+        //given
+        cache = cache(60_000, 300_000);
+
+        //when
+        cache.get(firstPage, () -> {
+            cache.invalidate();
+            return loader().get();
+        });
+        cache.get(firstPage, loader());
+
+        //then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private PostListCache cache(long softTtlMs, long hardTtlMs) {
+        return new PostListCache(transactionManager, new SimpleMeterRegistry(), 1, 10, softTtlMs, hardTtlMs);
+    }
+
+    // 조회할 때마다 totalElements 가 1 씩 늘어나는 페이지를 만든다.
+    private Supplier<PageResponse<PostSingleResponse>> loader() {
+        return () -> new PageResponse<>(List.of(), loads.incrementAndGet(), 1, 0, 10);
+    }
+
+    private void waitUntilLoads(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (loads.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.CommentRepository;
+import com.community.domain.board.repository.JpaPostViewBucketRepository;
+import com.community.domain.board.repository.JpaPostViewEventRepository;
+import com.community.domain.board.repository.JpaPostViewSketchRepository;
+import com.community.domain.board.repository.PostLikeRepository;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.file.service.FileStorageService;
+import com.community.domain.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.community.helper.UserMaker.getNumberedUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostPurgeServiceTest {
+
+    private static final long GRACE_PERIOD_MS = 60_000;
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostLikeRepository postLikeRepository;
+    @Mock
+    private JpaPostViewEventRepository postViewEventRepository;
+    @Mock
+    private JpaPostViewBucketRepository postViewBucketRepository;
+    @Mock
+    private JpaPostViewSketchRepository postViewSketchRepository;
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private PostPurgeService postPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        postPurgeService = new PostPurgeService(postRepository, commentRepository, postLikeRepository,
+                postViewEventRepository, postViewBucketRepository, postViewSketchRepository, fileStorageService, 2, GRACE_PERIOD_MS);
+    }
+
+    @Test
+    @DisplayName("남은 댓글이 있으면 한 청크만 지우고, 좋아요와 게시글은 다음 실행으로 넘긴다.")
+    void purgeChunk_deletes_comments_first() {
+        //given
+        User user = getNumberedUser(1);
+        List<Post> posts = List.of(deletedPost(10L, user, "image-10"), deletedPost(11L, user, null));
+        when(postRepository.findChunkDeletedBefore(any(), eq(2))).thenReturn(posts);
+        when(commentRepository.deleteChunkByPostIds(List.of(10L, 11L), 2)).thenReturn(2);
+
+        //when
+        postPurgeService.purgeChunk();
+
+        //then
+        verify(postLikeRepository, never()).deleteChunkByPostIds(any(), anyInt());
+        verify(postRepository, never()).deleteAllByIds(any());
+        verifyNoInteractions(fileStorageService);
+    }
+
+    @Test
+    @DisplayName("댓글 / 좋아요 / 조회 이벤트 / 조회수 버킷이 모두 지워지면 스케치와 게시글, 이미지를 지운다.")
+    void purgeChunk_deletes_posts_and_images() {
+        //given
+        User user = getNumberedUser(1);
+        List<Post> posts = List.of(deletedPost(10L, user, "image-10"), deletedPost(11L, user, null));
+        when(postRepository.findChunkDeletedBefore(any(), eq(2))).thenReturn(posts);
+        when(commentRepository.deleteChunkByPostIds(List.of(10L, 11L), 2)).thenReturn(0);
+        when(postLikeRepository.deleteChunkByPostIds(List.of(10L, 11L), 2)).thenReturn(0);
+
+        //when
+        postPurgeService.purgeChunk();
+
+        //then
+        verify(postViewEventRepository).deleteChunkByPostIds(List.of(10L, 11L), 2);
+        verify(postViewBucketRepository).deleteChunkByPostIds(List.of(10L, 11L), 2);
+        verify(postViewSketchRepository).deleteAllByPostIds(List.of(10L, 11L));
+        verify(postRepository).deleteAllByIds(List.of(10L, 11L));
+        verify(fileStorageService).deleteAll(List.of("image-10"));
+    }
+
+    @Test
+    @DisplayName("남은 조회수 버킷이 있으면 한 청크만 지우고, 스케치와 게시글은 다음 실행으로 넘긴다.")
+    void purgeChunk_deletes_view_buckets_before_posts() {
+        //given
+        User user = getNumberedUser(1);
+        List<Post> posts = List.of(deletedPost(10L, user, "image-10"));
+        when(postRepository.findChunkDeletedBefore(any(), eq(2))).thenReturn(posts);
+        when(postViewBucketRepository.deleteChunkByPostIds(List.of(10L), 2)).thenReturn(2);
+
+        //when
+        postPurgeService.purgeChunk();
+
+        //then
+        verify(postViewEventRepository).deleteChunkByPostIds(List.of(10L), 2);
+        verifyNoInteractions(postViewSketchRepository, fileStorageService);
+        verify(postRepository, never()).deleteAllByIds(any());
+    }
+
+    @Test
+    @DisplayName("purge 는 이번 실행에서 지운 자식 row 의 종류와 수를 반환하고, 게시글은 자식 row 가 없을 때만 지운다.")
+    void purge_returns_deleted_rows() {
+        //given
+        User user = getNumberedUser(1);
+        List<Post> posts = List.of(deletedPost(10L, user, null));
+        when(postViewEventRepository.deleteChunkByPostIds(List.of(10L), 2)).thenReturn(1);
+
+        //when
+        PostPurgeService.PurgedRows purged = postPurgeService.purge(posts);
+
+        //then
+        assertThat(purged).isEqualTo(new PostPurgeService.PurgedRows(0, 0, 1, 0, 0));
+        verifyNoInteractions(postViewBucketRepository, postViewSketchRepository, fileStorageService);
+        verify(postRepository, never()).deleteAllByIds(any());
+    }
+
+    @Test
+    @DisplayName("지울 게시글이 없으면 아무것도 하지 않는다.")
+    void purgeChunk_noop_when_nothing_expired() {
+        //given
+        when(postRepository.findChunkDeletedBefore(any(), anyInt())).thenReturn(List.of());
+
+        //when
+        postPurgeService.purgeChunk();
+
+        //then
+        verifyNoInteractions(commentRepository, postLikeRepository, postViewEventRepository,
+                postViewBucketRepository, postViewSketchRepository, fileStorageService);
+        verify(postRepository, never()).deleteAllByIds(any());
+    }
+
+    @Test
+    @DisplayName("복구 가능 시작 시각은 현재 시각에서 복구 기간을 뺀 시각이다.")
+    void restorableSince_is_grace_period_ago() {
+        //when
+        LocalDateTime restorableSince = postPurgeService.restorableSince();
+
+        //then
+        assertThat(restorableSince).isBetween(
+                LocalDateTime.now().minusSeconds(61),
+                LocalDateTime.now().minusSeconds(59));
+    }
+
+    private Post deletedPost(Long id, User user, String imageUrl) {
+        Post post = new Post(user, "title " + id, imageUrl, "body " + id);
+        ReflectionTestUtils.setField(post, "id", id);
+        post.softDelete();
+        return post;
+    }
+}
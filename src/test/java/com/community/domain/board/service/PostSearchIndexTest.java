@@ -0,0 +1,141 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.event.BoardEvent;
+import com.community.domain.board.event.LikeToggled;
+import com.community.domain.board.event.PostCreated;
+import com.community.domain.board.event.PostDeleted;
+import com.community.domain.board.event.PostRestored;
+import com.community.domain.board.event.PostUpdated;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.board.repository.dto.PostDocument;
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostSearchIndex postSearchIndex;
+
+    @Test
+    @DisplayName("검색어의 모든 바이그램을 포함한 게시글만 찾고, 제목에 포함된 게시글을 먼저 반환한다.")
+    void search_ranks_title_matches_first() {
+        //given
+        postSearchIndex.onEvents(List.of(
+                new PostCreated(1L, "오늘의 일기", "점심으로 김치찌개를 먹었다"),
+                new PostCreated(2L, "김치찌개 맛집 추천", "회사 근처 맛집"),
+                new PostCreated(3L, "김밥", "찌개는 없었다")));
+
+        //when
+        PostSearchIndex.SearchHits hits = postSearchIndex.search("김치찌개", 0, 10);
+
+        //then
+        assertThat(hits.postIds()).containsExactly(2L, 1L);
+        assertThat(hits.totalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("수정된 게시글은 새 내용으로, 삭제된 게시글은 검색되지 않는다.")
+    void index_updates_and_removes() {
+        //given
+        postSearchIndex.onEvents(List.of(
+                new PostCreated(1L, "스프링 질문", "빈 등록이 안 됩니다"),
+                new PostCreated(2L, "스프링 후기", "재밌어요")));
+
+        //when
+        postSearchIndex.onEvents(List.of(
+                new PostUpdated(1L, "자바 질문", "제네릭이 어려워요"),
+                new PostDeleted(2L)));
+
+        //then
+        assertThat(postSearchIndex.search("스프링", 0, 10).postIds()).isEmpty();
+        assertThat(postSearchIndex.search("제네릭", 0, 10).postIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("복구된 게시글은 다시 검색되고, 게시글과 무관한 이벤트는 무시한다.")
+    void restored_post_is_indexed_again() {
+        //given
+        postSearchIndex.onEvents(List.of(new PostCreated(1L, "스터디 모집", "주말 스터디")));
+        postSearchIndex.onEvents(List.of(new PostDeleted(1L)));
+
+        //when
+        postSearchIndex.onEvents(List.of(new PostRestored(1L, "스터디 모집", "주말 스터디"), new LikeToggled(1L, true)));
+
+        //then
+        assertThat(postSearchIndex.search("스터디", 0, 10).postIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("offset / limit 으로 관련도 순 결과를 나누어 가져온다.")
+    void search_paginates() {
+        //given
+        List<BoardEvent> events = new ArrayList<>();
+        for (long postId = 1; postId <= 5; postId++) {
+            events.add(new PostCreated(postId, "공지 " + postId, "내용"));
+        }
+        postSearchIndex.onEvents(events);
+
+        //when
+        PostSearchIndex.SearchHits hits = postSearchIndex.search("공지", 2, 2);
+
+        //then
+        assertThat(hits.postIds()).hasSize(2);
+        assertThat(hits.totalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("두 글자 이상인 단어가 없는 검색어는 INVALID_SEARCH_KEYWORD 예외를 던진다.")
+    void search_throws_when_keyword_too_short() {
+        CustomException ex = assertThrows(CustomException.class, () -> postSearchIndex.search("a 집", 0, 10));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INVALID_SEARCH_KEYWORD);
+    }
+
+    @Test
+    @DisplayName("기존 게시글을 나누어 불러와 색인한다.")
+    void load_indexes_existing_posts() {
+        //given
+        when(postRepository.findDocumentsAfter(anyLong(), anyInt()))
+                .thenReturn(List.of(new PostDocument(7L, "모임 공지", "이번 주 토요일")));
+
+        //when
+        postSearchIndex.load();
+
+        //then
+        assertThat(postSearchIndex.search("토요일", 0, 10).postIds()).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("이벤트가 버려지면 게시글을 다시 불러와 이미 색인된 내용도 덮어쓴다.")
+    void onEventsDropped_reloads_and_overwrites() {
+        //given
+        postSearchIndex.onEvents(List.of(new PostCreated(7L, "모임 공지", "이번 주 토요일")));
+        when(postRepository.findDocumentsAfter(anyLong(), anyInt()))
+                .thenReturn(List.of(new PostDocument(7L, "모임 공지", "다음 주 일요일")));
+
+        //when
+        postSearchIndex.onEventsDropped(1);
+
+        //then
+        assertThat(postSearchIndex.search("토요일", 0, 10).postIds()).isEmpty();
+        assertThat(postSearchIndex.search("일요일", 0, 10).postIds()).containsExactly(7L);
+    }
+}
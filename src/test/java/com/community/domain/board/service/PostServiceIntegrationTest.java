@@ -105,7 +105,7 @@ class PostServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("게시글 삭제 시 연관된 좋아요와 댓글이 정리된다.")
+    @DisplayName("게시글 삭제 시 게시글과 연관된 좋아요와 댓글이 더 이상 조회되지 않는다.")
     void deletePost_removes_associations() {
         //given
         authenticate(authorId);
@@ -123,6 +123,26 @@ class PostServiceIntegrationTest {
         assertThat(commentRepository.countByPostId(preparedPostId)).isZero();
     }
 
+    @Test
+    @DisplayName("복구 기간 안에 삭제한 게시글을 복구하면 좋아요와 댓글도 함께 돌아온다.")
+    void restorePost_brings_back_associations() {
+        //given
+        authenticate(authorId);
+        postService.deletePost(preparedPostId, authorId);
+        em.flush();
+        em.clear();
+
+        //when
+        postService.restorePost(preparedPostId, authorId);
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(postRepository.findById(preparedPostId)).isPresent();
+        assertThat(postLikeRepository.countByPostId(preparedPostId)).isEqualTo(1L);
+        assertThat(commentRepository.countByPostId(preparedPostId)).isEqualTo(1L);
+    }
+
     private PostCreateRequest createRequest(String title, String body) {
         MockMultipartFile file = new MockMultipartFile(
                 "file",
@@ -2,9 +2,16 @@ package com.community.domain.board.service;
 
 import com.community.domain.board.dto.request.PostCreateRequest;
 import com.community.domain.board.dto.request.PostUpdateRequest;
+import com.community.domain.board.dto.response.AuthorResponse;
+import com.community.domain.board.dto.response.PostContent;
 import com.community.domain.board.dto.response.PostIdResponse;
 import com.community.domain.board.dto.response.PostLikeResponse;
 import com.community.domain.board.dto.response.PostSingleResponse;
+import com.community.domain.board.event.LikeToggled;
+import com.community.domain.board.event.PostCreated;
+import com.community.domain.board.event.PostDeleted;
+import com.community.domain.board.event.PostRestored;
+import com.community.domain.board.event.PostUpdated;
 import com.community.domain.board.model.Post;
 import com.community.domain.board.model.PostLike;
 import com.community.domain.board.repository.PostLikeRepository;
@@ -15,18 +22,26 @@ import com.community.domain.common.page.PaginationRequest;
 import com.community.domain.file.service.FileStorageService;
 import com.community.domain.user.model.User;
 import com.community.domain.user.repository.UserRepository;
+import com.community.global.event.DomainEventBus;
 import com.community.global.exception.CustomException;
 import com.community.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,6 +64,26 @@ class PostServiceTest {
     @Mock
     private CommentService commentService;
     @Mock
+    private ParallelPostAssembler parallelPostAssembler;
+    @Mock
+    private PopularPostRanking popularPostRanking;
+    @Mock
+    private PostSearchIndex postSearchIndex;
+    @Mock
+    private CommentPageCache commentPageCache;
+    @Mock
+    private PostEventStream postEventStream;
+    @Spy
+    private PostListCache postListCache = new PostListCache(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 1, 100, 60_000, 300_000);
+    @Spy
+    private BoardReadCoalescer readCoalescer = new BoardReadCoalescer(new SimpleMeterRegistry(), mock(PlatformTransactionManager.class));
+    @Mock
+    private PostViewSketches postViewSketches;
+    @Mock
+    private PostPurgeService postPurgeService;
+    @Mock
+    private DomainEventBus eventBus;
+    @Mock
     private PostViewEventService postViewEventService;
 
     @InjectMocks
@@ -173,7 +208,7 @@ class PostServiceTest {
 
 
     @Test
-    @DisplayName("게시글을 상세 조회하면 조회수를 증가시키는 이벤트를 추가하고 게시글을 반환한다.")
+    @DisplayName("게시글을 상세 조회하면 조회 기록을 저장하고 순 조회자 수를 담은 게시글을 반환한다.")
     void viewPost_and_response() {
         User author = user(9L);
         Post post = post(4L, author);
@@ -181,11 +216,47 @@ class PostServiceTest {
         when(postLikeRepository.countByPostId(post.getId())).thenReturn(5L);
         when(commentService.countComments(post.getId())).thenReturn(7L);
         when(userRepository.findById(author.getId())).thenReturn(Optional.of(author));
+        when(postViewSketches.recordView(post.getId(), 20L)).thenReturn(true);
+        when(postViewSketches.uniqueViewCount(post.getId())).thenReturn(3L);
 
-        PostSingleResponse response = postService.viewPost(post.getId());
+        PostSingleResponse response = postService.viewPost(post.getId(), 20L);
 
         assertThat(response.getPost().getId()).isEqualTo(post.getId());
+        assertThat(response.getPost().getUniqueViewCount()).isEqualTo(3L);
         verify(postViewEventService).addEvent(post.getId());
+        verifyNoInteractions(eventBus);
+    }
+
+    @Test
+    @DisplayName("중복 제거 기간 안에 같은 회원이 다시 조회하면 조회 기록을 저장하지 않는다.")
+    void viewPost_skips_duplicate_view_event() {
+        User author = user(9L);
+        Post post = post(4L, author);
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(userRepository.findById(author.getId())).thenReturn(Optional.of(author));
+        when(postViewSketches.recordView(post.getId(), 20L)).thenReturn(false);
+
+        postService.viewPost(post.getId(), 20L);
+
+        verify(postViewEventService, never()).addEvent(any());
+    }
+
+    @Test
+    @DisplayName("병렬 조립 모드가 켜져 있으면 게시글 단건 응답을 ParallelPostAssembler 로 만든다.")
+    void viewPost_uses_parallel_assembler_when_enabled() {
+        User author = user(9L);
+        Post post = post(4L, author);
+        PostSingleResponse assembled = new PostSingleResponse(PostContent.from(post, 5L, 7L), AuthorResponse.from(author));
+        when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        when(parallelPostAssembler.isEnabled()).thenReturn(true);
+        when(parallelPostAssembler.assemble(post)).thenReturn(assembled);
+
+        PostSingleResponse response = postService.viewPost(post.getId(), 20L);
+
+        assertThat(response.getPost().getLikeCount()).isEqualTo(5L);
+        assertThat(response.getAuthor()).isSameAs(assembled.getAuthor());
+        verify(postLikeRepository, never()).countByPostId(any());
+        verify(commentService, never()).countComments(any());
     }
 
     @Test
@@ -209,6 +280,7 @@ class PostServiceTest {
 
         //then
         assertThat(response.getId()).isNotNull();
+        verify(eventBus).publish(new PostCreated(55L, "title", "body"));
     }
 
     @Test
@@ -221,16 +293,38 @@ class PostServiceTest {
         request.setBody("body");
         request.setFile(file);
 
-        when(fileStorageService.save(file)).thenReturn("stored-url");
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         CustomException exception = assertThrows(CustomException.class,
                 () -> postService.createPost(userId, request));
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_USER);
+        verify(fileStorageService, never()).save(any());
     }
 
     @Test
-    @DisplayName("게시글을 수정하면 제목, 본문, 이미지를 갱신하고 이전 이미지를 삭제한다.")
+    @DisplayName("탈퇴를 요청한 회원은 게시글을 생성할 수 없다.")
+    void createPost_throws_when_user_deactivated() {
+        //given
+        long userId = 15L;
+        PostCreateRequest request = new PostCreateRequest();
+        request.setTitle("title");
+        request.setBody("body");
+        User user = user(userId);
+        user.deactivate();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        //when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.createPost(userId, request));
+
+        //then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.DEACTIVATED_USER);
+        verify(postRepository, never()).save(any());
+        verify(fileStorageService, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("게시글을 수정하면 제목, 본문, 이미지를 갱신하고 교체된 이전 이미지는 커밋 후에 지운다.")
     void updatePost() {
         User user = user(7L);
         Post post = post(21L, user);
@@ -241,16 +335,30 @@ class PostServiceTest {
         MockMultipartFile newImage = new MockMultipartFile("file", "new.png", "image/png", "data".getBytes());
         request.setFile(newImage);
 
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        doAnswer(invocation -> {
+            post.updateTitle("new title");
+            return null;
+        }).when(postRepository).updateTitle(post, "new title");
         when(fileStorageService.save(newImage)).thenReturn("new-image");
 
-        PostIdResponse response = postService.updatePost(post.getId(), user.getId(), request);
-
-        assertThat(response.getId()).isEqualTo(post.getId());
-        assertThat(post.getTitle()).isEqualTo("new title");
-        assertThat(post.getBody()).isEqualTo("new body");
-        assertThat(post.getImageUrl()).isEqualTo("new-image");
-        verify(fileStorageService).delete(previousImage);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            PostIdResponse response = postService.updatePost(post.getId(), user.getId(), request);
+
+            assertThat(response.getId()).isEqualTo(post.getId());
+            assertThat(post.getTitle()).isEqualTo("new title");
+            assertThat(post.getBody()).isEqualTo("new body");
+            assertThat(post.getImageUrl()).isEqualTo("new-image");
+            verify(fileStorageService, never()).deleteAll(any());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            verify(fileStorageService).deleteAll(List.of(previousImage));
+            verify(eventBus).publish(new PostUpdated(post.getId(), "new title", "new body"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -263,7 +371,12 @@ class PostServiceTest {
         request.setTitle("new title");
         request.setBody("new body");
 
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(postRepository.findById(post.getId())).thenReturn(Optional.of(post));
+        doAnswer(invocation -> {
+            post.updateTitle("new title");
+            return null;
+        }).when(postRepository).updateTitle(post, "new title");
 
         PostIdResponse response = postService.updatePost(post.getId(), user.getId(), request);
 
@@ -272,11 +385,12 @@ class PostServiceTest {
         assertThat(post.getBody()).isEqualTo("new body");
         assertThat(post.getImageUrl()).isEqualTo(originImageUrl);
         verify(fileStorageService, never()).save(any());
-        verify(fileStorageService, never()).delete(any());
+        verify(fileStorageService, never()).deleteAll(any());
+        verify(eventBus).publish(new PostUpdated(post.getId(), "new title", "new body"));
     }
 
     @Test
-    @DisplayName("게시글을 삭제하면 파일을 함께 정리한다.")
+    @DisplayName("게시글을 삭제하면 삭제 표시만 하고 댓글 캐시를 비우며, 색인 / 순위 정리는 삭제 이벤트로 넘긴다. 이미지는 지우지 않는다.")
     void deletePost() {
         User user = user(3L);
         Post post = post(8L, user);
@@ -285,8 +399,48 @@ class PostServiceTest {
 
         postService.deletePost(post.getId(), user.getId());
 
-        verify(fileStorageService).delete(post.getImageUrl());
-        verify(postRepository).delete(post);
+        verify(postRepository).softDelete(post);
+        verify(postRepository, never()).delete(any());
+        verify(commentPageCache).evict(post.getId());
+        verify(eventBus).publish(new PostDeleted(post.getId()));
+        verifyNoInteractions(fileStorageService, popularPostRanking, postSearchIndex);
+    }
+
+    @Test
+    @DisplayName("복구 기간 안에 삭제된 게시글은 복구하고, 검색 색인 반영은 복구 이벤트로 넘긴다.")
+    void restorePost() {
+        //given
+        User user = user(3L);
+        Post post = post(8L, user);
+        post.softDelete();
+        when(postRepository.findDeletedByIdForUpdate(post.getId())).thenReturn(Optional.of(post));
+        when(postPurgeService.restorableSince()).thenReturn(LocalDateTime.now().minusHours(1));
+
+        //when
+        PostIdResponse response = postService.restorePost(post.getId(), user.getId());
+
+        //then
+        assertThat(response.getId()).isEqualTo(post.getId());
+        verify(postRepository).restore(post);
+        verify(eventBus).publish(new PostRestored(post.getId(), post.getTitle(), post.getBody()));
+    }
+
+    @Test
+    @DisplayName("복구 기간이 지난 게시글은 복구할 수 없다.")
+    void restorePost_after_grace_period() {
+        //given
+        User user = user(3L);
+        Post post = post(8L, user);
+        post.softDelete();
+        when(postRepository.findDeletedByIdForUpdate(post.getId())).thenReturn(Optional.of(post));
+        when(postPurgeService.restorableSince()).thenReturn(LocalDateTime.now().plusSeconds(1));
+
+        //when //then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> postService.restorePost(post.getId(), user.getId()));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.POST_NOT_FOUND);
+        verify(postRepository, never()).restore(any());
+        verifyNoInteractions(eventBus);
     }
 
     @Test
@@ -305,6 +459,7 @@ class PostServiceTest {
 
         assertTrue(response.isLiked());
         verify(postLikeRepository).save(any(PostLike.class));
+        verify(eventBus).publish(new LikeToggled(postId, true));
     }
 
     @Test
@@ -324,6 +479,100 @@ class PostServiceTest {
 
         assertFalse(response.isLiked());
         verify(postLikeRepository).delete(existing);
+        verify(eventBus).publish(new LikeToggled(postId, false));
+    }
+
+    @Test
+    @DisplayName("게시글이 있으면 실시간 이벤트 구독을 열고, 없으면 POST_NOT_FOUND 예외를 던진다.")
+    void subscribeEvents() {
+        //given
+        User user = user(1L);
+        SseEmitter emitter = new SseEmitter();
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post(1L, user)));
+        when(postRepository.findById(2L)).thenReturn(Optional.empty());
+        when(postEventStream.subscribe(1L)).thenReturn(emitter);
+
+        //when + then
+        assertSame(emitter, postService.subscribeEvents(1L));
+        CustomException exception = assertThrows(CustomException.class, () -> postService.subscribeEvents(2L));
+        assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+        verify(postEventStream, never()).subscribe(2L);
+    }
+
+    @Test
+    @DisplayName("인기 게시글은 순위 순서대로 반환하고, 이미 삭제된 게시글은 순위에서 제거한다.")
+    void getPopularPosts_in_ranking_order() {
+        //given
+        User user = user(1L);
+        Post first = post(5L, user);
+        Post second = post(3L, user);
+        when(popularPostRanking.topPostIds(10)).thenReturn(List.of(5L, 4L, 3L));
+        when(postRepository.findAllByIds(List.of(5L, 4L, 3L))).thenReturn(List.of(second, first));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        //when
+        List<PostSingleResponse> response = postService.getPopularPosts(10);
+
+        //then
+        assertThat(response).extracting(item -> item.getPost().getId()).containsExactly(5L, 3L);
+        verify(popularPostRanking).remove(4L);
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 개수는 최대값으로 제한된다.")
+    void getPopularPosts_caps_size() {
+        //given
+        when(popularPostRanking.topPostIds(20)).thenReturn(List.of());
+        when(postRepository.findAllByIds(List.of())).thenReturn(List.of());
+
+        //when
+        List<PostSingleResponse> response = postService.getPopularPosts(1_000);
+
+        //then
+        assertThat(response).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 결과는 색인의 관련도 순서대로 반환하고, 페이지 정보는 색인의 전체 결과 수로 계산한다.")
+    void searchPosts_in_relevance_order() {
+        //given
+        PaginationRequest request = new PaginationRequest(1, 2, null, null);
+        User user = user(1L);
+        Post first = post(9L, user);
+        Post second = post(4L, user);
+        when(postSearchIndex.search("검색어", 2, 2))
+                .thenReturn(new PostSearchIndex.SearchHits(List.of(9L, 4L), 5L));
+        when(postRepository.findAllByIds(List.of(9L, 4L))).thenReturn(List.of(second, first));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        //when
+        PageResponse<PostSingleResponse> response = postService.searchPosts("검색어", request);
+
+        //then
+        assertThat(response.items()).extracting(item -> item.getPost().getId()).containsExactly(9L, 4L);
+        assertThat(response.totalElements()).isEqualTo(5L);
+        assertThat(response.totalPages()).isEqualTo(3);
+        assertThat(response.page()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 결과 중 조회되지 않은 게시글은 응답에서 빼고 색인에서도 제거한다.")
+    void searchPosts_removes_missing_posts_from_index() {
+        //given
+        PaginationRequest request = new PaginationRequest(0, 10, null, null);
+        User user = user(1L);
+        Post post = post(9L, user);
+        when(postSearchIndex.search("검색어", 0, 10))
+                .thenReturn(new PostSearchIndex.SearchHits(List.of(9L, 4L), 2L));
+        when(postRepository.findAllByIds(List.of(9L, 4L))).thenReturn(List.of(post));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        //when
+        PageResponse<PostSingleResponse> response = postService.searchPosts("검색어", request);
+
+        //then
+        assertThat(response.items()).extracting(item -> item.getPost().getId()).containsExactly(9L);
+        verify(postSearchIndex).remove(4L);
     }
 
     @Test
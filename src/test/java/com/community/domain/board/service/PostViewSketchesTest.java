@@ -0,0 +1,117 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.model.PostViewSketch;
+import com.community.domain.board.repository.JpaPostViewSketchRepository;
+import com.community.domain.common.util.HyperLogLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewSketchesTest {
+
+    @Mock
+    private JpaPostViewSketchRepository repository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostViewSketches sketches;
+
+    @BeforeEach
+    void setUp() {
+        sketches = new PostViewSketches(repository, transactionManager, 2, 1_000);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 반복 조회는 중복 제거 기간 동안 조회로 세지 않고, 순 조회자 수도 늘지 않는다.")
+    void recordView_suppresses_duplicates_within_window() {
+        //given
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+
+        //when
+        boolean first = sketches.recordView(1L, 10L);
+        boolean repeated = sketches.recordView(1L, 10L);
+        boolean other = sketches.recordView(1L, 11L);
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(repeated).isFalse();
+        assertThat(other).isTrue();
+        assertThat(sketches.uniqueViewCount(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("중복 제거 구간이 두 번 바뀌면 같은 회원의 조회를 다시 센다.")
+    void recordView_counts_again_after_window() {
+        //given
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        sketches.recordView(1L, 10L);
+
+        //when
+        sketches.rotateWindow();
+        boolean withinWindow = sketches.recordView(1L, 10L);
+        sketches.rotateWindow();
+        sketches.rotateWindow();
+        boolean afterWindow = sketches.recordView(1L, 10L);
+
+        //then
+        assertThat(withinWindow).isFalse();
+        assertThat(afterWindow).isTrue();
+        assertThat(sketches.uniqueViewCount(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("저장된 스케치와 합쳐 저장하므로 다른 노드의 조회자도 순 조회자 수에 포함된다.")
+    void flush_merges_with_stored_sketch() {
+        //given
+        HyperLogLog otherNode = new HyperLogLog(PostViewSketches.PRECISION);
+        otherNode.offer(20L);
+        otherNode.offer(21L);
+        PostViewSketch stored = new PostViewSketch(1L, otherNode.toBytes());
+        when(repository.findById(1L)).thenReturn(Optional.empty());
+        when(repository.findByIdForUpdate(1L)).thenReturn(Optional.of(stored));
+        sketches.recordView(1L, 10L);
+
+        //when
+        sketches.flush();
+
+        //then
+        assertThat(HyperLogLog.fromBytes(stored.getRegisters()).estimate()).isEqualTo(3L);
+        assertThat(sketches.uniqueViewCount(1L)).isEqualTo(3L);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("저장된 스케치가 없으면 새로 저장하고, 저장이 끝난 스케치는 max-sketches 를 넘으면 메모리에서 내린다.")
+    void flush_saves_new_sketch_and_trims() {
+        //given
+        when(repository.findById(any())).thenReturn(Optional.empty());
+        when(repository.findByIdForUpdate(any())).thenReturn(Optional.empty());
+        sketches.recordView(1L, 10L);
+        sketches.recordView(2L, 10L);
+        sketches.recordView(3L, 10L);
+
+        //when
+        sketches.flush();
+
+        //then
+        ArgumentCaptor<PostViewSketch> saved = ArgumentCaptor.forClass(PostViewSketch.class);
+        verify(repository, times(3)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(PostViewSketch::getPostId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(sketches.sketchCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,149 @@
+package com.community.domain.board.service;
+
+import com.community.domain.board.dto.response.PostViewStatsResponse;
+import com.community.domain.board.dto.response.ViewBucketResponse;
+import com.community.domain.board.model.Post;
+import com.community.domain.board.model.PostViewBucket;
+import com.community.domain.board.model.PostViewBucketId;
+import com.community.domain.board.model.PostViewEvent;
+import com.community.domain.board.model.ViewGranularity;
+import com.community.domain.board.repository.JpaPostViewBucketRepository;
+import com.community.domain.board.repository.PostRepository;
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import com.community.helper.PostMaker;
+import com.community.helper.UserMaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewStatsServiceTest {
+
+    @Mock
+    private JpaPostViewBucketRepository bucketRepository;
+    @Mock
+    private PostRepository postRepository;
+
+    private PostViewStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PostViewStatsService(bucketRepository, postRepository, 48, 90, 730);
+    }
+
+    @Test
+    @DisplayName("조회 이벤트는 분 / 시 / 일 버킷마다 합산되어 버킷당 한 번씩, 잠금 순서대로 더해진다.")
+    void record_adds_views_to_every_granularity() {
+        //given
+        LocalDateTime viewedAt = LocalDateTime.of(2026, 10, 19, 13, 5, 30);
+
+        //when
+        service.record(List.of(viewEvent(2L, viewedAt), viewEvent(1L, viewedAt), viewEvent(1L, viewedAt.plusSeconds(10))));
+
+        //then
+        InOrder inOrder = inOrder(bucketRepository);
+        inOrder.verify(bucketRepository).increase(new PostViewBucketId(1L, ViewGranularity.MINUTE, viewedAt.truncatedTo(ChronoUnit.MINUTES)), 2L);
+        inOrder.verify(bucketRepository).increase(new PostViewBucketId(1L, ViewGranularity.HOUR, viewedAt.truncatedTo(ChronoUnit.HOURS)), 2L);
+        inOrder.verify(bucketRepository).increase(new PostViewBucketId(1L, ViewGranularity.DAY, viewedAt.truncatedTo(ChronoUnit.DAYS)), 2L);
+        inOrder.verify(bucketRepository).increase(new PostViewBucketId(2L, ViewGranularity.MINUTE, viewedAt.truncatedTo(ChronoUnit.MINUTES)), 1L);
+        verify(bucketRepository, times(6)).increase(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("구간 통계는 버킷 경계에 맞춰 비어 있는 버킷을 0 으로 채우고, 합계를 함께 반환한다.")
+    void getStats_fills_empty_buckets() {
+        //given
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime from = to.minusHours(3);
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post(1L)));
+        when(bucketRepository.findRange(1L, ViewGranularity.HOUR, from, to)).thenReturn(List.of(
+                new PostViewBucket(new PostViewBucketId(1L, ViewGranularity.HOUR, from), 4L),
+                new PostViewBucket(new PostViewBucketId(1L, ViewGranularity.HOUR, from.plusHours(2)), 6L)));
+
+        //when
+        PostViewStatsResponse response = service.getStats(1L, ViewGranularity.HOUR, from, to);
+
+        //then
+        assertThat(response.getGranularity()).isEqualTo(ViewGranularity.HOUR);
+        assertThat(response.getTotalViews()).isEqualTo(10L);
+        assertThat(response.getBuckets()).extracting(ViewBucketResponse::getViews).containsExactly(4L, 0L, 6L);
+    }
+
+    @Test
+    @DisplayName("단위를 생략하면 보관 기간 안에서 버킷 수가 적당한 가장 작은 단위를 고른다.")
+    void getStats_picks_granularity() {
+        //given
+        LocalDateTime to = LocalDateTime.now();
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post(1L)));
+        when(bucketRepository.findRange(eq(1L), any(), any(), eq(to))).thenReturn(List.of());
+
+        //when
+        PostViewStatsResponse lastHour = service.getStats(1L, null, to.minusHours(1), to);
+        PostViewStatsResponse lastWeek = service.getStats(1L, null, to.minusDays(7), to);
+        PostViewStatsResponse lastYear = service.getStats(1L, null, to.minusDays(365), to);
+
+        //then
+        assertThat(lastHour.getGranularity()).isEqualTo(ViewGranularity.MINUTE);
+        assertThat(lastWeek.getGranularity()).isEqualTo(ViewGranularity.HOUR);
+        assertThat(lastYear.getGranularity()).isEqualTo(ViewGranularity.DAY);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 구간을 작은 단위로 요청하면 예외가 발생한다.")
+    void getStats_rejects_expired_granularity() {
+        //given
+        LocalDateTime to = LocalDateTime.now();
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post(1L)));
+
+        //when //then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> service.getStats(1L, ViewGranularity.MINUTE, to.minusDays(3), to));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_VIEW_STATS_RANGE);
+        verify(bucketRepository, never()).findRange(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 통계를 조회할 수 없다.")
+    void getStats_requires_post() {
+        //given
+        when(postRepository.findById(1L)).thenReturn(Optional.empty());
+
+        //when //then
+        CustomException exception = assertThrows(CustomException.class, () -> service.getStats(1L, null, null, null));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.POST_NOT_FOUND);
+    }
+
+    private PostViewEvent viewEvent(Long postId, LocalDateTime createdAt) {
+        PostViewEvent event = new PostViewEvent(postId);
+        ReflectionTestUtils.setField(event, "createdAt", createdAt);
+        return event;
+    }
+
+    private Post post(Long id) {
+        Post post = PostMaker.getNumberedPost(UserMaker.getDefaultUser(), id.intValue());
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
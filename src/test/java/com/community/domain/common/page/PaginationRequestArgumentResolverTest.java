@@ -0,0 +1,52 @@
+package com.community.domain.common.page;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaginationRequestArgumentResolverTest {
+
+    @Test
+    @DisplayName("쿼리 파라미터를 바인딩하고 페이지 크기를 상한으로 줄인다.")
+    void resolves_and_caps_size() throws Exception {
+        //given
+        PaginationRequestArgumentResolver resolver = new PaginationRequestArgumentResolver(20);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("page", "2");
+        request.setParameter("size", "1000");
+        request.setParameter("sortBy", "title");
+        request.setParameter("direction", "ASC");
+        MethodParameter parameter = parameter();
+
+        //when
+        Object resolved = resolver.resolveArgument(parameter, new ModelAndViewContainer(),
+                new ServletWebRequest(request), new ServletRequestDataBinderFactory(null, null));
+
+        //then
+        assertThat(resolver.supportsParameter(parameter)).isTrue();
+        assertThat(resolved).isEqualTo(new PaginationRequest(2, 20, "title", PaginationRequest.SortDirection.ASC));
+    }
+
+    @Test
+    @DisplayName("페이지 크기 상한은 1 이상이어야 한다.")
+    void rejects_non_positive_max_size() {
+        assertThrows(IllegalArgumentException.class, () -> new PaginationRequestArgumentResolver(0));
+    }
+
+    private MethodParameter parameter() throws NoSuchMethodException {
+        return new MethodParameter(SampleController.class.getMethod("getPage", PaginationRequest.class), 0);
+    }
+
+    static class SampleController {
+
+        public void getPage(PaginationRequest paginationRequest) {
+        }
+    }
+}
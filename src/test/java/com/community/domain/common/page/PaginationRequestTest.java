@@ -0,0 +1,31 @@
+package com.community.domain.common.page;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaginationRequestTest {
+
+    @Test
+    @DisplayName("페이지 크기를 생략하거나 1 미만으로 요청하면 기본 크기를 사용한다.")
+    void size_defaults() {
+        assertThat(new PaginationRequest(0, null, null, null).size()).isEqualTo(10);
+        assertThat(new PaginationRequest(0, 0, null, null).size()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 상한을 넘으면 상한으로 줄인 요청을 반환하고, 나머지 값은 유지한다.")
+    void limitSize_caps_size() {
+        //given
+        PaginationRequest request = new PaginationRequest(3, 1_000_000, "title", PaginationRequest.SortDirection.ASC);
+        PaginationRequest within = new PaginationRequest(0, 20, null, null);
+
+        //when
+        PaginationRequest capped = request.limitSize(20);
+
+        //then
+        assertThat(capped).isEqualTo(new PaginationRequest(3, 20, "title", PaginationRequest.SortDirection.ASC));
+        assertThat(within.limitSize(20)).isSameAs(within);
+    }
+}
@@ -0,0 +1,55 @@
+package com.community.domain.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함될 수 있다고 판단한다.")
+    void mightContain_returns_true_for_inserted_values() {
+        //given
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("user" + i + "@email.com");
+        }
+
+        //then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@email.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 설정한 값 근처로 유지된다.")
+    void mightContain_false_positive_rate_is_bounded() {
+        //given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("nick" + i);
+        }
+
+        //when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("absent" + i)) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기나 오탐률로 생성하면 예외를 던진다.")
+    void constructor_throws_when_invalid_arguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
@@ -0,0 +1,35 @@
+package com.community.domain.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashingTest {
+
+    @Test
+    @DisplayName("하위 비트가 모두 같은 id 도 섞은 뒤 하위 비트로 고르면 여러 스트라이프에 흩어진다.")
+    void mix_spreads_ids_with_equal_low_bits() {
+        //given
+        Set<Long> stripes = new HashSet<>();
+
+        //when
+        for (long timestamp = 1; timestamp <= 1_000; timestamp++) {
+            long id = timestamp << 22;
+            stripes.add(Hashing.mix(id) & 63);
+        }
+
+        //then
+        assertThat(stripes).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("같은 값은 항상 같은 해시로 섞인다.")
+    void mix_is_deterministic() {
+        assertThat(Hashing.mix(42L)).isEqualTo(Hashing.mix(42L));
+        assertThat(Hashing.mix(42L)).isNotEqualTo(Hashing.mix(43L));
+    }
+}
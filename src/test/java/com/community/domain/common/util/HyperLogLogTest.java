@@ -0,0 +1,97 @@
+package com.community.domain.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPercentage;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("서로 다른 값의 개수를 표준 오차의 몇 배 안으로 추정한다.")
+    void estimate_is_close_to_cardinality() {
+        for (int cardinality : new int[]{10, 1_000, 100_000}) {
+            //given
+            HyperLogLog sketch = new HyperLogLog(11);
+
+            //when
+            for (long value = 1; value <= cardinality; value++) {
+                sketch.offer(value);
+            }
+
+            //then
+            assertThat((double) sketch.estimate()).isCloseTo(cardinality, withPercentage(7));
+        }
+    }
+
+    @Test
+    @DisplayName("이미 추가한 값을 다시 추가하면 레지스터와 추정치가 바뀌지 않는다.")
+    void duplicates_do_not_change_sketch() {
+        //given
+        HyperLogLog sketch = new HyperLogLog(11);
+        for (long value = 1; value <= 500; value++) {
+            sketch.offer(value);
+        }
+        long estimate = sketch.estimate();
+
+        //when
+        boolean changed = false;
+        for (long value = 1; value <= 500; value++) {
+            changed |= sketch.offer(value);
+        }
+
+        //then
+        assertThat(changed).isFalse();
+        assertThat(sketch.estimate()).isEqualTo(estimate);
+    }
+
+    @Test
+    @DisplayName("두 스케치를 합치면 두 값 집합의 합집합을 추정한다.")
+    void merge_estimates_union() {
+        //given
+        HyperLogLog node1 = new HyperLogLog(11);
+        HyperLogLog node2 = new HyperLogLog(11);
+        HyperLogLog union = new HyperLogLog(11);
+        for (long value = 0; value < 30_000; value++) {
+            node1.offer(value);
+            union.offer(value);
+        }
+        for (long value = 20_000; value < 50_000; value++) {
+            node2.offer(value);
+            union.offer(value);
+        }
+
+        //when
+        node1.merge(node2);
+
+        //then
+        assertThat(node1.toBytes()).isEqualTo(union.toBytes());
+    }
+
+    @Test
+    @DisplayName("레지스터 바이트로 저장한 스케치를 복원하면 같은 추정치를 낸다.")
+    void round_trips_through_bytes() {
+        //given
+        HyperLogLog sketch = new HyperLogLog(11);
+        for (long value = 1; value <= 2_000; value++) {
+            sketch.offer(value);
+        }
+
+        //when
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        //then
+        assertThat(sketch.toBytes()).hasSize(2048);
+        assertThat(restored.precision()).isEqualTo(11);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    @DisplayName("precision 이 다른 스케치는 합칠 수 없다.")
+    void merge_rejects_different_precision() {
+        assertThatThrownBy(() -> new HyperLogLog(11).merge(new HyperLogLog(12)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
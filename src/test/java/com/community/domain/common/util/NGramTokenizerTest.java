@@ -0,0 +1,30 @@
+package com.community.domain.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    @Test
+    @DisplayName("단어를 두 글자 단위로 자르고 영문은 소문자로 맞춘다.")
+    void bigrams_splits_words() {
+        assertThat(NGramTokenizer.bigrams("스프링 Boot"))
+                .containsExactly("스프", "프링", "bo", "oo", "ot");
+    }
+
+    @Test
+    @DisplayName("문장 부호는 단어 경계로 보고 한 글자 단어는 버린다.")
+    void bigrams_ignores_punctuation_and_single_characters() {
+        assertThat(NGramTokenizer.bigrams("게시판, 검색! a 집"))
+                .containsExactly("게시", "시판", "검색");
+    }
+
+    @Test
+    @DisplayName("빈 문자열이나 null 은 빈 목록을 반환한다.")
+    void bigrams_returns_empty_for_blank() {
+        assertThat(NGramTokenizer.bigrams(null)).isEmpty();
+        assertThat(NGramTokenizer.bigrams("  ")).isEmpty();
+    }
+}
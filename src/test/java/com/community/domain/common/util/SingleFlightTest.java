@@ -0,0 +1,128 @@
+package com.community.domain.common.util;
+
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 8;
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 loader 를 한 번만 실행하고 같은 결과를 받는다.")
+    void concurrent_calls_share_one_load() throws Exception {
+        //given
+        AtomicInteger collapsed = new AtomicInteger();
+        SingleFlight<Long, String> flight = new SingleFlight<>(collapsed::incrementAndGet);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+        //when
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.execute(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "post-1";
+        }), executor);
+        waitUntil(() -> flight.inFlightCount() == 1);
+
+        List<CompletableFuture<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(CompletableFuture.supplyAsync(() -> flight.execute(1L, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            }), executor));
+        }
+        waitUntil(() -> collapsed.get() == FOLLOWERS);
+        release.countDown();
+
+        //then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+        for (CompletableFuture<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flight.inFlightCount()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("leader 의 예외는 기다리던 요청에도 감싸지 않은 채 그대로 전달된다.")
+    void followers_receive_leader_exception() throws Exception {
+        //given
+        AtomicInteger collapsed = new AtomicInteger();
+        SingleFlight<Long, String> flight = new SingleFlight<>(collapsed::incrementAndGet);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.execute(1L, () -> {
+            await(release);
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }), executor);
+        waitUntil(() -> flight.inFlightCount() == 1);
+
+        //when
+        CompletableFuture<Throwable> follower = CompletableFuture.supplyAsync(() -> {
+            try {
+                flight.execute(1L, () -> "unused");
+                return null;
+            } catch (Throwable e) {
+                return e;
+            }
+        }, executor);
+        waitUntil(() -> collapsed.get() == 1);
+        release.countDown();
+
+        //then
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(CustomException.class);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("결과를 보관하지 않으므로 앞선 조회가 끝난 뒤의 요청은 다시 조회한다.")
+    void sequential_calls_load_again() {
+        //given
+        AtomicInteger collapsed = new AtomicInteger();
+        SingleFlight<Long, Integer> flight = new SingleFlight<>(collapsed::incrementAndGet);
+        AtomicInteger loads = new AtomicInteger();
+
+        //when
+        flight.execute(1L, loads::incrementAndGet);
+        flight.execute(1L, loads::incrementAndGet);
+        flight.execute(2L, loads::incrementAndGet);
+
+        //then
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(collapsed.get()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
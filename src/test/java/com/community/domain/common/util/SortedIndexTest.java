@@ -0,0 +1,72 @@
+package com.community.domain.common.util;
+
+import com.community.domain.common.page.PaginationRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedIndexTest {
+
+    private final SortedIndex<String> index = new SortedIndex<>(value -> value);
+
+    @Test
+    @DisplayName("값 순으로 정렬하고, 값이 같으면 id 순으로 정렬한다.")
+    void page_orders_by_value_then_id() {
+        //given
+        index.put(1L, "b");
+        index.put(2L, "a");
+        index.put(3L, "b");
+        index.put(4L, "c");
+
+        //when & then
+        assertThat(index.page(PaginationRequest.SortDirection.ASC, 0, 10)).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(index.page(PaginationRequest.SortDirection.DESC, 0, 10)).containsExactly(4L, 3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("앞쪽 / 뒤쪽 페이지 모두 offset 부터 size 개를 반환한다.")
+    void page_returns_slice() {
+        //given
+        for (long id = 1; id <= 25; id++) {
+            index.put(id, "%03d".formatted(id));
+        }
+
+        //when & then
+        assertThat(index.page(PaginationRequest.SortDirection.DESC, 0, 3)).containsExactly(25L, 24L, 23L);
+        assertThat(index.page(PaginationRequest.SortDirection.DESC, 20, 10)).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(index.page(PaginationRequest.SortDirection.ASC, 18, 3)).containsExactly(19L, 20L, 21L);
+        assertThat(index.page(PaginationRequest.SortDirection.ASC, 30, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 id 를 다시 넣으면 이전 위치에서 빠지고 새 값의 위치로 옮겨진다.")
+    void put_moves_existing_id() {
+        //given
+        index.put(1L, "a");
+        index.put(2L, "b");
+
+        //when
+        index.put(1L, "c");
+
+        //then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.all(PaginationRequest.SortDirection.ASC)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("remove 후에는 조회되지 않고, null 값은 가장 앞에 정렬된다.")
+    void remove_and_null_values() {
+        //given
+        index.put(1L, "a");
+        index.put(2L, null);
+        index.put(3L, "b");
+
+        //when
+        index.remove(1L);
+
+        //then
+        assertThat(index.all(PaginationRequest.SortDirection.ASC)).containsExactly(2L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
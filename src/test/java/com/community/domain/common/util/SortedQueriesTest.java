@@ -0,0 +1,38 @@
+package com.community.domain.common.util;
+
+import com.community.domain.board.repository.PostSortKey;
+import com.community.domain.common.page.PaginationRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedQueriesTest {
+
+    private final SortedQueries<PostSortKey> queries = new SortedQueries<>(PostSortKey.class,
+            "select p from Post p order by p.%s %s");
+
+    @Test
+    @DisplayName("정렬 키와 방향 조합마다 미리 만든 쿼리를 반환한다.")
+    void get_returns_prebuilt_query() {
+        assertThat(queries.get(PostSortKey.VIEW_COUNT, PaginationRequest.SortDirection.ASC))
+                .isEqualTo("select p from Post p order by p.viewCount asc");
+        assertThat(queries.get(PostSortKey.TITLE, PaginationRequest.SortDirection.DESC))
+                .isEqualTo("select p from Post p order by p.title desc");
+    }
+
+    @Test
+    @DisplayName("같은 조합은 항상 같은 문자열 객체를 반환한다.")
+    void get_returns_same_instance() {
+        assertThat(queries.get(PostSortKey.CREATED_AT, PaginationRequest.SortDirection.DESC))
+                .isSameAs(queries.get(PostSortKey.CREATED_AT, PaginationRequest.SortDirection.DESC));
+    }
+
+    @Test
+    @DisplayName("sortBy 는 대소문자를 무시하고 해석하며, 목록에 없는 값은 작성일 정렬로 대체한다.")
+    void sort_key_falls_back_to_default() {
+        assertThat(PostSortKey.from(" ViewCount ")).isEqualTo(PostSortKey.VIEW_COUNT);
+        assertThat(PostSortKey.from("title desc, p.id")).isEqualTo(PostSortKey.CREATED_AT);
+        assertThat(PostSortKey.from(null)).isEqualTo(PostSortKey.CREATED_AT);
+    }
+}
@@ -0,0 +1,101 @@
+package com.community.domain.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsidFactoryTest {
+
+    private static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("id 는 생성 시각과 노드 번호를 담고, JavaScript 가 정확히 표현할 수 있는 53bit 안에 들어간다.")
+    void next_encodes_time_and_node() {
+        //given
+        TsidFactory factory = new TsidFactory(7, () -> NOW);
+
+        //when
+        long id = factory.next();
+
+        //then
+        assertThat(TsidFactory.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(NOW));
+        assertThat(TsidFactory.nodeOf(id)).isEqualTo(7);
+        assertThat(id).isLessThan(1L << 53);
+    }
+
+    @Test
+    @DisplayName("같은 ms 에 순번을 모두 쓰거나 시계가 뒤로 가도 id 는 계속 증가한다.")
+    void next_is_monotonic() {
+        //given
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidFactory factory = new TsidFactory(0, clock::get);
+
+        //when & then
+        long previous = factory.next();
+        for (int i = 0; i < 1_000; i++) {
+            if (i == 500) {
+                clock.addAndGet(-10_000);
+            }
+            long next = factory.next();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("나중에 만든 id 가 더 크므로 id 순서가 생성 시각 순서와 같다.")
+    void later_ids_are_greater() {
+        //given
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidFactory node0 = new TsidFactory(0, clock::get);
+        TsidFactory node31 = new TsidFactory(TsidFactory.MAX_NODE, clock::get);
+
+        //when
+        long earlier = node31.next();
+        clock.incrementAndGet();
+        long later = node0.next();
+
+        //then
+        assertThat(later).isGreaterThan(earlier);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 id 가 겹치지 않는다.")
+    void next_is_unique_across_threads() throws Exception {
+        //given
+        TsidFactory factory = new TsidFactory(1, System::currentTimeMillis);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(factory.next());
+                }
+            });
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 번호는 허용하지 않는다.")
+    void invalid_node() {
+        assertThatThrownBy(() -> new TsidFactory(TsidFactory.MAX_NODE + 1, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
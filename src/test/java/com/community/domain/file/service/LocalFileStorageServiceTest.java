@@ -10,6 +10,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -107,6 +108,25 @@ class LocalFileStorageServiceTest {
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.FILE_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("deleteAll 은 존재하지 않는 파일은 건너뛰고 삭제된 파일 개수를 반환한다.")
+    void deleteAll_skipsMissingFiles() {
+        //given
+        String first = fileStorageService.save(new MockMultipartFile(
+                "file", "first.txt", "text/plain", "first".getBytes(StandardCharsets.UTF_8)));
+        String second = fileStorageService.save(new MockMultipartFile(
+                "file", "second.txt", "text/plain", "second".getBytes(StandardCharsets.UTF_8)));
+
+        //when
+        int removed = fileStorageService.deleteAll(List.of(first, second, HOST + "/files/missing"));
+
+        //then
+        assertThat(removed).isEqualTo(2);
+        String firstId = first.substring(first.lastIndexOf('/') + 1);
+        CustomException exception = assertThrows(CustomException.class, () -> fileStorageService.load(firstId));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.FILE_NOT_FOUND);
+    }
+
     @Test
     @DisplayName("saveManual 은 지정한 식별자 그대로 파일을 저장한다.")
     void saveManual_withProvidedIdStoresFile() throws Exception {
@@ -4,6 +4,7 @@ import com.community.domain.auth.AuthUserArgumentResolver;
 import com.community.domain.auth.dto.AuthenticatedUser;
 import com.community.domain.user.dto.response.SignInAvailableResponse;
 import com.community.domain.user.dto.response.SignInResponse;
+import com.community.domain.user.dto.response.UserDeletionResponse;
 import com.community.domain.user.dto.response.UserResponse;
 import com.community.domain.user.service.UserService;
 import com.community.global.exception.CustomException;
@@ -472,6 +473,35 @@ class UserControllerTest {
         verify(userService).deleteUser(7L);
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 진행 상황을 조회하면 200 과 삭제된 데이터 개수를 반환한다.")
+    void getDeletionProgress() throws Exception {
+        authenticate(7L);
+
+        when(userService.getDeletionProgress(7L))
+                .thenReturn(new UserDeletionResponse("PENDING", 1L, 20L, 30L));
+
+        mockMvc.perform(get("/users/me/deletion"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessage.USER_DELETION_FETCHED))
+                .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andExpect(jsonPath("$.data.deletedComments").value(20L));
+
+        verify(userService).getDeletionProgress(7L);
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 요청이 없으면 진행 상황 조회 시 404 를 반환한다.")
+    void getDeletionProgress_throws_when_not_requested() throws Exception {
+        authenticate(7L);
+
+        when(userService.getDeletionProgress(7L))
+                .thenThrow(new CustomException(ErrorCode.USER_DELETION_NOT_FOUND));
+
+        mockMvc.perform(get("/users/me/deletion"))
+                .andExpect(status().isNotFound());
+    }
+
     private void authenticate(Long userId) {
         TestingAuthenticationToken auth =
                 new TestingAuthenticationToken(new AuthenticatedUser(userId), null);
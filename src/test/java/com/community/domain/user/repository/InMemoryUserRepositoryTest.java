@@ -0,0 +1,73 @@
+package com.community.domain.user.repository;
+
+import com.community.domain.user.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static com.community.helper.UserMaker.getNumberedUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryUserRepositoryTest {
+
+    private final UserRepository userRepository = new InMemoryUserRepository();
+
+    @Test
+    @DisplayName("저장한 회원은 id / 이메일 / 닉네임으로 조회할 수 있다.")
+    void save_and_find() {
+        //given
+        User user = getNumberedUser(1);
+
+        //when
+        Long id = userRepository.save(user);
+
+        //then
+        assertThat(userRepository.findById(id)).contains(user);
+        assertThat(userRepository.findByEmail(user.getEmail())).contains(user);
+        assertThat(userRepository.findByNickname(user.getNickname())).contains(user);
+    }
+
+    @Test
+    @DisplayName("이미 사용 중인 이메일이나 닉네임으로는 저장할 수 없다.")
+    void save_duplicated_email_or_nickname() {
+        //given
+        userRepository.save(getNumberedUser(1));
+        User sameEmail = new User("test1@email.com", "password", "other", "image");
+
+        //when & then
+        assertThatThrownBy(() -> userRepository.save(sameEmail))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("닉네임을 바꾸면 이전 닉네임으로는 조회되지 않고 새 닉네임으로 조회된다.")
+    void findByNickname_after_update() {
+        //given
+        User user = getNumberedUser(1);
+        userRepository.save(user);
+
+        //when
+        user.updateNickname("renamed");
+
+        //then
+        assertThat(userRepository.findByNickname("test1")).isEmpty();
+        assertThat(userRepository.findByNickname("renamed")).contains(user);
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원은 조회되지 않는다.")
+    void delete_() {
+        //given
+        User user = getNumberedUser(1);
+        userRepository.save(user);
+
+        //when
+        userRepository.delete(user);
+
+        //then
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+        assertThat(userRepository.findByEmail(user.getEmail())).isEmpty();
+        assertThat(userRepository.findByNickname(user.getNickname())).isEmpty();
+    }
+}
@@ -4,9 +4,11 @@ package com.community.domain.user.repository;
 import static com.community.helper.UserMaker.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.community.domain.user.model.User;
+import com.community.domain.user.repository.dto.UserIdentity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -123,4 +125,27 @@ public class UserRepositoryTest {
         assertTrue(repository.findByEmail(email).isEmpty());
         assertTrue(repository.findByNickname(nickname).isEmpty());
     }
+
+    @Test
+    @DisplayName("id 이후의 회원 식별 정보를 id 오름차순으로 limit 개수만큼 조회할 수 있다.")
+    void findIdentitiesAfter() {
+        //given
+        User first = getNumberedUser(1);
+        User second = getNumberedUser(2);
+        User third = getNumberedUser(3);
+        repository.save(first);
+        repository.save(second);
+        repository.save(third);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        List<UserIdentity> identities = repository.findIdentitiesAfter(first.getId(), 1);
+
+        //then
+        assertEquals(1, identities.size());
+        assertEquals(second.getId(), identities.get(0).id());
+        assertEquals(second.getEmail(), identities.get(0).email());
+        assertEquals(second.getNickname(), identities.get(0).nickname());
+    }
 }
@@ -0,0 +1,109 @@
+package com.community.domain.user.service;
+
+import com.community.domain.user.repository.UserRepository;
+import com.community.domain.user.repository.dto.UserIdentity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserAvailabilityIndex userAvailabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userAvailabilityIndex, "EXPECTED_INSERTIONS", 1_000L);
+        ReflectionTestUtils.setField(userAvailabilityIndex, "FALSE_POSITIVE_RATE", 0.01);
+    }
+
+    @Test
+    @DisplayName("인덱스가 로드되기 전에는 어떤 값도 확실히 사용 가능하다고 판단하지 않는다.")
+    void isDefinitelyAvailable_returns_false_before_load() {
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableEmail("new@email.com")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("newNick")).isFalse();
+    }
+
+    @Test
+    @DisplayName("로드된 회원의 이메일과 닉네임은 대소문자와 무관하게 사용 가능하다고 판단하지 않는다.")
+    void load_indexes_existing_users() {
+        //given
+        when(userRepository.findIdentitiesAfter(anyLong(), anyInt()))
+                .thenReturn(List.of(new UserIdentity(1L, "taken@email.com", "takenNick")));
+
+        //when
+        userAvailabilityIndex.load();
+
+        //then
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableEmail("TAKEN@email.com")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("takennick")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableEmail("new@email.com")).isTrue();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("newNick")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로드 이후 추가된 이메일과 닉네임은 바로 인덱스에 반영된다.")
+    void add_reflects_new_values() {
+        //given
+        when(userRepository.findIdentitiesAfter(anyLong(), anyInt())).thenReturn(List.of());
+        userAvailabilityIndex.load();
+
+        //when
+        userAvailabilityIndex.add("new@email.com", "newNick");
+        userAvailabilityIndex.addNickname("otherNick");
+
+        //then
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableEmail("new@email.com")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("newNick")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("otherNick")).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB collation 이 같다고 보는 악센트 / 전각 / 대소문자 차이는 같은 닉네임으로 판단한다.")
+    void nickname_matches_collation_equivalents() {
+        //given
+        when(userRepository.findIdentitiesAfter(anyLong(), anyInt()))
+                .thenReturn(List.of(new UserIdentity(1L, "taken@email.com", "Café"), new UserIdentity(2L, "b@email.com", "한글닉")));
+
+        //when
+        userAvailabilityIndex.load();
+
+        //then
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("cafe")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("ＣＡＦＥ")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("cafe\u200B")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("한글닉")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("한글")).isTrue();
+    }
+
+    @Test
+    @DisplayName("정규화 후에도 ASCII / 한글 자모가 아닌 문자가 남으면 빠른 경로로 답하지 않고 DB 로 확인하게 한다.")
+    void nickname_with_other_scripts_is_not_definitely_available() {
+        //given
+        when(userRepository.findIdentitiesAfter(anyLong(), anyInt())).thenReturn(List.of());
+
+        //when
+        userAvailabilityIndex.load();
+
+        //then
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("ニック")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("ник")).isFalse();
+        assertThat(userAvailabilityIndex.isDefinitelyAvailableNickname("nick")).isTrue();
+    }
+}
@@ -0,0 +1,239 @@
+package com.community.domain.user.service;
+
+import com.community.domain.board.event.PostDeleted;
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.CommentRepository;
+import com.community.domain.board.repository.PostLikeRepository;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.board.repository.dto.DeletedComments;
+import com.community.domain.board.service.CommentPageCache;
+import com.community.domain.board.service.PostListCache;
+import com.community.domain.board.service.PostPurgeService;
+import com.community.domain.file.service.FileStorageService;
+import com.community.domain.user.dto.response.UserDeletionResponse;
+import com.community.domain.user.model.User;
+import com.community.domain.user.model.UserDeletionJob;
+import com.community.domain.user.repository.JpaUserDeletionJobRepository;
+import com.community.domain.user.repository.UserRepository;
+import com.community.global.event.DomainEventBus;
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDeletionServiceTest {
+
+    private static final String DEFAULT_IMAGE_URL = "http://default";
+
+    @Mock
+    private JpaUserDeletionJobRepository jpaUserDeletionJobRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostLikeRepository postLikeRepository;
+    @Mock
+    private PostPurgeService postPurgeService;
+    @Mock
+    private CommentPageCache commentPageCache;
+    @Mock
+    private PostListCache postListCache;
+    @Mock
+    private FileStorageService fileStorageService;
+    @Mock
+    private DomainEventBus eventBus;
+
+    @InjectMocks
+    private UserDeletionService userDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDeletionService, "CHUNK_SIZE", 2);
+        ReflectionTestUtils.setField(userDeletionService, "DEFAULT_IMAGE_URL", DEFAULT_IMAGE_URL);
+    }
+
+    @Test
+    @DisplayName("이미 탈퇴 요청이 있으면 새 작업을 만들지 않고 기존 작업을 반환한다.")
+    void request_returns_existing_job() {
+        //given
+        UserDeletionJob job = new UserDeletionJob(1L);
+        job.addDeletedComments(3);
+        when(jpaUserDeletionJobRepository.findByUserId(1L)).thenReturn(Optional.of(job));
+
+        //when
+        UserDeletionResponse response = userDeletionService.request(1L);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo("PENDING");
+        assertThat(response.getDeletedComments()).isEqualTo(3L);
+        verify(jpaUserDeletionJobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("탈퇴 요청이 없으면 진행 상황 조회 시 예외를 던진다.")
+    void getProgress_throws_when_not_requested() {
+        //given
+        when(jpaUserDeletionJobRepository.findByUserId(1L)).thenReturn(Optional.empty());
+
+        //when + then
+        CustomException ex = assertThrows(CustomException.class, () -> userDeletionService.getProgress(1L));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.USER_DELETION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("한 번의 실행에서는 남아 있는 첫 단계의 청크 하나만 삭제한다.")
+    void consumeChunk_deletes_only_one_chunk() {
+        //given
+        UserDeletionJob job = new UserDeletionJob(1L);
+        when(jpaUserDeletionJobRepository.findFirstPending()).thenReturn(Optional.of(job));
+        when(commentRepository.deleteChunkByPostAuthorId(1L, 2)).thenReturn(new DeletedComments(2, Set.of(10L)));
+
+        //when
+        userDeletionService.consumeChunk();
+
+        //then
+        assertThat(job.getDeletedComments()).isEqualTo(2L);
+        assertThat(job.isDone()).isFalse();
+        verify(commentPageCache).evict(10L);
+        verify(postListCache).invalidate();
+        verify(postLikeRepository, never()).deleteChunkByPostAuthorId(anyLong(), anyInt());
+        verify(postRepository, never()).findChunkByUserId(anyLong(), anyInt());
+        verify(userRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("게시글 청크는 게시글 purge 단계로 지우고, 게시글이 지워지면 삭제 이벤트를 발행한다.")
+    void consumeChunk_purges_posts() {
+        //given
+        UserDeletionJob job = new UserDeletionJob(1L);
+        List<Post> posts = List.of(post(10L), post(11L));
+
+        when(jpaUserDeletionJobRepository.findFirstPending()).thenReturn(Optional.of(job));
+        when(commentRepository.deleteChunkByPostAuthorId(1L, 2)).thenReturn(DeletedComments.none());
+        when(postRepository.findChunkByUserId(1L, 2)).thenReturn(posts);
+        when(postPurgeService.purge(posts)).thenReturn(new PostPurgeService.PurgedRows(0, 0, 0, 0, 2));
+
+        //when
+        userDeletionService.consumeChunk();
+
+        //then
+        assertThat(job.getDeletedPosts()).isEqualTo(2L);
+        verify(eventBus).publish(new PostDeleted(10L));
+        verify(eventBus).publish(new PostDeleted(11L));
+        verify(commentPageCache).evict(10L);
+        verify(commentPageCache).evict(11L);
+        verify(postListCache).invalidate();
+        verify(commentRepository, never()).deleteChunkByUserId(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("게시글의 조회 기록이 남아 있으면 그 청크만 지우고, 게시글 삭제 이벤트는 발행하지 않는다.")
+    void consumeChunk_purges_view_events_before_posts() {
+        //given
+        UserDeletionJob job = new UserDeletionJob(1L);
+        List<Post> posts = List.of(post(10L));
+
+        when(jpaUserDeletionJobRepository.findFirstPending()).thenReturn(Optional.of(job));
+        when(commentRepository.deleteChunkByPostAuthorId(1L, 2)).thenReturn(DeletedComments.none());
+        when(postRepository.findChunkByUserId(1L, 2)).thenReturn(posts);
+        when(postPurgeService.purge(posts)).thenReturn(new PostPurgeService.PurgedRows(0, 0, 2, 0, 0));
+
+        //when
+        userDeletionService.consumeChunk();
+
+        //then
+        assertThat(job.getDeletedPosts()).isZero();
+        assertThat(job.isDone()).isFalse();
+        verifyNoInteractions(eventBus);
+        verify(commentRepository, never()).deleteChunkByUserId(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("삭제할 자식 데이터가 없으면 회원을 삭제하고 작업을 완료 처리한다.")
+    void consumeChunk_completes_job() {
+        //given
+        UserDeletionJob job = new UserDeletionJob(1L);
+        User user = new User("e", "p", "n", "profileImage");
+        when(jpaUserDeletionJobRepository.findFirstPending()).thenReturn(Optional.of(job));
+        when(commentRepository.deleteChunkByPostAuthorId(1L, 2)).thenReturn(DeletedComments.none());
+        when(postRepository.findChunkByUserId(1L, 2)).thenReturn(List.of());
+        when(commentRepository.deleteChunkByUserId(1L, 2)).thenReturn(DeletedComments.none());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        //when
+        userDeletionService.consumeChunk();
+
+        //then
+        assertThat(job.isDone()).isTrue();
+        verify(fileStorageService).deleteAll(List.of("profileImage"));
+        verify(userRepository).delete(user);
+    }
+
+    @Test
+    @DisplayName("회원이 기본 프로필 이미지를 사용하면 이미지 파일은 삭제하지 않는다.")
+    void consumeChunk_skips_default_image() {
+        //given
+        UserDeletionJob job = new UserDeletionJob(1L);
+        User user = new User("e", "p", "n", DEFAULT_IMAGE_URL);
+        when(jpaUserDeletionJobRepository.findFirstPending()).thenReturn(Optional.of(job));
+        when(commentRepository.deleteChunkByPostAuthorId(1L, 2)).thenReturn(DeletedComments.none());
+        when(postRepository.findChunkByUserId(1L, 2)).thenReturn(List.of());
+        when(commentRepository.deleteChunkByUserId(1L, 2)).thenReturn(DeletedComments.none());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        //when
+        userDeletionService.consumeChunk();
+
+        //then
+        verify(fileStorageService, never()).deleteAll(any());
+        verify(userRepository).delete(user);
+    }
+
+    @Test
+    @DisplayName("다른 게시글에 남긴 댓글을 지우면 그 게시글들의 댓글 페이지 캐시와 목록 캐시를 비운다.")
+    void consumeChunk_evicts_caches_of_commented_posts() {
+        //given
+        UserDeletionJob job = new UserDeletionJob(1L);
+        when(jpaUserDeletionJobRepository.findFirstPending()).thenReturn(Optional.of(job));
+        when(commentRepository.deleteChunkByPostAuthorId(1L, 2)).thenReturn(DeletedComments.none());
+        when(postRepository.findChunkByUserId(1L, 2)).thenReturn(List.of());
+        when(commentRepository.deleteChunkByUserId(1L, 2)).thenReturn(new DeletedComments(2, Set.of(20L, 21L)));
+
+        //when
+        userDeletionService.consumeChunk();
+
+        //then
+        assertThat(job.getDeletedComments()).isEqualTo(2L);
+        verify(commentPageCache).evict(20L);
+        verify(commentPageCache).evict(21L);
+        verify(postListCache).invalidate();
+        verify(postLikeRepository, never()).deleteChunkByUserId(anyLong(), anyInt());
+    }
+
+    private Post post(Long id) {
+        Post post = new Post(null, "title", null, "body");
+        ReflectionTestUtils.setField(post, "id", id);
+        return post;
+    }
+}
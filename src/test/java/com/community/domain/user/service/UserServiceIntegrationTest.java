@@ -16,11 +16,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -36,6 +39,12 @@ class UserServiceIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @MockitoBean
     private FileStorageService fileStorageService;
 
@@ -143,11 +152,12 @@ class UserServiceIntegrationTest {
 
         //then
         User updated = userRepository.findById(userId).orElseThrow();
-        assertEquals("NewPassword1!", updated.getPassword());
+        assertNotEquals("NewPassword1!", updated.getPassword());
+        assertTrue(passwordEncoder.matches("NewPassword1!", updated.getPassword()));
     }
 
     @Test
-    @DisplayName("회원 탈퇴 시 프로필 이미지가 삭제되고 회원 데이터가 제거된다.")
+    @DisplayName("회원 탈퇴 요청 후 백그라운드 작업이 끝나면 프로필 이미지와 회원 데이터가 제거된다.")
     void deleteUser() {
         //given
         MultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", "image".getBytes());
@@ -158,10 +168,14 @@ class UserServiceIntegrationTest {
 
         //when
         userService.deleteUser(userId);
+        for (int i = 0; i < 10 && !"DONE".equals(userService.getDeletionProgress(userId).getStatus()); i++) {
+            userDeletionService.consumeChunk();
+        }
 
         //then
+        assertEquals("DONE", userService.getDeletionProgress(userId).getStatus());
         assertTrue(userRepository.findById(userId).isEmpty());
-        verify(fileStorageService).delete("imageUrl");
+        verify(fileStorageService).deleteAll(List.of("imageUrl"));
     }
 
     private SignInRequest createSignInRequest(int sequence, MultipartFile file) {
@@ -1,5 +1,7 @@
 package com.community.domain.user.service;
 
+import com.community.domain.auth.repository.RefreshTokenRepository;
+import com.community.domain.auth.service.PasswordHashingService;
 import com.community.domain.board.service.CommentService;
 import com.community.domain.board.service.PostService;
 import com.community.domain.file.service.FileStorageService;
@@ -17,12 +19,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Optional;
@@ -45,6 +49,16 @@ class UserServiceTest {
     private PostService postService;
     @Mock
     private CommentService commentService;
+    @Mock
+    private UserDeletionService userDeletionService;
+    @Mock
+    private UserAvailabilityIndex userAvailabilityIndex;
+    @Mock
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private UserService userService;
@@ -70,6 +84,7 @@ class UserServiceTest {
         when(userRepository.findByEmail(signInRequest.getEmail())).thenReturn(Optional.empty());
         when(userRepository.findByNickname(signInRequest.getNickname())).thenReturn(Optional.empty());
         when(fileStorageService.save(any(MultipartFile.class))).thenReturn("mockImageURL");
+        when(passwordHashingService.encode(signInRequest.getPassword())).thenReturn("{bcrypt}hashed");
         when(userRepository.save(any())).thenReturn(123L);
 
         //when
@@ -84,6 +99,8 @@ class UserServiceTest {
         assertThat(saved.getEmail()).isEqualTo(signInRequest.getEmail());
         assertThat(saved.getNickname()).isEqualTo(signInRequest.getNickname());
         assertThat(saved.getImageUrl()).isEqualTo("mockImageURL");
+        assertThat(saved.getPassword()).isEqualTo("{bcrypt}hashed");
+        verify(userAvailabilityIndex).add(signInRequest.getEmail(), signInRequest.getNickname());
     }
 
     @Test
@@ -188,6 +205,21 @@ class UserServiceTest {
         assertTrue(res.getIsSignInInformationAvailable());
     }
 
+    @Test
+    @DisplayName("이메일 중복 확인 시 인덱스가 확실히 사용 가능하다고 판단하면 DB 를 조회하지 않는다.")
+    void checkEmailAvailability_skips_db_when_index_definitely_available() {
+        //given
+        String email = "unique@email.com";
+        when(userAvailabilityIndex.isDefinitelyAvailableEmail(email)).thenReturn(true);
+
+        //when
+        SignInAvailableResponse res = userService.checkEmailAvailability(email);
+
+        //then
+        assertTrue(res.getIsSignInInformationAvailable());
+        verify(userRepository, never()).findByEmail(any());
+    }
+
     @Test
     @DisplayName("이메일 중복 확인 시 이메일이 중복이면 예외를 던진다.")
     void checkEmailAvailability_throws_when_email_duplicate() {
@@ -214,6 +246,21 @@ class UserServiceTest {
         assertTrue(res.getIsSignInInformationAvailable());
     }
 
+    @Test
+    @DisplayName("닉네임 중복 확인 시 인덱스가 확실히 사용 가능하다고 판단하면 DB 를 조회하지 않는다.")
+    void checkNicknameAvailability_skips_db_when_index_definitely_available() {
+        //given
+        String nickname = "uniqueNickname";
+        when(userAvailabilityIndex.isDefinitelyAvailableNickname(nickname)).thenReturn(true);
+
+        //when
+        SignInAvailableResponse res = userService.checkNicknameAvailability(nickname);
+
+        //then
+        assertTrue(res.getIsSignInInformationAvailable());
+        verify(userRepository, never()).findByNickname(any());
+    }
+
     @Test
     @DisplayName("닉네임 중복 확인 시 닉네임이 중복이면 예외를 던진다.")
     void checkNicknameAvailability_throws_when_nickname_duplicate() {
@@ -275,6 +322,7 @@ class UserServiceTest {
         assertThat(user.getNickname()).isEqualTo("newNick");
         assertThat(user.getImageUrl()).isEqualTo("newImage");
         verify(fileStorageService).delete("oldImage");
+        verify(userAvailabilityIndex).addNickname("newNick");
     }
 
     @Test
@@ -413,6 +461,7 @@ class UserServiceTest {
         String newPw = "new";
         User user = new User("e", "old", "n", "i");
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordHashingService.encode(newPw)).thenReturn("{bcrypt}new");
 
         PasswordUpdateRequest req = new PasswordUpdateRequest();
         req.setPassword(newPw);
@@ -421,7 +470,60 @@ class UserServiceTest {
         userService.changePassword(1L, req);
 
         //then
-        assertThat(user.getPassword()).isEqualTo(newPw);
+        assertThat(user.getPassword()).isEqualTo("{bcrypt}new");
+    }
+
+    @Test
+    @DisplayName("비밀번호 해싱이 끝난 뒤에 트랜잭션을 열어 DB 커넥션을 해싱 동안 잡지 않는다.")
+    void changePassword_hashes_before_transaction() {
+        //given
+        User user = new User("e", "old", "n", "i");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordHashingService.encode("new")).thenReturn("{bcrypt}new");
+
+        PasswordUpdateRequest req = new PasswordUpdateRequest();
+        req.setPassword("new");
+
+        //when
+        userService.changePassword(1L, req);
+
+        //then
+        InOrder inOrder = inOrder(passwordHashingService, transactionManager, userRepository);
+        inOrder.verify(passwordHashingService).encode("new");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(userRepository).findById(1L);
+    }
+
+    @Test
+    @DisplayName("로그인 시 재해싱된 비밀번호로 회원의 비밀번호를 교체한다.")
+    void upgradePasswordHash() {
+        //given
+        User user = new User("e", "plain", "n", "i");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        //when
+        userService.upgradePasswordHash(1L, "{bcrypt}upgraded");
+
+        //then
+        assertThat(user.getPassword()).isEqualTo("{bcrypt}upgraded");
+        verify(passwordHashingService, never()).encode(any());
+    }
+
+    @Test
+    @DisplayName("탈퇴를 요청한 회원은 비밀번호를 수정할 수 없다.")
+    void changePassword_throws_when_user_deactivated() {
+        //given
+        User user = new User("e", "old", "n", "i");
+        user.deactivate();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        PasswordUpdateRequest req = new PasswordUpdateRequest();
+        req.setPassword("pw");
+
+        //when + then
+        CustomException ex = assertThrows(CustomException.class, () -> userService.changePassword(1L, req));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.DEACTIVATED_USER);
+        assertThat(user.getPassword()).isEqualTo("old");
     }
 
     @Test
@@ -439,7 +541,7 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("회원은 탈퇴할 수 있다.")
+    @DisplayName("회원이 탈퇴하면 바로 비활성화되고 리프레시 토큰이 폐기되며, 삭제는 백그라운드 작업으로 넘긴다.")
     void deleteUser() {
         //given
         User user = new User("e", "p", "n", "image");
@@ -449,8 +551,11 @@ class UserServiceTest {
         userService.deleteUser(1L);
 
         //then
-        verify(fileStorageService).delete("image");
-        verify(userRepository).delete(user);
+        assertThat(user.isDeactivated()).isTrue();
+        verify(refreshTokenRepository).deleteAllByUserId(1L);
+        verify(userDeletionService).request(1L);
+        verify(userRepository, never()).delete(any());
+        verify(fileStorageService, never()).delete(any());
     }
 
     @Test
@@ -0,0 +1,111 @@
+package com.community.global.aop;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ControllerExecutionTimeAspectTest {
+
+    private static final String REQUEST_ID_KEY = "requestId";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("가상 스레드에서 동시에 실행해도 요청마다 서로 다른 requestId 를 사용하고, 실행 후 MDC 를 비운다.")
+    void requestId_is_isolated_per_virtual_thread() throws Exception {
+        //given
+        EchoService proxy = proxy(new EchoService());
+        int taskCount = 1_000;
+
+        //when
+        List<Future<String[]>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < taskCount; i++) {
+                futures.add(executor.submit(() -> {
+                    String inside = proxy.currentRequestId();
+                    String after = MDC.get(REQUEST_ID_KEY);
+                    return new String[]{inside, after};
+                }));
+            }
+        }
+
+        //then
+        Set<String> requestIds = new HashSet<>();
+        for (Future<String[]> future : futures) {
+            String[] result = future.get();
+            assertThat(result[0]).isNotNull();
+            assertThat(result[1]).isNull();
+            requestIds.add(result[0]);
+        }
+        assertThat(requestIds).hasSize(taskCount);
+    }
+
+    @Test
+    @DisplayName("이미 requestId 가 있으면 그대로 사용하고 실행 후에도 지우지 않는다.")
+    void existing_requestId_is_kept() {
+        //given
+        EchoService proxy = proxy(new EchoService());
+        MDC.put(REQUEST_ID_KEY, "outer");
+
+        try {
+            //when
+            String inside = proxy.currentRequestId();
+
+            //then
+            assertThat(inside).isEqualTo("outer");
+            assertThat(MDC.get(REQUEST_ID_KEY)).isEqualTo("outer");
+        } finally {
+            MDC.remove(REQUEST_ID_KEY);
+        }
+    }
+
+    @Test
+    @DisplayName("메서드 실행 시간은 계층 / 클래스 / 메서드 태그가 붙은 Timer 에 기록된다.")
+    void execution_time_is_recorded_per_method() {
+        //given
+        EchoService proxy = proxy(new EchoService());
+
+        //when
+        proxy.currentRequestId();
+        proxy.currentRequestId();
+
+        //then
+        Timer timer = meterRegistry.get("community.method.execution")
+                .tag("layer", "Service")
+                .tag("class", "EchoService")
+                .tag("method", "currentRequestId")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2L);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    private EchoService proxy(EchoService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ControllerExecutionTimeAspect(meterRegistry, ControllerExecutionTimeAspect.LogMode.NONE, 500, 1.0));
+        return factory.getProxy();
+    }
+
+    @Service
+    static class EchoService {
+
+        public String currentRequestId() {
+            return MDC.get(REQUEST_ID_KEY);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.community.global.config;
+
+import com.community.domain.board.model.Post;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.user.model.User;
+import com.community.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "l2cache"})
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Long userId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        userId = transaction.execute(status -> userRepository.save(new User("cache@email.com", "password", "cache", "imageURL")));
+        postId = transaction.execute(status -> postRepository.save(
+                new Post(userRepository.findById(userId).orElseThrow(), "title", null, "body")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            postRepository.findById(postId).ifPresent(postRepository::delete);
+            userRepository.findById(userId).ifPresent(userRepository::delete);
+        });
+    }
+
+    @Test
+    @DisplayName("커밋된 회원은 다음 트랜잭션의 조회에서 SQL 없이 2차 캐시에서 읽는다.")
+    void find_hits_second_level_cache() {
+        //given
+        long hits = statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.USER_REGION).getHitCount();
+        long loads = statistics.getEntityLoadCount();
+
+        //when
+        User found = transaction.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        //then
+        assertThat(found.getNickname()).isEqualTo("cache");
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.USER_REGION).getHitCount()).isEqualTo(hits + 1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loads);
+    }
+
+    @Test
+    @DisplayName("벌크 JPQL 로 조회수를 올리면 캐시된 게시글을 내려 다음 조회가 바뀐 값을 읽는다.")
+    void increase_view_count_evicts_cached_post() {
+        //given
+        transaction.execute(status -> postRepository.findById(postId));
+        assertThat(entityManagerFactory.getCache().contains(Post.class, postId)).isTrue();
+
+        //when
+        transaction.executeWithoutResult(status -> postRepository.increaseViewCount(postId, 3));
+
+        //then
+        assertThat(entityManagerFactory.getCache().contains(Post.class, postId)).isFalse();
+        Post found = transaction.execute(status -> postRepository.findById(postId).orElseThrow());
+        assertThat(found.getViewCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("이메일 조회 결과는 쿼리 캐시에서 재사용한다.")
+    void find_by_email_hits_query_cache() {
+        //given
+        transaction.execute(status -> userRepository.findByEmail("cache@email.com"));
+        long hits = statistics.getQueryCacheHitCount();
+
+        //when
+        transaction.execute(status -> userRepository.findByEmail("cache@email.com"));
+
+        //then
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.community.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "virtual"})
+class VirtualThreadModeTest {
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("virtual 프로파일에서는 @Scheduled 작업이 가상 스레드에서 실행된다.")
+    void scheduler_runs_on_virtual_threads() throws Exception {
+        //given
+        CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+
+        //when
+        taskScheduler.schedule(() -> isVirtual.complete(Thread.currentThread().isVirtual()), Instant.now());
+
+        //then
+        assertThat(taskScheduler).isInstanceOf(SimpleAsyncTaskScheduler.class);
+        assertThat(isVirtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("virtual 프로파일에서는 커넥션 풀 크기와 대기 시간이 가상 스레드 기준으로 설정된다.")
+    void hikari_pool_is_sized_for_virtual_threads() throws Exception {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(20);
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(3000L);
+    }
+}
@@ -0,0 +1,151 @@
+package com.community.global.datasource;
+
+import com.community.domain.auth.dto.AuthenticatedUser;
+import com.community.domain.user.model.User;
+import com.community.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary 는 테스트용 H2(testdb), replica 는 비어 있는 별도 H2(replicadb)를 사용한다.
+ * 두 DB 사이에 복제가 없으므로, 읽기 결과로 어느 쪽에서 읽었는지 구분할 수 있다.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "replica"})
+@TestPropertySource(properties = "application.datasource.replica-urls=jdbc:h2:mem:replicadb;MODE=MYSQL;DB_CLOSE_DELAY=-1")
+class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        DataSource replica = replicaRoutingDataSource.getResolvedDataSources().get("replica-0");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(replica);
+
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (userId != null) {
+            writeTransaction.executeWithoutResult(status -> userRepository.findById(userId).ifPresent(userRepository::delete));
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 로, 쓰기 트랜잭션은 primary 로 보낸다.")
+    void read_only_transaction_goes_to_replica() {
+        //given
+        double replicaReads = routed("replica-0", "read");
+        userId = writeTransaction.execute(status -> userRepository.save(newUser()));
+
+        //when
+        Optional<User> fromReplica = readOnlyTransaction.execute(status -> userRepository.findById(userId));
+        Optional<User> fromPrimary = writeTransaction.execute(status -> userRepository.findById(userId));
+
+        //then
+        assertThat(fromReplica).isEmpty();
+        assertThat(fromPrimary).isPresent();
+        assertThat(routed("replica-0", "read")).isEqualTo(replicaReads + 1);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 회원의 읽기 전용 트랜잭션은 read-your-writes 기간 동안 primary 로 보낸다.")
+    void recent_writer_reads_from_primary() {
+        //given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthenticatedUser(1000L), null, List.of()));
+        double readYourWrites = routed(ReplicaRoutingDataSource.PRIMARY, "read-your-writes");
+        userId = writeTransaction.execute(status -> userRepository.save(newUser()));
+
+        //when
+        Optional<User> found = readOnlyTransaction.execute(status -> userRepository.findById(userId));
+
+        //then
+        assertThat(found).isPresent();
+        assertThat(routed(ReplicaRoutingDataSource.PRIMARY, "read-your-writes")).isEqualTo(readYourWrites + 1);
+    }
+
+    @Test
+    @DisplayName("UnattributedWriteHolder 구간의 쓰기는 회원을 기록하지 않으므로 이후 읽기는 replica 로 보낸다.")
+    void unattributed_write_does_not_pin_reads() {
+        //given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthenticatedUser(1001L), null, List.of()));
+        double replicaReads = routed("replica-0", "read");
+        UnattributedWriteHolder.run(() -> userId = writeTransaction.execute(status -> userRepository.save(newUser())));
+
+        //when
+        Optional<User> found = readOnlyTransaction.execute(status -> userRepository.findById(userId));
+
+        //then
+        assertThat(found).isEmpty();
+        assertThat(UnattributedWriteHolder.isActive()).isFalse();
+        assertThat(routed("replica-0", "read")).isEqualTo(replicaReads + 1);
+    }
+
+    @Test
+    @DisplayName("PrimaryReadHolder 구간의 읽기 전용 트랜잭션은 회원 정보가 없어도 primary 로 보낸다.")
+    void pinned_read_goes_to_primary() {
+        //given
+        double pinned = routed(ReplicaRoutingDataSource.PRIMARY, "pinned");
+        userId = writeTransaction.execute(status -> userRepository.save(newUser()));
+
+        //when
+        Optional<User> found = PrimaryReadHolder.call(
+                () -> readOnlyTransaction.execute(status -> userRepository.findById(userId)));
+
+        //then
+        assertThat(found).isPresent();
+        assertThat(PrimaryReadHolder.isPinned()).isFalse();
+        assertThat(routed(ReplicaRoutingDataSource.PRIMARY, "pinned")).isEqualTo(pinned + 1);
+    }
+
+    private User newUser() {
+        return new User("replica@email.com", "password", "replica", "imageURL");
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get("community.datasource.route")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+}
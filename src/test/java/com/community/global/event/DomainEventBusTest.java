@@ -0,0 +1,219 @@
+package com.community.global.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainEventBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<DomainEventBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(DomainEventBus::shutdown);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private DomainEventBus bus(int queueCapacity, DomainEventListener<?>... listeners) {
+        DomainEventBus bus = new DomainEventBus(List.of(listeners), meterRegistry, queueCapacity, 10);
+        buses.add(bus);
+        return bus;
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행한 이벤트는 해당 타입의 리스너에게만 발행 순서대로 전달된다.")
+    void publish_delivers_in_order_to_matching_listener() throws Exception {
+        //given
+        RecordingListener listener = new RecordingListener(3);
+        DomainEventBus bus = bus(100, listener);
+
+        //when
+        bus.publish(new NumberEvent(1));
+        bus.publish(new OtherEvent());
+        bus.publish(new NumberEvent(2));
+        bus.publish(new NumberEvent(3));
+
+        //then
+        assertThat(listener.await()).isTrue();
+        assertThat(listener.received).extracting(NumberEvent::value).containsExactly(1, 2, 3);
+        assertThat(meterRegistry.get("community.event_bus.lag").tag("listener", "RecordingListener").timer().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발행한 이벤트는 커밋 후에 전달된다.")
+    void publish_in_transaction_waits_for_commit() throws Exception {
+        //given
+        RecordingListener listener = new RecordingListener(1);
+        DomainEventBus bus = bus(100, listener);
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        bus.publish(new NumberEvent(1));
+
+        //then
+        assertThat(listener.received).isEmpty();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(listener.await()).isTrue();
+        assertThat(listener.received).extracting(NumberEvent::value).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("리스너가 실패해도 실패 수만 기록하고 이후 이벤트는 계속 처리한다.")
+    void failing_listener_keeps_consuming() throws Exception {
+        //given
+        FailingListener listener = new FailingListener();
+        DomainEventBus bus = bus(100, listener);
+
+        //when
+        bus.publish(new NumberEvent(-1));
+        waitUntilFailed(1);
+        bus.publish(new NumberEvent(1));
+
+        //then
+        assertThat(listener.await()).isTrue();
+        assertThat(listener.received).extracting(NumberEvent::value).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 이벤트를 버리고 버린 수를 기록한다.")
+    void full_queue_drops_events() throws Exception {
+        //given
+        BlockingListener listener = new BlockingListener(3);
+        DomainEventBus bus = bus(2, listener);
+        bus.publish(new NumberEvent(1));
+        assertThat(listener.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        //when
+        bus.publish(new NumberEvent(2));
+        bus.publish(new NumberEvent(3));
+        bus.publish(new NumberEvent(4));
+        listener.release.countDown();
+
+        //then
+        assertThat(listener.await()).isTrue();
+        assertThat(listener.received).extracting(NumberEvent::value).containsExactly(1, 2, 3);
+        assertThat(meterRegistry.get("community.event_bus.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이벤트를 버린 뒤에는 리스너 스레드에서 버린 수와 함께 onEventsDropped 를 호출한다.")
+    void dropped_events_notify_listener() throws Exception {
+        //given
+        BlockingListener listener = new BlockingListener(3);
+        DomainEventBus bus = bus(2, listener);
+        bus.publish(new NumberEvent(1));
+        assertThat(listener.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        //when
+        bus.publish(new NumberEvent(2));
+        bus.publish(new NumberEvent(3));
+        bus.publish(new NumberEvent(4));
+        bus.publish(new NumberEvent(5));
+        listener.release.countDown();
+
+        //then
+        assertThat(listener.dropped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.droppedCount).isEqualTo(2);
+        assertThat(listener.received).extracting(NumberEvent::value).containsExactly(1, 2, 3);
+    }
+
+    private void waitUntilFailed(double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("community.event_bus.failed").counter().count() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private record NumberEvent(int value) implements DomainEvent {
+    }
+
+    private record OtherEvent() implements DomainEvent {
+    }
+
+    private static class RecordingListener implements DomainEventListener<NumberEvent> {
+
+        final List<NumberEvent> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        private RecordingListener(int expected) {
+            this.latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        public Class<NumberEvent> eventType() {
+            return NumberEvent.class;
+        }
+
+        @Override
+        public void onEvents(List<NumberEvent> events) {
+            received.addAll(events);
+            events.forEach(event -> latch.countDown());
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+    // 음수 이벤트가 포함된 묶음은 처리에 실패한다.
+    private static class FailingListener extends RecordingListener {
+
+        private FailingListener() {
+            super(1);
+        }
+
+        @Override
+        public void onEvents(List<NumberEvent> events) {
+            if (events.get(0).value() < 0) {
+                throw new IllegalStateException("fail");
+            }
+            super.onEvents(events);
+        }
+    }
+
+    // release 전까지 첫 묶음 처리에서 멈춰 대기열이 비워지지 않게 한다.
+    private static class BlockingListener extends RecordingListener {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch dropped = new CountDownLatch(1);
+        volatile long droppedCount;
+
+        private BlockingListener(int expected) {
+            super(expected);
+        }
+
+        @Override
+        public void onEventsDropped(long droppedCount) {
+            this.droppedCount = droppedCount;
+            dropped.countDown();
+        }
+
+        @Override
+        public void onEvents(List<NumberEvent> events) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.onEvents(events);
+        }
+    }
+}
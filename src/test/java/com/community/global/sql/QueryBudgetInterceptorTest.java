@@ -0,0 +1,156 @@
+package com.community.global.sql;
+
+import com.community.global.exception.CustomException;
+import com.community.global.exception.ErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryBudgetInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryBudgetInspector inspector = new QueryBudgetInspector();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        QueryCountHolder.clear();
+    }
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 에는 컨트롤러 메서드 주석이 붙고, 요청이 끝나면 엔드포인트별 실행 수가 기록된다.")
+    void counts_and_tags_statements_per_endpoint() throws Exception {
+        //given
+        QueryBudgetInterceptor interceptor = interceptor(QueryBudgetInterceptor.Mode.LOG, 10);
+        HandlerMethod handler = handler();
+        interceptor.preHandle(request, response, handler);
+
+        //when
+        String tagged = inspector.inspect("select 1");
+        inspector.inspect("select 2");
+        interceptor.afterCompletion(request, response, handler, null);
+
+        //then
+        assertThat(tagged).isEqualTo("/* SampleController.getSample */ select 1");
+        DistributionSummary summary = meterRegistry.get("community.request.queries")
+                .tag("endpoint", "SampleController.getSample")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1L);
+        assertThat(summary.totalAmount()).isEqualTo(2.0);
+        assertThat(QueryCountHolder.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("비동기 처리가 시작되면 요청 스레드에 남은 집계 컨텍스트를 비운다.")
+    void clears_context_when_async_handling_starts() throws Exception {
+        //given
+        QueryBudgetInterceptor interceptor = interceptor(QueryBudgetInterceptor.Mode.LOG, 10);
+        HandlerMethod handler = handler();
+        interceptor.preHandle(request, response, handler);
+        inspector.inspect("select 1");
+
+        //when
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        //then
+        assertThat(QueryCountHolder.get()).isNull();
+        assertThat(inspector.inspect("select 2")).isEqualTo("select 2");
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 SQL 은 집계하지 않고 그대로 둔다.")
+    void leaves_statements_outside_requests_untouched() {
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+    }
+
+    @Test
+    @DisplayName("LOG 모드에서는 한도를 넘어도 SQL 실행을 막지 않는다.")
+    void log_mode_does_not_fail() throws Exception {
+        //given
+        QueryBudgetInterceptor interceptor = interceptor(QueryBudgetInterceptor.Mode.LOG, 1);
+        interceptor.preHandle(request, response, handler());
+
+        //when
+        inspector.inspect("select 1");
+        inspector.inspect("select 1");
+
+        //then
+        assertThat(QueryCountHolder.get().isOverBudget()).isTrue();
+    }
+
+    @Test
+    @DisplayName("FAIL 모드에서는 한도를 넘는 SQL 이 실행되는 시점에 예외를 던진다.")
+    void fail_mode_throws_when_budget_exceeded() throws Exception {
+        //given
+        QueryBudgetInterceptor interceptor = interceptor(QueryBudgetInterceptor.Mode.FAIL, 2);
+        interceptor.preHandle(request, response, handler());
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+
+        //when
+        CustomException ex = assertThrows(CustomException.class, () -> inspector.inspect("select 3"));
+
+        //then
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.QUERY_BUDGET_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("propagate 로 넘긴 조회 스레드의 SQL 도 요청의 실행 수에 집계되고, 조회 스레드에는 컨텍스트가 남지 않는다.")
+    void propagate_counts_statements_on_other_threads() throws Exception {
+        //given
+        QueryBudgetInterceptor interceptor = interceptor(QueryBudgetInterceptor.Mode.LOG, 10);
+        interceptor.preHandle(request, response, handler());
+        inspector.inspect("select 1");
+
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+
+        //when
+        String tagged;
+        boolean leftOnWorker;
+        try {
+            tagged = CompletableFuture.supplyAsync(
+                    QueryCountHolder.propagate(() -> inspector.inspect("select 2")), worker).join();
+            leftOnWorker = CompletableFuture.supplyAsync(() -> QueryCountHolder.get() != null, worker).join();
+        } finally {
+            worker.shutdown();
+        }
+
+        //then
+        assertThat(tagged).isEqualTo("/* SampleController.getSample */ select 2");
+        assertThat(QueryCountHolder.get().getCount()).isEqualTo(2);
+        assertThat(leftOnWorker).isFalse();
+    }
+
+    private QueryBudgetInterceptor interceptor(QueryBudgetInterceptor.Mode mode, int maxStatements) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return new QueryBudgetInterceptor(beanFactory.getBeanProvider(MeterRegistry.class),
+                maxStatements, mode, 5);
+    }
+
+    private HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod("getSample"));
+    }
+
+    static class SampleController {
+
+        public String getSample() {
+            return "sample";
+        }
+    }
+}
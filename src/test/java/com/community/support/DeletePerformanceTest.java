@@ -3,6 +3,7 @@ package com.community.support;
 import com.community.domain.auth.dto.AuthenticatedUser;
 import com.community.domain.board.service.PostService;
 import com.community.domain.file.service.FileStorageService;
+import com.community.domain.user.service.UserDeletionService;
 import com.community.domain.user.service.UserService;
 import com.community.support.PerformanceTestDataGenerator.TestIds;
 import jakarta.persistence.EntityManager;
@@ -21,9 +22,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-
 @SpringBootTest
 @ExtendWith(MockitoExtension.class)
 @Transactional
@@ -36,6 +34,9 @@ class DeletePerformanceTest {
     @Autowired
     UserService userService;
 
+    @Autowired
+    UserDeletionService userDeletionService;
+
     @MockitoBean
     FileStorageService fileStorageService;
 
@@ -47,7 +48,6 @@ class DeletePerformanceTest {
 
     @Test
     void measureDeleteUserPerformance() {
-        doNothing().when(fileStorageService).delete(any());
         ReflectionTestUtils.setField(postService, "fileStorageService", fileStorageService);
 
         // 1) 데이터 준비 (숫자는 필요에 따라 조절)
@@ -63,13 +63,18 @@ class DeletePerformanceTest {
 
         Long targetUserId = ids.userId();
 
-        // 3) 실제 측정
+        // 3) 실제 측정 (탈퇴 요청 + 모든 청크가 처리될 때까지)
         long start = System.nanoTime();
         userService.deleteUser(targetUserId);
+        int chunks = 0;
+        while (!"DONE".equals(userService.getDeletionProgress(targetUserId).getStatus())) {
+            userDeletionService.consumeChunk();
+            chunks++;
+        }
         long end = System.nanoTime();
 
         long elapsedMs = (end - start) / 1_000_000;
-        System.out.println("deleteUser(" + targetUserId + ") took " + elapsedMs + " ms");
+        System.out.println("deleteUser(" + targetUserId + ") took " + elapsedMs + " ms in " + chunks + " chunks");
     }
 
     @Test
@@ -0,0 +1,130 @@
+package com.community.support.load;
+
+import com.community.domain.auth.TokenType;
+import com.community.domain.auth.service.TokenProvider;
+import com.community.support.load.LoadTestSeeder.SeedResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시드 데이터를 채운 H2(MODE=MYSQL) 환경에서 주요 엔드포인트별 p50 / p99 / 처리량을 측정한다. (./gradlew loadTest)
+ * 데이터 규모와 동시성은 -Dload.users=1000 -Dload.concurrency=200 처럼 시스템 속성으로 바꿀 수 있다.
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "logging.level.com.community=warn",
+                "logging.level.org.hibernate.SQL=warn"
+        }
+)
+class EndpointLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${load.users:100}")
+    private int USER_COUNT;
+
+    @Value("${load.posts-per-user:10}")
+    private int POSTS_PER_USER;
+
+    @Value("${load.comments-per-post:10}")
+    private int COMMENTS_PER_POST;
+
+    @Value("${load.likes-per-post:5}")
+    private int LIKES_PER_POST;
+
+    @Value("${load.concurrency:100}")
+    private int CONCURRENCY;
+
+    @Value("${load.warmup-seconds:3}")
+    private int WARMUP_SECONDS;
+
+    @Value("${load.duration-seconds:10}")
+    private int DURATION_SECONDS;
+
+    @Autowired
+    private LoadTestSeeder seeder;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private List<Long> postIds;
+    private List<String> accessTokens;
+
+    @BeforeAll
+    void seed() {
+        SeedResult seedResult = seeder.seed(USER_COUNT, POSTS_PER_USER, COMMENTS_PER_POST, LIKES_PER_POST);
+        postIds = seedResult.postIds();
+        accessTokens = seedResult.userIds().stream()
+                .map(userId -> tokenProvider.createToken(Map.of("sub", userId), TokenType.ACCESS).token())
+                .toList();
+    }
+
+    @Test
+    void measureEndpoints() throws Exception {
+        int pageCount = Math.max(1, postIds.size() / 10);
+
+        Map<String, IntFunction<HttpRequest>> endpoints = new LinkedHashMap<>();
+        endpoints.put("GET /posts", sequence ->
+                get("/posts?page=" + (sequence % pageCount) + "&size=10", sequence));
+        endpoints.put("GET /posts/{id}", sequence ->
+                get("/posts/" + postId(sequence), sequence));
+        endpoints.put("GET /posts/{id}/comments", sequence ->
+                get("/posts/" + postId(sequence) + "/comments?page=0&size=10", sequence));
+        endpoints.put("POST /posts/{id}/like", sequence ->
+                post("/posts/" + postId(sequence) + "/like", sequence));
+
+        System.out.printf("[load] users=%d posts=%d comments/post=%d likes/post=%d concurrency=%d%n",
+                USER_COUNT, postIds.size(), COMMENTS_PER_POST, LIKES_PER_POST, CONCURRENCY);
+
+        try (HttpLoadDriver driver = new HttpLoadDriver(CONCURRENCY)) {
+            for (Map.Entry<String, IntFunction<HttpRequest>> endpoint : endpoints.entrySet()) {
+                driver.drive(endpoint.getValue(), Duration.ofSeconds(WARMUP_SECONDS));
+                HttpLoadDriver.Result result = driver.drive(endpoint.getValue(), Duration.ofSeconds(DURATION_SECONDS));
+
+                System.out.printf("[load][%s] %s%n", endpoint.getKey(), result.summary());
+                assertThat(result.completed()).as(endpoint.getKey()).isPositive();
+            }
+        }
+    }
+
+    // 순번마다 다른 게시글과 회원을 골라 캐시나 한 행에만 부하가 몰리지 않도록 한다.
+    private Long postId(int sequence) {
+        return postIds.get(Math.floorMod(sequence * 31, postIds.size()));
+    }
+
+    private HttpRequest get(String path, int sequence) {
+        return builder(path, sequence).GET().build();
+    }
+
+    private HttpRequest post(String path, int sequence) {
+        return builder(path, sequence).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest.Builder builder(String path, int sequence) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + accessTokens.get(sequence % accessTokens.size()))
+                .timeout(Duration.ofSeconds(10));
+    }
+}
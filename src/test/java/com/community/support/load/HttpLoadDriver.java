@@ -0,0 +1,139 @@
+package com.community.support.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * 동시 클라이언트 concurrency 개가 주어진 시간 동안 요청을 반복해서 보내고, 응답 지연 분포와 처리량을 집계한다.
+ * 클라이언트는 가상 스레드로 실행하므로 동시 요청 수를 크게 잡아도 테스트 JVM 의 스레드가 부족하지 않다.
+ */
+class HttpLoadDriver implements AutoCloseable {
+
+    private final int concurrency;
+    private final ExecutorService clients;
+    private final HttpClient httpClient;
+
+    HttpLoadDriver(int concurrency) {
+        this.concurrency = concurrency;
+        this.clients = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * requestFactory 는 요청 순번을 받아 보낼 요청을 만든다. 클라이언트마다 시작 순번이 달라 여러 요청이 고르게 섞인다.
+     */
+    Result drive(IntFunction<HttpRequest> requestFactory, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Future<Worker>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            int offset = i;
+            futures.add(clients.submit(() -> {
+                Worker worker = new Worker();
+                int sequence = offset;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = requestFactory.apply(sequence++);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        worker.record(System.nanoTime() - start, response.statusCode() < 400);
+                    } catch (Exception e) {
+                        worker.record(System.nanoTime() - start, false);
+                    }
+                }
+                return worker;
+            }));
+        }
+
+        Result result = new Result(duration);
+        for (Future<Worker> future : futures) {
+            result.merge(future.get());
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        clients.close();
+    }
+
+    private static class Worker {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latencyNanos, boolean success) {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+    }
+
+    static class Result {
+
+        private final Duration duration;
+        private long[] latencies = new long[0];
+        private long errors;
+        private boolean sorted;
+
+        Result(Duration duration) {
+            this.duration = duration;
+        }
+
+        void merge(Worker worker) {
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + worker.count);
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            errors += worker.errors;
+            sorted = false;
+        }
+
+        long completed() {
+            return latencies.length;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        double throughput() {
+            return latencies.length / (duration.toMillis() / 1_000.0);
+        }
+
+        double percentileMs(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(latencies);
+                sorted = true;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(percentile * latencies.length) - 1);
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        String summary() {
+            return String.format("requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p99=%.2f ms",
+                    completed(), errors(), throughput(), percentileMs(0.50), percentileMs(0.99));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.community.support.load;
+
+import com.community.domain.board.model.Comment;
+import com.community.domain.board.model.Post;
+import com.community.domain.board.model.PostLike;
+import com.community.domain.board.repository.CommentRepository;
+import com.community.domain.board.repository.PostLikeRepository;
+import com.community.domain.board.repository.PostRepository;
+import com.community.domain.user.model.User;
+import com.community.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 데이터를 리포지토리를 통해 생성한다.
+ * 영속성 컨텍스트가 한없이 커지지 않도록 작성자 CHUNK_SIZE 명 단위로 트랜잭션을 나눈다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadTestSeeder {
+
+    private static final int CHUNK_SIZE = 20;
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 좋아요는 게시글마다 서로 다른 회원이 누르므로 likesPerPost 는 userCount 를 넘을 수 없다.
+     */
+    public SeedResult seed(int userCount, int postsPerUser, int commentsPerPost, int likesPerPost) {
+        if (likesPerPost > userCount) {
+            throw new IllegalArgumentException("likesPerPost must not exceed userCount");
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Random random = new Random(42);
+
+        List<Long> userIds = new ArrayList<>(userCount);
+        for (int from = 0; from < userCount; from += CHUNK_SIZE) {
+            int to = Math.min(userCount, from + CHUNK_SIZE);
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < to; i++) {
+                    userIds.add(userRepository.save(new User(
+                            "load" + i + "@example.com",
+                            "encoded-password",
+                            "lt" + i,
+                            "http://localhost:8080/file/" + i
+                    )));
+                }
+            });
+        }
+
+        List<Long> postIds = new ArrayList<>(userCount * postsPerUser);
+        for (int from = 0; from < userCount; from += CHUNK_SIZE) {
+            List<Long> authorIds = userIds.subList(from, Math.min(userCount, from + CHUNK_SIZE));
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Long authorId : authorIds) {
+                    for (int p = 0; p < postsPerUser; p++) {
+                        Post post = new Post(
+                                entityManager.getReference(User.class, authorId),
+                                "Load post " + p,
+                                "http://localhost:8080/img/" + authorId + "_" + p + ".png",
+                                "Load test post body. author=" + authorId + ", post=" + p
+                        );
+                        postIds.add(postRepository.save(post));
+                        seedReactions(post, userIds, commentsPerPost, likesPerPost, random);
+                    }
+                }
+            });
+        }
+
+        return new SeedResult(List.copyOf(userIds), List.copyOf(postIds));
+    }
+
+    private void seedReactions(Post post, List<Long> userIds, int commentsPerPost, int likesPerPost, Random random) {
+        for (int c = 0; c < commentsPerPost; c++) {
+            User commenter = entityManager.getReference(User.class, userIds.get(random.nextInt(userIds.size())));
+            commentRepository.save(new Comment(post, commenter, "Load comment " + c));
+        }
+
+        int offset = random.nextInt(userIds.size());
+        for (int l = 0; l < likesPerPost; l++) {
+            User liker = entityManager.getReference(User.class, userIds.get((offset + l) % userIds.size()));
+            postLikeRepository.save(new PostLike(post, liker));
+        }
+    }
+
+    public record SeedResult(List<Long> userIds, List<Long> postIds) {
+    }
+}
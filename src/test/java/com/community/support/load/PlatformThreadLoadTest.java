@@ -0,0 +1,12 @@
+package com.community.support.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+class PlatformThreadLoadTest extends ThroughputLoadHarness {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,80 @@
+package com.community.support.load;
+
+import com.community.domain.auth.TokenType;
+import com.community.domain.auth.service.TokenProvider;
+import com.community.support.PerformanceTestDataGenerator;
+import com.community.support.PerformanceTestDataGenerator.TestIds;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스레드 모드별 처리량 비교용 부하 하네스. (./gradlew loadTest)
+ * 두 모드 모두 Tomcat 최대 스레드 수와 커넥션 풀 크기를 같게 두고, 동시 요청 수를 그보다 크게 잡아 요청 스레드 한도의 영향을 본다.
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=16",
+                "spring.datasource.hikari.maximum-pool-size=20",
+                "logging.level.com.community=warn",
+                "logging.level.org.hibernate.SQL=warn"
+        }
+)
+abstract class ThroughputLoadHarness {
+
+    private static final int CONCURRENCY = 200;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PerformanceTestDataGenerator dataGenerator;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    protected abstract String mode();
+
+    @Test
+    void measureThroughput() throws Exception {
+        TestIds ids = dataGenerator.generate(10, 10, 10, 5, 0);
+        String accessToken = tokenProvider.createToken(Map.of("sub", ids.userId()), TokenType.ACCESS).token();
+
+        List<HttpRequest> requests = List.of(
+                request("/posts/" + ids.postId(), accessToken),
+                request("/posts?page=0&size=10", accessToken),
+                request("/posts/" + ids.postId() + "/comments?page=0&size=10", accessToken)
+        );
+
+        try (HttpLoadDriver driver = new HttpLoadDriver(CONCURRENCY)) {
+            driver.drive(sequence -> requests.get(sequence % requests.size()), WARMUP);
+            HttpLoadDriver.Result result = driver.drive(sequence -> requests.get(sequence % requests.size()), MEASUREMENT);
+
+            System.out.printf("[load][%s] %s%n", mode(), result.summary());
+
+            assertThat(result.completed()).isPositive();
+        }
+    }
+
+    private HttpRequest request(String path, String accessToken) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + accessToken)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.community.support.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles({"test", "virtual"})
+class VirtualThreadLoadTest extends ThroughputLoadHarness {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -1,4 +1,7 @@
+DROP TABLE IF EXISTS `user_deletion_jobs`;
 DROP TABLE IF EXISTS `post_view_events`;
+DROP TABLE IF EXISTS `post_view_sketches`;
+DROP TABLE IF EXISTS `post_view_buckets`;
 DROP TABLE IF EXISTS `post_likes`;
 DROP TABLE IF EXISTS `comments`;
 DROP TABLE IF EXISTS `posts`;
@@ -12,8 +15,10 @@ CREATE TABLE `users` (
 `email` varchar(50) NOT NULL,
 `image_url` varchar(255) NOT NULL,
 `password` varchar(255) NOT NULL,
+`deactivated_at` datetime(6) DEFAULT NULL,
 PRIMARY KEY (`user_id`),
-UNIQUE KEY `UK6dotkott2kjsp8vw4d0m25fb7` (`email`)
+UNIQUE KEY `UK6dotkott2kjsp8vw4d0m25fb7` (`email`),
+UNIQUE KEY `uk_users_nickname` (`nickname`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 CREATE TABLE `posts` (
@@ -25,8 +30,10 @@ CREATE TABLE `posts` (
 `title` varchar(26) NOT NULL,
 `image_url` varchar(255) DEFAULT NULL,
 `body` longtext NOT NULL,
+`deleted_at` datetime(6) DEFAULT NULL,
 PRIMARY KEY (`post_id`),
 KEY `FK5lidm6cqbc7u4xhqpxm898qme` (`user_id`),
+KEY `idx_posts_deleted_at` (`deleted_at`),
 CONSTRAINT `FK5lidm6cqbc7u4xhqpxm898qme` FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
@@ -65,9 +72,35 @@ CREATE TABLE `post_view_events` (
                                     `created_at` datetime NOT NULL,
                                     `status` enum('PENDING','DONE') NOT NULL DEFAULT 'PENDING',
                                     PRIMARY KEY (`post_view_event_id`),
-                                    KEY `idx_pending` (`status`,`post_view_event_id`)
+                                    KEY `idx_pending` (`status`,`post_view_event_id`),
+                                    KEY `idx_post_view_events_post_id` (`post_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
+CREATE TABLE `post_view_sketches` (
+                                      `post_id` bigint NOT NULL,
+                                      `registers` varbinary(2048) NOT NULL,
+                                      `updated_at` datetime(6) NOT NULL,
+                                      PRIMARY KEY (`post_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
+CREATE TABLE `post_view_buckets` (
+                                     `post_id` bigint NOT NULL,
+                                     `granularity` varchar(10) NOT NULL,
+                                     `bucket_start` datetime(6) NOT NULL,
+                                     `views` bigint NOT NULL,
+                                     PRIMARY KEY (`post_id`, `granularity`, `bucket_start`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
-
+CREATE TABLE `user_deletion_jobs` (
+`user_deletion_job_id` bigint NOT NULL AUTO_INCREMENT,
+`user_id` bigint NOT NULL,
+`status` enum('PENDING','DONE') NOT NULL DEFAULT 'PENDING',
+`deleted_posts` bigint NOT NULL DEFAULT 0,
+`deleted_comments` bigint NOT NULL DEFAULT 0,
+`deleted_likes` bigint NOT NULL DEFAULT 0,
+`created_at` datetime(6) DEFAULT NULL,
+`updated_at` datetime(6) DEFAULT NULL,
+PRIMARY KEY (`user_deletion_job_id`),
+UNIQUE KEY `uk_user_deletion_jobs_user_id` (`user_id`),
+KEY `idx_user_deletion_jobs_status` (`status`,`user_deletion_job_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;